@@ -7,13 +7,14 @@ stmt
   : vardecl
   | assign
   | fndecl
-  | expr ';'
+  | expr_stmt
   | block
   | while
   | cond
   | return
   ;
 
+expr_stmt : expr ';' ;
 vardecl : type ID ('=' expr)? ';' ;
 assign  : ID '=' expr ';' ;
 
@@ -29,23 +30,36 @@ while   : 'while' '(' expr ')' block ;
 cond    : 'if' '(' expr ')' block ('else' block)? ;
 
 expr
-  : fncall
-  | expr ('*' | '/') expr
-  | expr ('+' | '-') expr
-  | expr ('>' | '<') expr
-  | expr ('==' | '!=') expr
-  | ID
-  | NUMBER
-  | STRING
-  | 'T'
-  | 'F'
-  | '(' expr ')'
+  : fncall                        # call
+  | expr op=('*' | '/') expr      # binary
+  | expr op=('+' | '-') expr      # binary
+  | expr op=('>' | '<') expr      # binary
+  | expr op=('==' | '!=') expr    # binary
+  | ID                            # variable
+  | NUMBER                        # number
+  | STRING                        # string
+  | 'T'                           # boolLit
+  | 'F'                           # boolLit
+  | '(' expr ')'                  # paren
   ;
 
 type : 'int' | 'string' | 'bool' ;
 
 
 // Lexer
+// Operatoren/Literale als benannte Tokens, damit der ASTBuilder über den Token-Typ
+// statt über getText() unterscheiden kann (müssen vor ID stehen)
+MUL     : '*' ;
+DIV     : '/' ;
+PLUS    : '+' ;
+MINUS   : '-' ;
+GT      : '>' ;
+LT      : '<' ;
+EQ      : '==' ;
+NEQ     : '!=' ;
+TRUE    : 'T' ;
+FALSE   : 'F' ;
+
 ID      : [a-zA-Z] [a-zA-Z0-9]* ;
 NUMBER  : [0-9]+ ;
 STRING  : '"' (~[\n\r"])* '"' ;
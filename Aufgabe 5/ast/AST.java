@@ -1,10 +1,16 @@
 package Aufgabe;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
  * AST Klassen: Stmt, Expr, Hilfs-Typen.
  * Einfach gehalten: nur Felder + Konstruktoren + toString / prettyPrint.
+ * Bezeichner werden beim Konstruieren interniert (Names): name ist der kanonische
+ * String, id die dichte int-ID, mit der die Symboltabelle arbeitet.
+ * Jeder Knoten bekommt beim Konstruieren eine dichte nodeId (siehe beginUnit()).
+ * Quellbereich pro Knoten als ein gepacktes long (span), Zeile/Spalte erst über LineMap.
  */
 
 public class AST {
@@ -14,7 +20,64 @@ public class AST {
     public enum Operator { EQ, NEQ, PLUS, MINUS, MUL, DIV, LT, GT }
 
     /* === Basis-Klassen === */
-    public static abstract class ASTNode {}
+
+    // Knoten-IDs: pro Thread fortlaufend, beginUnit() setzt für eine neue Übersetzungseinheit zurück
+    private static final ThreadLocal<int[]> NEXT_NODE_ID = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * nodeId ist dicht (0, 1, 2, ...) und innerhalb einer Übersetzungseinheit eindeutig;
+     * semantische Ergebnisse liegen in Arrays, die über nodeId indiziert werden.
+     */
+    public static abstract class ASTNode {
+        public final int nodeId = NEXT_NODE_ID.get()[0]++;
+        long span = NO_SPAN;    // setzt der Parser/Builder direkt nach dem Konstruieren (at)
+
+        /** Quellbereich (Zeichen-Offsets, siehe span()), NO_SPAN = unbekannt (z.B. von Hand gebaut) */
+        public long span() { return span; }
+    }
+
+    /* === Quellbereiche === */
+
+    /** Start-Offset in den oberen, End-Offset (exklusiv) in den unteren 32 Bit */
+    public static final long NO_SPAN = -1L;
+
+    public static long span(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+
+    public static int spanStart(long span) { return (int) (span >>> 32); }
+
+    public static int spanEnd(long span) { return (int) span; }
+
+    /** span um delta Zeichen verschoben (NO_SPAN bleibt) */
+    public static long shift(long span, int delta) {
+        return span == NO_SPAN ? NO_SPAN : span(spanStart(span) + delta, spanEnd(span) + delta);
+    }
+
+    static <T extends ASTNode> T at(T node, int start, int end) {
+        node.span = span(start, end);
+        return node;
+    }
+
+    static <T extends ASTNode> T at(T node, long span) {
+        node.span = span;
+        return node;
+    }
+
+    /** Neue Übersetzungseinheit auf diesem Thread: Knoten-IDs beginnen wieder bei 0. */
+    public static void beginUnit() { NEXT_NODE_ID.get()[0] = 0; }
+
+    /** Anzahl der seit beginUnit() auf diesem Thread erzeugten Knoten (= größte ID + 1) */
+    public static int nodeCount() { return NEXT_NODE_ID.get()[0]; }
+
+    // Zähler dieses Threads setzen, liefert den alten Stand (HandParser: verzögert geparste
+    // Funktionsrümpfe bekommen IDs aus ihrer eigenen Übersetzungseinheit)
+    static int resetNodeCount(int next) {
+        int[] c = NEXT_NODE_ID.get();
+        int old = c[0];
+        c[0] = next;
+        return old;
+    }
 
     // Statements
     public static abstract class Stmt extends ASTNode {}
@@ -26,7 +89,8 @@ public class AST {
     public static class Param {
         public final PrimType type;
         public final String name;
-        public Param(PrimType t, String n) { this.type = t; this.name = n; }
+        public final int id;      // Names-ID von name
+        public Param(PrimType t, String n) { this.type = t; this.id = Names.intern(n); this.name = Names.name(id); }
         public String toString() { return type + " " + name; }
     }
 
@@ -34,22 +98,25 @@ public class AST {
     public static class VarDecl extends Stmt {
         public final PrimType type;
         public final String name;
+        public final int id;
         public final Expr initializer; // may be null
-        public VarDecl(PrimType t, String n, Expr init) { type=t; name=n; initializer=init; }
+        public VarDecl(PrimType t, String n, Expr init) { type=t; id=Names.intern(n); name=Names.name(id); initializer=init; }
     }
 
     public static class Assign extends Stmt {
         public final String name;
+        public final int id;
         public final Expr value;
-        public Assign(String n, Expr v) { name=n; value=v; }
+        public Assign(String n, Expr v) { id=Names.intern(n); name=Names.name(id); value=v; }
     }
 
     public static class FnDecl extends Stmt {
         public final PrimType returnType;
         public final String name;
+        public final int id;
         public final List<Param> params;
         public final Block body;
-        public FnDecl(PrimType rt, String n, List<Param> p, Block b) { returnType=rt; name=n; params=p; body=b; }
+        public FnDecl(PrimType rt, String n, List<Param> p, Block b) { returnType=rt; id=Names.intern(n); name=Names.name(id); params=p; body=b; }
     }
 
     public static class ReturnStmt extends Stmt {
@@ -98,7 +165,8 @@ public class AST {
 
     public static class Variable extends Expr {
         public final String name;
-        public Variable(String n) { name=n; }
+        public final int id;
+        public Variable(String n) { id=Names.intern(n); name=Names.name(id); }
     }
 
     public static class Binary extends Expr {
@@ -110,81 +178,124 @@ public class AST {
 
     public static class Call extends Expr {
         public final String name;
+        public final int id;
         public final List<Expr> args;
-        public Call(String n, List<Expr> a) { name=n; args=a; }
+        public Call(String n, List<Expr> a) { id=Names.intern(n); name=Names.name(id); args=a; }
     }
 
     /* === Hilfs-Funktionen: Pretty Print === */
     public static void printProgram(List<Stmt> program) {
-        for (Stmt s : program) {
-            prettyPrint(s, 0);
+        printProgram(program, System.out);
+        System.out.flush();
+    }
+
+    /** Liefert die Ausgabe von printProgram als String (z.B. zum Vergleichen von ASTs). */
+    public static String format(List<Stmt> program) {
+        StringBuilder out = new StringBuilder();
+        printProgram(program, out);
+        return out.toString();
+    }
+
+    public static void printProgram(List<Stmt> program, Appendable out) {
+        try {
+            for (Stmt s : program) {
+                prettyPrint(s, 0, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private static void prettyPrint(ASTNode node, int indent) {
-        String pad = "  ".repeat(indent);
-        if (node instanceof VarDecl) {
-            VarDecl v = (VarDecl) node;
-            System.out.print(pad + "VarDecl " + v.type + " " + v.name);
-            if (v.initializer != null) {
-                System.out.println(" =");
-                prettyPrint(v.initializer, indent+1);
-            } else System.out.println();
-        } else if (node instanceof Assign) {
-            Assign a = (Assign) node;
-            System.out.println(pad + "Assign " + a.name + " =");
-            prettyPrint(a.value, indent+1);
-        } else if (node instanceof FnDecl) {
-            FnDecl f = (FnDecl) node;
-            System.out.println(pad + "FnDecl " + f.returnType + " " + f.name + "(" + String.join(", ",
-                    f.params.stream().map(Object::toString).toArray(String[]::new)) + ")");
-            prettyPrint(f.body, indent+1);
-        } else if (node instanceof ReturnStmt) {
-            ReturnStmt r = (ReturnStmt) node;
-            System.out.println(pad + "Return");
-            prettyPrint(r.value, indent+1);
-        } else if (node instanceof ExprStmt) {
-            ExprStmt es = (ExprStmt) node;
-            System.out.println(pad + "ExprStmt");
-            prettyPrint(es.expr, indent+1);
-        } else if (node instanceof Block) {
-            Block b = (Block) node;
-            System.out.println(pad + "Block {");
-            for (Stmt s : b.statements) prettyPrint(s, indent+1);
-            System.out.println(pad + "}");
-        } else if (node instanceof WhileStmt) {
-            WhileStmt w = (WhileStmt) node;
-            System.out.println(pad + "While");
-            prettyPrint(w.condition, indent+1);
-            prettyPrint(w.body, indent+1);
-        } else if (node instanceof IfStmt) {
-            IfStmt i = (IfStmt) node;
-            System.out.println(pad + "If");
-            prettyPrint(i.condition, indent+1);
-            System.out.println(pad + "Then:");
-            prettyPrint(i.thenBranch, indent+1);
-            System.out.println(pad + "Else:");
-            prettyPrint(i.elseBranch, indent+1);
-        } else if (node instanceof IntLiteral) {
-            System.out.println(pad + "IntLiteral " + ((IntLiteral) node).value);
-        } else if (node instanceof StringLiteral) {
-            System.out.println(pad + "StringLiteral \"" + ((StringLiteral) node).value + "\"");
-        } else if (node instanceof BoolLiteral) {
-            System.out.println(pad + "BoolLiteral " + ((BoolLiteral) node).value);
-        } else if (node instanceof Variable) {
-            System.out.println(pad + "Variable " + ((Variable) node).name);
-        } else if (node instanceof Binary) {
-            Binary b = (Binary) node;
-            System.out.println(pad + "Binary " + b.op);
-            prettyPrint(b.left, indent+1);
-            prettyPrint(b.right, indent+1);
-        } else if (node instanceof Call) {
-            Call c = (Call) node;
-            System.out.println(pad + "Call " + c.name + "(");
-            for (Expr e : c.args) prettyPrint(e, indent+1);
-            System.out.println(pad + ")");
-        } else {
-            System.out.println(pad + "Unknown node: " + node);
+    /* Arbeitsstack-Eintrag: Knoten (node != null) oder fertige Textzeile */
+    private static final class PrintItem {
+        final ASTNode node; final int indent; final String text;
+        PrintItem(ASTNode n, int i, String t) { node=n; indent=i; text=t; }
+    }
+
+    private static String spaces = "";
+
+    private static void pad(Appendable out, int indent) throws IOException {
+        String sp = spaces;
+        if (sp.length() < 2 * indent) spaces = sp = " ".repeat(Math.max(2 * indent, 2 * sp.length()));
+        out.append(sp, 0, 2 * indent);
+    }
+
+    // iterativ (expliziter Stack), damit auch sehr tiefe Binary-Ketten ausgegeben werden können
+    private static void prettyPrint(ASTNode root, int rootIndent, Appendable out) throws IOException {
+        Deque<PrintItem> work = new ArrayDeque<>();
+        work.push(new PrintItem(root, rootIndent, null));
+        while (!work.isEmpty()) {
+            PrintItem item = work.pop();
+            int indent = item.indent;
+            pad(out, indent);
+            if (item.node == null) {
+                out.append(item.text).append('\n');
+                continue;
+            }
+            ASTNode node = item.node;
+            if (node instanceof VarDecl) {
+                VarDecl v = (VarDecl) node;
+                out.append("VarDecl " + v.type + " " + v.name);
+                if (v.initializer != null) {
+                    out.append(" =").append('\n');
+                    work.push(new PrintItem(v.initializer, indent+1, null));
+                } else out.append('\n');
+            } else if (node instanceof Assign) {
+                Assign a = (Assign) node;
+                out.append("Assign " + a.name + " =").append('\n');
+                work.push(new PrintItem(a.value, indent+1, null));
+            } else if (node instanceof FnDecl) {
+                FnDecl f = (FnDecl) node;
+                out.append("FnDecl " + f.returnType + " " + f.name + "(" + String.join(", ",
+                        f.params.stream().map(Object::toString).toArray(String[]::new)) + ")").append('\n');
+                work.push(new PrintItem(f.body, indent+1, null));
+            } else if (node instanceof ReturnStmt) {
+                ReturnStmt r = (ReturnStmt) node;
+                out.append("Return").append('\n');
+                work.push(new PrintItem(r.value, indent+1, null));
+            } else if (node instanceof ExprStmt) {
+                ExprStmt es = (ExprStmt) node;
+                out.append("ExprStmt").append('\n');
+                work.push(new PrintItem(es.expr, indent+1, null));
+            } else if (node instanceof Block) {
+                Block b = (Block) node;
+                out.append("Block {").append('\n');
+                work.push(new PrintItem(null, indent, "}"));
+                for (int k = b.statements.size() - 1; k >= 0; k--) work.push(new PrintItem(b.statements.get(k), indent+1, null));
+            } else if (node instanceof WhileStmt) {
+                WhileStmt w = (WhileStmt) node;
+                out.append("While").append('\n');
+                work.push(new PrintItem(w.body, indent+1, null));
+                work.push(new PrintItem(w.condition, indent+1, null));
+            } else if (node instanceof IfStmt) {
+                IfStmt i = (IfStmt) node;
+                out.append("If").append('\n');
+                work.push(new PrintItem(i.elseBranch, indent+1, null));
+                work.push(new PrintItem(null, indent, "Else:"));
+                work.push(new PrintItem(i.thenBranch, indent+1, null));
+                work.push(new PrintItem(null, indent, "Then:"));
+                work.push(new PrintItem(i.condition, indent+1, null));
+            } else if (node instanceof IntLiteral) {
+                out.append("IntLiteral " + ((IntLiteral) node).value).append('\n');
+            } else if (node instanceof StringLiteral) {
+                out.append("StringLiteral \"" + ((StringLiteral) node).value + "\"").append('\n');
+            } else if (node instanceof BoolLiteral) {
+                out.append("BoolLiteral " + ((BoolLiteral) node).value).append('\n');
+            } else if (node instanceof Variable) {
+                out.append("Variable " + ((Variable) node).name).append('\n');
+            } else if (node instanceof Binary) {
+                Binary b = (Binary) node;
+                out.append("Binary " + b.op).append('\n');
+                work.push(new PrintItem(b.right, indent+1, null));
+                work.push(new PrintItem(b.left, indent+1, null));
+            } else if (node instanceof Call) {
+                Call c = (Call) node;
+                out.append("Call " + c.name + "(").append('\n');
+                work.push(new PrintItem(null, indent, ")"));
+                for (int k = c.args.size() - 1; k >= 0; k--) work.push(new PrintItem(c.args.get(k), indent+1, null));
+            } else {
+                out.append("Unknown node: " + node).append('\n');
+            }
         }
     }
 }
@@ -8,6 +8,7 @@ import parser.*; // Annahme: Dein ANTLR-Package heißt 'parser' (MiniCLexer/Pars
 /**
  * ASTBuilder: Ein Visitor, der den ANTLR-ParseTree in unsere AST-Klassen umwandelt.
  * Erweitert die automatisch erzeugte MiniCBaseVisitor<ASTNode>.
+ * Jeder Knoten bekommt den Quellbereich seines Kontexts (ctx.start bis ctx.stop).
  */
 public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
 
@@ -22,6 +23,13 @@ public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
         };
     }
 
+    /* Helper: Quellbereich eines Kontexts. ANTLR zählt Offsets in Codepoints, der
+       HandParser in chars -- gleich, solange keine Zeichen außerhalb der BMP vorkommen. */
+    static <T extends AST.ASTNode> T at(T node, ParserRuleContext ctx) {
+        Token stop = ctx.getStop() != null ? ctx.getStop() : ctx.getStart();
+        return AST.at(node, ctx.getStart().getStartIndex(), stop.getStopIndex() + 1);
+    }
+
     /* program : stmt+ EOF ; -> we will call visit on each stmt from Main */
     // stmt rules:
     @Override
@@ -32,14 +40,14 @@ public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
         if (ctx.expr() != null) {
             init = (AST.Expr) visit(ctx.expr());
         }
-        return new AST.VarDecl(t, id, init);
+        return at(new AST.VarDecl(t, id, init), ctx);
     }
 
     @Override
     public AST.ASTNode visitAssign(MiniCParser.AssignContext ctx) {
         String id = ctx.ID().getText();
         AST.Expr value = (AST.Expr) visit(ctx.expr());
-        return new AST.Assign(id, value);
+        return at(new AST.Assign(id, value), ctx);
     }
 
     @Override
@@ -55,19 +63,19 @@ public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
             }
         }
         AST.Block body = (AST.Block) visit(ctx.block());
-        return new AST.FnDecl(rt, name, params, body);
+        return at(new AST.FnDecl(rt, name, params, body), ctx);
     }
 
     @Override
     public AST.ASTNode visitReturn(MiniCParser.ReturnContext ctx) {
         AST.Expr e = (AST.Expr) visit(ctx.expr());
-        return new AST.ReturnStmt(e);
+        return at(new AST.ReturnStmt(e), ctx);
     }
 
     @Override
     public AST.ASTNode visitExpr_stmt(MiniCParser.Expr_stmtContext ctx) {
         AST.Expr e = (AST.Expr) visit(ctx.expr());
-        return new AST.ExprStmt(e);
+        return at(new AST.ExprStmt(e), ctx);
     }
 
     @Override
@@ -78,14 +86,14 @@ public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
             if (node instanceof AST.Stmt) stmts.add((AST.Stmt) node);
             else throw new RuntimeException("Block contains non-stmt: " + node);
         }
-        return new AST.Block(stmts);
+        return at(new AST.Block(stmts), ctx);
     }
 
     @Override
     public AST.ASTNode visitWhile(MiniCParser.WhileContext ctx) {
         AST.Expr cond = (AST.Expr) visit(ctx.expr());
         AST.Block body = (AST.Block) visit(ctx.block());
-        return new AST.WhileStmt(cond, body);
+        return at(new AST.WhileStmt(cond, body), ctx);
     }
 
     @Override
@@ -93,7 +101,7 @@ public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
         AST.Expr cond = (AST.Expr) visit(ctx.expr());
         AST.Block thenB = (AST.Block) visit(ctx.block(0));
         AST.Block elseB = (ctx.block().size() > 1) ? (AST.Block) visit(ctx.block(1)) : new AST.Block(Collections.emptyList());
-        return new AST.IfStmt(cond, thenB, elseB);
+        return at(new AST.IfStmt(cond, thenB, elseB), ctx);
     }
 
     /* fncall & args */
@@ -106,71 +114,97 @@ public class ASTBuilder extends MiniCBaseVisitor<AST.ASTNode> {
                 args.add((AST.Expr) visit(ectx));
             }
         }
-        return new AST.Call(name, args);
+        return at(new AST.Call(name, args), ctx);
     }
 
-    /* expr:
-       - fncall
-       - expr ('*'|'/') expr
-       - expr ('+'|'-') expr
-       - expr ('>'|'<') expr
-       - expr ('=='|'!=') expr
-       - ID | NUMBER | STRING | 'T' | 'F' | '(' expr ')'
+    /* expr (labeled alternatives, siehe MiniC.g4):
+       - #call    fncall
+       - #binary  expr op expr   (op: * / + - > < == !=)
+       - #variable ID | #number NUMBER | #string STRING | #boolLit 'T'/'F' | #paren '(' expr ')'
+       Unterscheidung über Token-Typen statt ctx.getText(), damit jeder Knoten O(1) kostet.
      */
     @Override
-    public AST.ASTNode visitExpr(MiniCParser.ExprContext ctx) {
-        // if it's a function call alternative, ANTLR nests appropriately; test presence:
-        if (ctx.fncall() != null) {
-            return visit(ctx.fncall());
-        }
-        // literal booleans 'T' / 'F' are terminals
-        if (ctx.getText().equals("T")) return new AST.BoolLiteral(true);
-        if (ctx.getText().equals("F")) return new AST.BoolLiteral(false);
-
-        // NUMBER
-        if (ctx.NUMBER() != null) {
-            int v = Integer.parseInt(ctx.NUMBER().getText());
-            return new AST.IntLiteral(v);
-        }
+    public AST.ASTNode visitCall(MiniCParser.CallContext ctx) {
+        return visit(ctx.fncall());
+    }
 
-        // STRING
-        if (ctx.STRING() != null) {
-            String raw = ctx.STRING().getText();
-            // remove surrounding quotes (simple)
-            String unquoted = raw.substring(1, raw.length()-1);
-            return new AST.StringLiteral(unquoted);
-        }
+    @Override
+    public AST.ASTNode visitBinary(MiniCParser.BinaryContext ctx) {
+        return buildExpr(ctx);
+    }
 
-        // ID (variable)
-        if (ctx.ID() != null && ctx.getChildCount() == 1) {
-            return new AST.Variable(ctx.ID().getText());
+    /*
+     * Binary- und Klammer-Ketten iterativ (expliziter Stack statt Rekursion),
+     * damit auch 50k-Term-Ausdrücke in beide Richtungen (links-/rechtstief) nicht
+     * den Java-Stack sprengen. Auf dem Arbeitsstack liegen ExprContexts (noch zu bauen)
+     * und Combine-Einträge (beide Operanden fertig -> Binary zusammensetzen).
+     */
+    private record Combine(MiniCParser.BinaryContext ctx) {}
+
+    private AST.Expr buildExpr(MiniCParser.ExprContext root) {
+        Deque<Object> work = new ArrayDeque<>();
+        ArrayList<AST.Expr> values = new ArrayList<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            Object item = work.pop();
+            if (item instanceof Combine c) {
+                AST.Expr right = values.remove(values.size() - 1);
+                AST.Expr left = values.remove(values.size() - 1);
+                values.add(at(new AST.Binary(left, toOperator(c.ctx().op), right), c.ctx()));
+            } else if (item instanceof MiniCParser.BinaryContext b) {
+                work.push(new Combine(b));
+                work.push(b.expr(1));
+                work.push(b.expr(0));
+            } else if (item instanceof MiniCParser.ParenContext p) {
+                work.push(p.expr());
+            } else {
+                values.add((AST.Expr) visit((MiniCParser.ExprContext) item));
+            }
         }
+        return values.get(0);
+    }
 
-        // parentheses: '(' expr ')'
-        if (ctx.getChildCount() == 3 && "(".equals(ctx.getChild(0).getText()) && ctx.expr().size() == 1) {
-            return visit(ctx.expr(0));
-        }
+    private AST.Operator toOperator(Token op) {
+        return switch (op.getType()) {
+            case MiniCParser.MUL -> AST.Operator.MUL;
+            case MiniCParser.DIV -> AST.Operator.DIV;
+            case MiniCParser.PLUS -> AST.Operator.PLUS;
+            case MiniCParser.MINUS -> AST.Operator.MINUS;
+            case MiniCParser.GT -> AST.Operator.GT;
+            case MiniCParser.LT -> AST.Operator.LT;
+            case MiniCParser.EQ -> AST.Operator.EQ;
+            case MiniCParser.NEQ -> AST.Operator.NEQ;
+            default -> throw new RuntimeException("Unknown operator: " + op.getText());
+        };
+    }
 
-        // binary operators: there will be two expr children for binary alternatives
-        if (ctx.expr().size() == 2) {
-            AST.Expr left = (AST.Expr) visit(ctx.expr(0));
-            AST.Expr right = (AST.Expr) visit(ctx.expr(1));
-            String op = ctx.getChild(1).getText();
-            AST.Operator operator = switch (op) {
-                case "*" -> AST.Operator.MUL;
-                case "/" -> AST.Operator.DIV;
-                case "+" -> AST.Operator.PLUS;
-                case "-" -> AST.Operator.MINUS;
-                case ">" -> AST.Operator.GT;
-                case "<" -> AST.Operator.LT;
-                case "==" -> AST.Operator.EQ;
-                case "!=" -> AST.Operator.NEQ;
-                default -> throw new RuntimeException("Unknown operator: " + op);
-            };
-            return new AST.Binary(left, operator, right);
-        }
+    @Override
+    public AST.ASTNode visitVariable(MiniCParser.VariableContext ctx) {
+        return at(new AST.Variable(ctx.ID().getText()), ctx);
+    }
 
-        throw new RuntimeException("Unhandled expr form: " + ctx.getText());
+    @Override
+    public AST.ASTNode visitNumber(MiniCParser.NumberContext ctx) {
+        int v = Integer.parseInt(ctx.NUMBER().getText());
+        return at(new AST.IntLiteral(v), ctx);
+    }
+
+    @Override
+    public AST.ASTNode visitString(MiniCParser.StringContext ctx) {
+        String raw = ctx.STRING().getText();
+        // remove surrounding quotes (simple)
+        String unquoted = raw.substring(1, raw.length()-1);
+        return at(new AST.StringLiteral(unquoted), ctx);
+    }
+
+    @Override
+    public AST.ASTNode visitBoolLit(MiniCParser.BoolLitContext ctx) {
+        return at(new AST.BoolLiteral(ctx.getStart().getType() == MiniCParser.TRUE), ctx);
+    }
+
+    @Override
+    public AST.ASTNode visitParen(MiniCParser.ParenContext ctx) {
+        return buildExpr(ctx);
     }
 
     /* Default: forward to children */
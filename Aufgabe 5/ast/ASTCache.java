@@ -0,0 +1,93 @@
+package Aufgabe;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ASTCache: AST-Cache auf der Platte, Schlüssel ist der SHA-256 des Quelltexts.
+ *
+ * Bei einem Treffer wird die Cache-Datei per mmap eingelesen und mit dem ASTCodec
+ * dekodiert; Lexer, Parser und AST-Aufbau entfallen komplett. Gespeichert werden nur
+ * fehlerfreie Parses, damit Syntaxfehler beim nächsten Lauf wieder gemeldet werden.
+ * Dateien werden über eine temporäre Datei + atomares move geschrieben, mehrere
+ * Prozesse/Threads können denselben Cache benutzen.
+ */
+public class ASTCache {
+    private final Path dir;
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+
+    public ASTCache(Path dir) throws IOException {
+        this.dir = Files.createDirectories(dir);
+    }
+
+    /** Cache-Treffer oder Parsen über das Frontend (DirectASTBuilder) und Ablegen im Cache. */
+    public List<AST.Stmt> parse(String source, MiniCFrontend frontend) {
+        String key = key(source);
+        List<AST.Stmt> program = load(key);
+        if (program != null) {
+            hits.increment();
+            return program;
+        }
+        misses.increment();
+        program = frontend.parseDirect(source);
+        if (!frontend.hadErrors()) store(key, program);
+        return program;
+    }
+
+    /** null, wenn nicht im Cache (oder Datei unlesbar/veraltet) */
+    public List<AST.Stmt> load(String key) {
+        Path file = dir.resolve(key + ".ast");
+        if (!Files.isRegularFile(file)) return null;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return ASTCodec.decode(buf);
+        } catch (IOException | RuntimeException e) {
+            // kaputt oder altes Format -> wie ein Fehlschlag behandeln, wird neu geschrieben
+            return null;
+        }
+    }
+
+    public void store(String key, List<AST.Stmt> program) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(dir, key, ".tmp");
+            Files.write(tmp, ASTCodec.encode(program));
+            Files.move(tmp, dir.resolve(key + ".ast"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            tmp = null;
+        } catch (IOException e) {
+            // Cache ist nur eine Beschleunigung; Schreibfehler nicht nach oben reichen
+            System.err.println("[CACHE] cannot write " + key + ": " + e.getMessage());
+        } finally {
+            // sonst bliebe bei jedem weiteren Fehlschlag eine .tmp-Datei liegen
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    System.err.println("[CACHE] cannot remove " + tmp + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** SHA-256 (hex) über die UTF-8-Bytes des Quelltexts, Formatversion eingemischt */
+    public static String key(String source) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update((byte) ASTCodec.VERSION);
+            return HexFormat.of().formatHex(md.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long getHits() { return hits.sum(); }
+
+    public long getMisses() { return misses.sum(); }
+}
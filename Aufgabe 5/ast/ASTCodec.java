@@ -0,0 +1,283 @@
+package Aufgabe;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * ASTCodec: kompaktes Binärformat für AST.Stmt-Listen (keine Java-Serialisierung).
+ *
+ * Aufbau:  MAGIC VERSION | Stringtabelle | Knoten
+ *  - alle Zahlen als Varint (7 Bit pro Byte), IntLiteral zusätzlich ZigZag-kodiert
+ *  - Stringtabelle: Anzahl, dann je Länge + UTF-8-Bytes; Namen/Literale verweisen per Index
+ *  - Knoten in Postorder: erst die Kinder, dann Tag + eigene Felder + Quellbereich
+ *    (0 = keiner, sonst ZigZag-Differenz des Starts zum vorigen Knoten + 1, dann Länge). Der Decoder baut
+ *    mit einem Wertestack (wie der DirectASTBuilder), beide Richtungen ohne Rekursion;
+ *    am Ende liegen genau die Top-Level-Statements auf dem Stack.
+ */
+public final class ASTCodec {
+    private static final int MAGIC = 0x4D434153;   // "MCAS"
+    public static final int VERSION = 2;     // 2: Quellbereiche
+
+    // Knoten-Tags
+    private static final int VARDECL = 0, VARDECL_INIT = 1, ASSIGN = 2, FNDECL = 3, RETURN = 4, EXPR_STMT = 5,
+            BLOCK = 6, WHILE = 7, IF = 8, INT = 9, STRING = 10, TRUE = 11, FALSE = 12, VARIABLE = 13,
+            BINARY = 14, CALL = 15;
+
+    private static final AST.PrimType[] TYPES = AST.PrimType.values();
+    private static final AST.Operator[] OPS = AST.Operator.values();
+
+    private ASTCodec() {}
+
+    /* ------------------ Kodieren ------------------ */
+
+    public static byte[] encode(List<AST.Stmt> program) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Out body = new Out();
+        int prevStart = 0;
+        for (AST.ASTNode node : postorder(program)) {
+            writeNode(node, body, strings);
+            long span = node.span();
+            if (span == AST.NO_SPAN) {
+                body.varint(0);
+            } else {
+                int start = AST.spanStart(span), d = start - prevStart;
+                body.varint(((d << 1) ^ (d >> 31)) + 1);
+                body.varint(AST.spanEnd(span) - start);
+                prevStart = start;
+            }
+        }
+
+        Out out = new Out();
+        out.fixedInt(MAGIC);
+        out.varint(VERSION);
+        out.varint(strings.size());
+        for (String s : strings.keySet()) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            out.varint(b.length);
+            out.write(b, 0, b.length);
+        }
+        out.varint(program.size());
+        body.writeTo(out);
+        return out.toByteArray();
+    }
+
+    // Postorder ohne Rekursion: Preorder mit Kindern in Quellreihenfolge liefert
+    // "Knoten, rechts, links" -- rückwärts gelesen ist das "links, rechts, Knoten".
+    private static List<AST.ASTNode> postorder(List<AST.Stmt> program) {
+        List<AST.ASTNode> pre = new ArrayList<>();
+        Deque<AST.ASTNode> stack = new ArrayDeque<>(program);
+        while (!stack.isEmpty()) {
+            AST.ASTNode n = stack.pollLast();
+            pre.add(n);
+            for (AST.ASTNode c : children(n)) stack.addLast(c);
+        }
+        Collections.reverse(pre);
+        return pre;
+    }
+
+    private static List<? extends AST.ASTNode> children(AST.ASTNode n) {
+        if (n instanceof AST.VarDecl v) return v.initializer == null ? List.of() : List.of(v.initializer);
+        if (n instanceof AST.Assign a) return List.of(a.value);
+        if (n instanceof AST.FnDecl f) return List.of(f.body);
+        if (n instanceof AST.ReturnStmt r) return List.of(r.value);
+        if (n instanceof AST.ExprStmt e) return List.of(e.expr);
+        if (n instanceof AST.Block b) return b.statements;
+        if (n instanceof AST.WhileStmt w) return List.of(w.condition, w.body);
+        if (n instanceof AST.IfStmt i) return List.of(i.condition, i.thenBranch, i.elseBranch);
+        if (n instanceof AST.Binary b) return List.of(b.left, b.right);
+        if (n instanceof AST.Call c) return c.args;
+        return List.of();
+    }
+
+    private static void writeNode(AST.ASTNode n, Out out, Map<String, Integer> strings) {
+        if (n instanceof AST.VarDecl v) {
+            out.varint(v.initializer == null ? VARDECL : VARDECL_INIT);
+            out.varint(v.type.ordinal());
+            out.varint(intern(v.name, strings));
+        } else if (n instanceof AST.Assign a) {
+            out.varint(ASSIGN);
+            out.varint(intern(a.name, strings));
+        } else if (n instanceof AST.FnDecl f) {
+            out.varint(FNDECL);
+            out.varint(f.returnType.ordinal());
+            out.varint(intern(f.name, strings));
+            out.varint(f.params.size());
+            for (AST.Param p : f.params) {
+                out.varint(p.type.ordinal());
+                out.varint(intern(p.name, strings));
+            }
+        } else if (n instanceof AST.ReturnStmt) {
+            out.varint(RETURN);
+        } else if (n instanceof AST.ExprStmt) {
+            out.varint(EXPR_STMT);
+        } else if (n instanceof AST.Block b) {
+            out.varint(BLOCK);
+            out.varint(b.statements.size());
+        } else if (n instanceof AST.WhileStmt) {
+            out.varint(WHILE);
+        } else if (n instanceof AST.IfStmt) {
+            out.varint(IF);
+        } else if (n instanceof AST.IntLiteral i) {
+            out.varint(INT);
+            out.varint((i.value << 1) ^ (i.value >> 31));
+        } else if (n instanceof AST.StringLiteral s) {
+            out.varint(STRING);
+            out.varint(intern(s.value, strings));
+        } else if (n instanceof AST.BoolLiteral b) {
+            out.varint(b.value ? TRUE : FALSE);
+        } else if (n instanceof AST.Variable v) {
+            out.varint(VARIABLE);
+            out.varint(intern(v.name, strings));
+        } else if (n instanceof AST.Binary b) {
+            out.varint(BINARY);
+            out.varint(b.op.ordinal());
+        } else if (n instanceof AST.Call c) {
+            out.varint(CALL);
+            out.varint(intern(c.name, strings));
+            out.varint(c.args.size());
+        } else {
+            throw new IllegalArgumentException("Unknown node: " + n);
+        }
+    }
+
+    private static int intern(String s, Map<String, Integer> strings) {
+        Integer id = strings.get(s);
+        if (id == null) {
+            id = strings.size();
+            strings.put(s, id);
+        }
+        return id;
+    }
+
+    /* ------------------ Dekodieren ------------------ */
+
+    /** Liest ein Programm ab der aktuellen Position von buf (z.B. ein MappedByteBuffer). */
+    public static List<AST.Stmt> decode(ByteBuffer buf) {
+        if (buf.getInt() != MAGIC) throw new IllegalArgumentException("not a MiniC AST file");
+        int version = varint(buf);
+        if (version != VERSION) throw new IllegalArgumentException("unsupported AST format version " + version);
+
+        String[] strings = new String[varint(buf)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] b = new byte[varint(buf)];
+            buf.get(b);
+            strings[i] = new String(b, StandardCharsets.UTF_8);
+        }
+        int topLevel = varint(buf);
+
+        AST.beginUnit();
+        ArrayList<AST.ASTNode> stack = new ArrayList<>();
+        int prevStart = 0;
+        while (buf.hasRemaining()) {
+            int tag = varint(buf);
+            AST.ASTNode node = switch (tag) {
+                case VARDECL -> new AST.VarDecl(TYPES[varint(buf)], strings[varint(buf)], null);
+                case VARDECL_INIT -> new AST.VarDecl(TYPES[varint(buf)], strings[varint(buf)], (AST.Expr) pop(stack));
+                case ASSIGN -> new AST.Assign(strings[varint(buf)], (AST.Expr) pop(stack));
+                case FNDECL -> {
+                    AST.PrimType rt = TYPES[varint(buf)];
+                    String name = strings[varint(buf)];
+                    List<AST.Param> params = new ArrayList<>();
+                    for (int i = varint(buf); i > 0; i--) params.add(new AST.Param(TYPES[varint(buf)], strings[varint(buf)]));
+                    yield new AST.FnDecl(rt, name, params, (AST.Block) pop(stack));
+                }
+                case RETURN -> new AST.ReturnStmt((AST.Expr) pop(stack));
+                case EXPR_STMT -> new AST.ExprStmt((AST.Expr) pop(stack));
+                case BLOCK -> {
+                    List<AST.Stmt> stmts = new ArrayList<>();
+                    for (AST.ASTNode s : popN(stack, varint(buf))) stmts.add((AST.Stmt) s);
+                    yield new AST.Block(stmts);
+                }
+                case WHILE -> {
+                    AST.Block body = (AST.Block) pop(stack);
+                    yield new AST.WhileStmt((AST.Expr) pop(stack), body);
+                }
+                case IF -> {
+                    AST.Block elseB = (AST.Block) pop(stack);
+                    AST.Block thenB = (AST.Block) pop(stack);
+                    yield new AST.IfStmt((AST.Expr) pop(stack), thenB, elseB);
+                }
+                case INT -> {
+                    int z = varint(buf);
+                    yield new AST.IntLiteral((z >>> 1) ^ -(z & 1));
+                }
+                case STRING -> new AST.StringLiteral(strings[varint(buf)]);
+                case TRUE -> new AST.BoolLiteral(true);
+                case FALSE -> new AST.BoolLiteral(false);
+                case VARIABLE -> new AST.Variable(strings[varint(buf)]);
+                case BINARY -> {
+                    AST.Operator op = OPS[varint(buf)];
+                    AST.Expr right = (AST.Expr) pop(stack);
+                    yield new AST.Binary((AST.Expr) pop(stack), op, right);
+                }
+                case CALL -> {
+                    String name = strings[varint(buf)];
+                    List<AST.Expr> args = new ArrayList<>();
+                    for (AST.ASTNode a : popN(stack, varint(buf))) args.add((AST.Expr) a);
+                    yield new AST.Call(name, args);
+                }
+                default -> throw new IllegalArgumentException("bad node tag " + tag);
+            };
+            int z = varint(buf);
+            if (z != 0) {
+                z--;
+                prevStart += (z >>> 1) ^ -(z & 1);
+                AST.at(node, prevStart, prevStart + varint(buf));
+            }
+            stack.add(node);
+        }
+
+        if (stack.size() != topLevel) throw new IllegalArgumentException("corrupt AST file");
+        List<AST.Stmt> program = new ArrayList<>(topLevel);
+        for (AST.ASTNode n : stack) program.add((AST.Stmt) n);
+        return program;
+    }
+
+    private static AST.ASTNode pop(ArrayList<AST.ASTNode> stack) {
+        if (stack.isEmpty()) throw new IllegalArgumentException("corrupt AST file");
+        return stack.remove(stack.size() - 1);
+    }
+
+    // die obersten n Einträge in Reihenfolge
+    private static List<AST.ASTNode> popN(ArrayList<AST.ASTNode> stack, int n) {
+        if (n > stack.size()) throw new IllegalArgumentException("corrupt AST file");
+        List<AST.ASTNode> sub = stack.subList(stack.size() - n, stack.size());
+        List<AST.ASTNode> items = new ArrayList<>(sub);
+        sub.clear();
+        return items;
+    }
+
+    private static int varint(ByteBuffer buf) {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buf.get();
+            v |= (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+        throw new IllegalArgumentException("bad varint");
+    }
+
+    // ByteArrayOutputStream mit Varint-Schreiber
+    private static final class Out extends ByteArrayOutputStream {
+        void varint(int v) {
+            while ((v & ~0x7F) != 0) {
+                write((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            write(v);
+        }
+
+        void fixedInt(int v) {
+            write(v >>> 24);
+            write(v >>> 16);
+            write(v >>> 8);
+            write(v);
+        }
+
+        void writeTo(Out other) {
+            other.write(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package Aufgabe;
+
+import java.util.*;
+import org.antlr.v4.runtime.*;
+import parser.*; // passe ggf. an
+
+/**
+ * Vergleicht Speicher und Zeit: ParseTree + ASTBuilder gegen DirectASTBuilder.
+ * Gemessen wird der belegte Heap (nach GC) im Moment, in dem der AST fertig ist.
+ * Usage: java ast.DirectASTBench [functions]
+ */
+public class DirectASTBench {
+    public static void main(String[] args) {
+        int functions = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        String src = MiniCCorpus.generate(functions, 3);
+        MiniCFrontend frontend = new MiniCFrontend();
+        System.out.println("Korpus: " + functions + " Funktionen, " + src.length() / 1024 + " KiB");
+
+        for (int round = 0; round < 2; round++) {   // Runde 0 = Aufwärmen
+            release(frontend);
+            long base = usedAfterGc();
+            long t0 = System.nanoTime();
+            MiniCParser.ProgramContext tree = frontend.parseTree(CharStreams.fromString(src));
+            ASTBuilder builder = new ASTBuilder();
+            List<AST.Stmt> viaTree = new ArrayList<>();
+            for (MiniCParser.StmtContext sctx : tree.stmt()) viaTree.add((AST.Stmt) builder.visit(sctx));
+            long t1 = System.nanoTime();
+            long treePeak = usedAfterGc() - base;   // ParseTree + AST + Tokens
+            int treeSize = tree.stmt().size() + viaTree.size();
+            tree = null;
+            viaTree = null;
+
+            release(frontend);
+            base = usedAfterGc();
+            long t2 = System.nanoTime();
+            List<AST.Stmt> direct = frontend.parseDirect(src);
+            long t3 = System.nanoTime();
+            long directPeak = usedAfterGc() - base; // AST + Tokens
+            release(frontend);
+            long astOnly = usedAfterGc() - base;
+
+            if (round == 0) continue;
+            if (treeSize != 2 * direct.size()) throw new IllegalStateException("AST-Größe unterschiedlich");
+            System.out.printf("ParseTree + ASTBuilder: %7.1f MiB  %7.1f ms%n", treePeak / 1048576.0, (t1 - t0) / 1e6);
+            System.out.printf("DirectASTBuilder:       %7.1f MiB  %7.1f ms%n", directPeak / 1048576.0, (t3 - t2) / 1e6);
+            System.out.printf("(AST allein:            %7.1f MiB)%n", astOnly / 1048576.0);
+        }
+    }
+
+    // Frontend auf eine Mini-Eingabe setzen, damit es keine Tokens der letzten Datei mehr hält
+    private static void release(MiniCFrontend frontend) {
+        frontend.parseTree(CharStreams.fromString("int x;"));
+    }
+
+    private static long usedAfterGc() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
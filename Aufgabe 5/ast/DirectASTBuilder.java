@@ -0,0 +1,255 @@
+package Aufgabe;
+
+import java.util.*;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.*;
+import parser.*; // passe ggf. an
+
+/**
+ * DirectASTBuilder: baut den AST direkt während des Parsens (Parse-Listener),
+ * gedacht für parser.setBuildParseTree(false). Es entsteht kein ParseTree;
+ * jeder Regelkontext ist sofort nach seinem exit-Event wieder Müll.
+ *
+ * Arbeitet mit einem Wertestack: visitTerminal legt ID/NUMBER/STRING-Tokens ab,
+ * exit-Regeln nehmen ihre Kinder vom Stack und legen den neuen AST-Knoten ab.
+ * Regeln mit variabler Kinderzahl legen beim enter eine Marke ab.
+ * Quellbereiche wie im ASTBuilder (ctx.start/stop stehen auch ohne ParseTree beim exit fest;
+ * Ausnahme exitBinary, dort ist das Ende das zuletzt gelesene Token).
+ *
+ * Syntaxfehler: ein Top-Level-Statement mit Fehler wird verworfen. Ab dem Fehler (gemeldet
+ * über errorListener() oder ctx.exception beim Abbruch durch die BailErrorStrategy) bauen die
+ * exit-Regeln nichts mehr, am Ende des Statements wird der Stack auf den Stand davor gekürzt.
+ * Nach einer Fehlerbehandlung fehlen Kinder, auf dem Stack läge sonst Unpassendes.
+ */
+public class DirectASTBuilder extends MiniCBaseListener {
+    private static final Object MARK = new Object();
+
+    private final ArrayList<Object> stack = new ArrayList<>();
+    private Token last;     // zuletzt gelesenes Token
+
+    private int depth = 0;              // Schachtelung der stmt-Regel
+    private int stmtBase = 0;           // Stackgröße vor dem aktuellen Top-Level-Statement
+    private boolean skipping = false;   // Syntaxfehler im aktuellen Top-Level-Statement
+    private int dropped = 0;
+
+    private final ANTLRErrorListener errors = new BaseErrorListener() {
+        @Override
+        public void syntaxError(Recognizer<?, ?> r, Object sym, int line, int pos, String msg, RecognitionException e) {
+            if (depth > 0) skipping = true;
+        }
+    };
+
+    /** Vor einem neuen Parse-Versuch (z.B. LL-Fallback) aufrufen. */
+    public void reset() {
+        stack.clear();
+        last = null;
+        depth = 0;
+        stmtBase = 0;
+        skipping = false;
+        dropped = 0;
+    }
+
+    /** am Parser anmelden, sobald Fehler nicht mehr zum Abbruch führen (LL-Stufe, Streaming) */
+    public ANTLRErrorListener errorListener() { return errors; }
+
+    /** Anzahl wegen Syntaxfehlern verworfener Top-Level-Statements */
+    public int droppedStatements() { return dropped; }
+
+    /** Nach program(): die Top-Level-Statements in Quellreihenfolge. */
+    public List<AST.Stmt> result() {
+        List<AST.Stmt> program = new ArrayList<>(stack.size());
+        for (Object o : stack) {
+            if (o instanceof AST.Stmt) program.add((AST.Stmt) o);
+            else throw new RuntimeException("Top-level produced non-stmt: " + o);
+        }
+        stack.clear();
+        return program;
+    }
+
+    private void push(Object o) { stack.add(o); }
+
+    private Object pop() { return stack.remove(stack.size() - 1); }
+
+    /** alles bis zur letzten Marke (in Reihenfolge), Marke wird entfernt */
+    private List<Object> popToMark() {
+        int m = stack.size() - 1;
+        while (stack.get(m) != MARK) m--;
+        List<Object> items = new ArrayList<>(stack.subList(m + 1, stack.size()));
+        stack.subList(m, stack.size()).clear();
+        return items;
+    }
+
+    private static String text(Object token) { return ((Token) token).getText(); }
+
+    // nach einem Syntaxfehler im aktuellen Top-Level-Statement nichts mehr bauen
+    private boolean skip(ParserRuleContext ctx) {
+        if (ctx.exception != null) skipping = true;
+        return skipping;
+    }
+
+    @Override
+    public void enterStmt(MiniCParser.StmtContext ctx) {
+        if (depth++ == 0) stmtBase = stack.size();
+    }
+
+    @Override
+    public void exitStmt(MiniCParser.StmtContext ctx) {
+        if (ctx.exception != null) skipping = true;
+        if (--depth == 0 && skipping) {
+            stack.subList(stmtBase, stack.size()).clear();
+            skipping = false;
+            dropped++;
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        last = node.getSymbol();
+        int t = node.getSymbol().getType();
+        if (t == MiniCParser.ID || t == MiniCParser.NUMBER || t == MiniCParser.STRING) push(node.getSymbol());
+    }
+
+    /* ---------- Statements ---------- */
+
+    @Override public void enterVardecl(MiniCParser.VardeclContext ctx) { push(MARK); }
+
+    @Override
+    public void exitVardecl(MiniCParser.VardeclContext ctx) {
+        if (skip(ctx)) return;
+        List<Object> k = popToMark();   // type ID expr?
+        AST.Expr init = k.size() > 2 ? (AST.Expr) k.get(2) : null;
+        push(ASTBuilder.at(new AST.VarDecl((AST.PrimType) k.get(0), text(k.get(1)), init), ctx));
+    }
+
+    @Override
+    public void exitAssign(MiniCParser.AssignContext ctx) {
+        if (skip(ctx)) return;
+        AST.Expr value = (AST.Expr) pop();
+        push(ASTBuilder.at(new AST.Assign(text(pop()), value), ctx));
+    }
+
+    @Override public void enterFndecl(MiniCParser.FndeclContext ctx) { push(MARK); }
+
+    @Override
+    public void exitFndecl(MiniCParser.FndeclContext ctx) {
+        if (skip(ctx)) return;
+        List<Object> k = popToMark();   // type ID (type ID)* block
+        List<AST.Param> params = new ArrayList<>();
+        for (int i = 2; i + 1 < k.size(); i += 2) params.add(new AST.Param((AST.PrimType) k.get(i), text(k.get(i + 1))));
+        push(ASTBuilder.at(new AST.FnDecl((AST.PrimType) k.get(0), text(k.get(1)), params, (AST.Block) k.get(k.size() - 1)), ctx));
+    }
+
+    @Override
+    public void exitReturn(MiniCParser.ReturnContext ctx) {
+        if (skip(ctx)) return;
+        push(ASTBuilder.at(new AST.ReturnStmt((AST.Expr) pop()), ctx));
+    }
+
+    @Override
+    public void exitExpr_stmt(MiniCParser.Expr_stmtContext ctx) {
+        if (skip(ctx)) return;
+        push(ASTBuilder.at(new AST.ExprStmt((AST.Expr) pop()), ctx));
+    }
+
+    @Override public void enterBlock(MiniCParser.BlockContext ctx) { push(MARK); }
+
+    @Override
+    public void exitBlock(MiniCParser.BlockContext ctx) {
+        if (skip(ctx)) return;
+        List<AST.Stmt> stmts = new ArrayList<>();
+        for (Object o : popToMark()) stmts.add((AST.Stmt) o);
+        push(ASTBuilder.at(new AST.Block(stmts), ctx));
+    }
+
+    @Override
+    public void exitWhile(MiniCParser.WhileContext ctx) {
+        if (skip(ctx)) return;
+        AST.Block body = (AST.Block) pop();
+        push(ASTBuilder.at(new AST.WhileStmt((AST.Expr) pop(), body), ctx));
+    }
+
+    @Override public void enterCond(MiniCParser.CondContext ctx) { push(MARK); }
+
+    @Override
+    public void exitCond(MiniCParser.CondContext ctx) {
+        if (skip(ctx)) return;
+        List<Object> k = popToMark();   // expr block block?
+        AST.Block elseB = k.size() > 2 ? (AST.Block) k.get(2) : new AST.Block(Collections.emptyList());
+        push(ASTBuilder.at(new AST.IfStmt((AST.Expr) k.get(0), (AST.Block) k.get(1), elseB), ctx));
+    }
+
+    @Override
+    public void exitType(MiniCParser.TypeContext ctx) {
+        if (skip(ctx)) return;
+        String t = ctx.getStart().getText();
+        push(switch (t) {
+            case "int" -> AST.PrimType.INT;
+            case "string" -> AST.PrimType.STRING;
+            case "bool" -> AST.PrimType.BOOL;
+            default -> throw new RuntimeException("Unknown type: " + t);
+        });
+    }
+
+    /* ---------- Ausdrücke ---------- */
+
+    @Override public void enterFncall(MiniCParser.FncallContext ctx) { push(MARK); }
+
+    @Override
+    public void exitFncall(MiniCParser.FncallContext ctx) {
+        if (skip(ctx)) return;
+        List<Object> k = popToMark();   // ID expr*
+        List<AST.Expr> args = new ArrayList<>(k.size() - 1);
+        for (int i = 1; i < k.size(); i++) args.add((AST.Expr) k.get(i));
+        push(ASTBuilder.at(new AST.Call(text(k.get(0)), args), ctx));
+    }
+
+    @Override
+    public void exitBinary(MiniCParser.BinaryContext ctx) {
+        if (skip(ctx)) return;
+        AST.Expr right = (AST.Expr) pop();
+        AST.Expr left = (AST.Expr) pop();
+        // linksrekursive Regel: exit kommt, bevor ANTLR ctx.stop setzt
+        push(AST.at(new AST.Binary(left, toOperator(ctx.op), right), ctx.getStart().getStartIndex(), last.getStopIndex() + 1));
+    }
+
+    private static AST.Operator toOperator(Token op) {
+        return switch (op.getType()) {
+            case MiniCParser.MUL -> AST.Operator.MUL;
+            case MiniCParser.DIV -> AST.Operator.DIV;
+            case MiniCParser.PLUS -> AST.Operator.PLUS;
+            case MiniCParser.MINUS -> AST.Operator.MINUS;
+            case MiniCParser.GT -> AST.Operator.GT;
+            case MiniCParser.LT -> AST.Operator.LT;
+            case MiniCParser.EQ -> AST.Operator.EQ;
+            case MiniCParser.NEQ -> AST.Operator.NEQ;
+            default -> throw new RuntimeException("Unknown operator: " + op.getText());
+        };
+    }
+
+    @Override
+    public void exitVariable(MiniCParser.VariableContext ctx) {
+        if (skip(ctx)) return;
+        push(ASTBuilder.at(new AST.Variable(text(pop())), ctx));
+    }
+
+    @Override
+    public void exitNumber(MiniCParser.NumberContext ctx) {
+        if (skip(ctx)) return;
+        push(ASTBuilder.at(new AST.IntLiteral(Integer.parseInt(text(pop()))), ctx));
+    }
+
+    @Override
+    public void exitString(MiniCParser.StringContext ctx) {
+        if (skip(ctx)) return;
+        String raw = text(pop());
+        push(ASTBuilder.at(new AST.StringLiteral(raw.substring(1, raw.length()-1)), ctx));
+    }
+
+    @Override
+    public void exitBoolLit(MiniCParser.BoolLitContext ctx) {
+        if (skip(ctx)) return;
+        push(ASTBuilder.at(new AST.BoolLiteral(ctx.getStart().getType() == MiniCParser.TRUE), ctx));
+    }
+
+    // #call und #paren: Kind liegt schon fertig auf dem Stack
+}
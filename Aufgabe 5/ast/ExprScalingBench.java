@@ -0,0 +1,46 @@
+package Aufgabe;
+
+import org.antlr.v4.runtime.*;
+import parser.*; // passe ggf. an
+
+/**
+ * Benchmark: AST-Aufbau für lange Ausdrücke "int x = 1 + 2 + ... ;".
+ * Die Zeit pro Term sollte konstant bleiben (linearer Aufbau).
+ * Usage: java ast.ExprScalingBench [maxTerms]
+ */
+public class ExprScalingBench {
+    public static void main(String[] args) throws Exception {
+        int maxTerms = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        // ParseTree und Visitor sind rekursiv (Tiefe ~ Anzahl Terme) -> großer Thread-Stack
+        Thread t = new Thread(null, () -> run(maxTerms), "bench", 2L << 30);
+        t.start();
+        t.join();
+    }
+
+    private static void run(int maxTerms) {
+        MiniCFrontend frontend = new MiniCFrontend();
+        System.out.printf("%10s %12s %12s %12s%n", "terms", "parse ms", "ast ms", "ast ns/term");
+        for (int round = 0; round < 2; round++) {   // Runde 0 = Aufwärmen
+            for (int n = maxTerms / 8; n <= maxTerms; n *= 2) {
+                String src = source(n);
+                long t0 = System.nanoTime();
+                MiniCParser.ProgramContext tree = frontend.parseTree(CharStreams.fromString(src));
+                long t1 = System.nanoTime();
+                AST.ASTNode node = new ASTBuilder().visit(tree.stmt(0));
+                long t2 = System.nanoTime();
+                if (!(node instanceof AST.VarDecl)) throw new IllegalStateException("unexpected: " + node);
+                if (round == 1) {
+                    System.out.printf("%10d %12.1f %12.1f %12.1f%n", n,
+                            (t1 - t0) / 1e6, (t2 - t1) / 1e6, (double) (t2 - t1) / n);
+                }
+            }
+        }
+    }
+
+    private static String source(int terms) {
+        StringBuilder sb = new StringBuilder("int x = 0");
+        for (int i = 1; i < terms; i++) sb.append(" + ").append(i % 10);
+        return sb.append(";").toString();
+    }
+}
@@ -0,0 +1,47 @@
+package Aufgabe;
+
+import java.util.*;
+
+/**
+ * Benchmark: ANTLR-Pfad (MiniCLexer/MiniCParser + ASTBuilder) gegen HandParser, dazu
+ * HandParser.parseLazy: nur Signaturen/Globals (Rümpfe übersprungen) und mit allen Rümpfen
+ * nachträglich geparst.
+ * Usage: java ast.FrontendBench [functions] [rounds]
+ */
+public class FrontendBench {
+    public static void main(String[] args) {
+        int functions = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String src = MiniCCorpus.generate(functions, 1);
+        MiniCFrontend frontend = new MiniCFrontend();
+
+        System.out.println("Korpus: " + functions + " Funktionen, " + src.length() / 1024 + " KiB");
+        for (int warm = 0; warm < 2; warm++) {
+            long antlr = 0, hand = 0, lazy = 0, lazyAll = 0;
+            for (int r = 0; r < rounds; r++) {
+                long t0 = System.nanoTime();
+                List<AST.Stmt> a = frontend.parse(src);
+                long t1 = System.nanoTime();
+                List<AST.Stmt> b = HandParser.parse(src);
+                long t2 = System.nanoTime();
+                if (a.size() != b.size()) throw new IllegalStateException("AST-Größe unterschiedlich");
+                List<AST.Stmt> c = HandParser.parseLazy(src);
+                long t3 = System.nanoTime();
+                for (AST.Stmt s : c) if (s instanceof AST.FnDecl fd) fd.body.statements.size();
+                long t4 = System.nanoTime();
+                if (c.size() != b.size()) throw new IllegalStateException("AST-Größe unterschiedlich");
+                antlr += t1 - t0;
+                hand += t2 - t1;
+                lazy += t3 - t2;
+                lazyAll += t4 - t2;
+            }
+            if (warm == 0) continue;   // erste Runde = JIT-Aufwärmen
+            double mb = (double) src.length() * rounds / (1 << 20);
+            System.out.printf("ANTLR + ASTBuilder: %8.1f ms/Datei  %6.1f MB/s%n", antlr / 1e6 / rounds, mb / (antlr / 1e9));
+            System.out.printf("HandParser:         %8.1f ms/Datei  %6.1f MB/s%n", hand / 1e6 / rounds, mb / (hand / 1e9));
+            System.out.printf("HandParser lazy:    %8.1f ms/Datei  %6.1f MB/s  (nur Signaturen)%n", lazy / 1e6 / rounds, mb / (lazy / 1e9));
+            System.out.printf("  + alle Rümpfe:    %8.1f ms/Datei  %6.1f MB/s%n", lazyAll / 1e6 / rounds, mb / (lazyAll / 1e9));
+        }
+        frontend.printStats();
+    }
+}
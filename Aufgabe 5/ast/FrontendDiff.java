@@ -0,0 +1,192 @@
+package Aufgabe;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+/**
+ * Differenztest: ANTLR-Pfad (MiniCFrontend + ASTBuilder) gegen HandParser (eager und mit
+ * verzögerten Rümpfen) und gegen den direkten Aufbau ohne ParseTree (DirectASTBuilder).
+ * Beide ASTs werden über AST.format verglichen, die Quellbereiche aller Knoten in Preorder
+ * (dazu der Roundtrip durch den ASTCodec).
+ * Fehlerfälle: alle Frontends müssen den Syntaxfehler melden, ANTLR-Pfad und DirectASTBuilder
+ * (LL-Fallback) müssen dieselben fehlerfreien Statements liefern, der StreamingFrontend
+ * darf nicht abbrechen.
+ * Usage: java ast.FrontendDiff [source.minic ...]   (ohne Argumente: generierter Korpus)
+ */
+public class FrontendDiff {
+
+    // Randfälle, die der Zufallsgenerator nicht erzeugt
+    private static final String[] EDGE_CASES = {
+            "int x;",
+            "int intx = 1; bool Tx = T; string iff = \"if else\";",
+            "# Kommentar\nint x = 1; # noch einer\nx = x;",
+            "x = ((((1))));",
+            "a == b != c;",
+            "1 - 2 - 3 * 4 / 5 + 6 < 7 == 8 > 9;",
+            "f();",
+            "f(g(1, 2), (3), \"s\");",
+            "if (T) { } if (F) { x = 1; } else { }",
+            "while (a < b) { { { int y = 0; } } }",
+            "int f() { return 0; } bool g(int a, bool b, string c) { return b; }",
+            "{ }",
+    };
+
+    // Syntaxfehler: fehlender Ausdruck, fehlende/überzählige Klammern, Fehler tief in einem Rumpf
+    private static final String[] ERROR_CASES = {
+            "y = ;",
+            "int x = 1;\ny = ;\nx = 2;",
+            "int f( { return 1; }\nint y = 2;",
+            "int x = (1 + ;\nint z = 3;\nwhile (x { }",
+            "int g(int a) { if (a > 1) { return a +; } return 0; }\nint h() { return 1; }",
+            "x = f(1, , 2);\nbool b = T;",
+            "int x = 1;; x = 2;",
+            "return 1",
+    };
+
+    public static void main(String[] args) throws Exception {
+        MiniCFrontend frontend = new MiniCFrontend();
+        MiniCFrontend quiet = new MiniCFrontend(new BaseErrorListener());
+        List<String> names = new ArrayList<>();
+        List<String> sources = new ArrayList<>();
+        if (args.length > 0) {
+            for (String a : args) { names.add(a); sources.add(Files.readString(Path.of(a))); }
+        } else {
+            for (int i = 0; i < EDGE_CASES.length; i++) { names.add("edge#" + i); sources.add(EDGE_CASES[i]); }
+            for (int seed = 0; seed < 300; seed++) {
+                names.add("corpus#" + seed);
+                sources.add(MiniCCorpus.generate(1 + seed % 20, seed));
+            }
+        }
+
+        int failures = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            List<AST.Stmt> tree = frontend.parse(sources.get(i));
+            String expected = AST.format(tree);
+            String hand = AST.format(HandParser.parse(sources.get(i)));
+            String direct = AST.format(frontend.parseDirect(sources.get(i)));
+            String lazy = AST.format(HandParser.parseLazy(sources.get(i)));   // format parst alle Rümpfe
+            if (!expected.equals(hand)) {
+                failures++;
+                System.out.println("MISMATCH HandParser " + names.get(i) + ": " + firstDifference(expected, hand));
+            }
+            if (!expected.equals(lazy)) {
+                failures++;
+                System.out.println("MISMATCH HandParser lazy " + names.get(i) + ": " + firstDifference(expected, lazy));
+            }
+            if (!expected.equals(direct)) {
+                failures++;
+                System.out.println("MISMATCH DirectASTBuilder " + names.get(i) + ": " + firstDifference(expected, direct));
+            }
+
+            String expectedSpans = spans(tree);
+            Map<String, List<AST.Stmt>> others = new LinkedHashMap<>();
+            others.put("HandParser", HandParser.parse(sources.get(i)));
+            others.put("HandParser lazy", HandParser.parseLazy(sources.get(i)));
+            others.put("DirectASTBuilder", frontend.parseDirect(sources.get(i)));
+            others.put("ASTCodec", ASTCodec.decode(ByteBuffer.wrap(ASTCodec.encode(tree))));
+            for (Map.Entry<String, List<AST.Stmt>> e : others.entrySet()) {
+                String got = spans(e.getValue());
+                if (!expectedSpans.equals(got)) {
+                    failures++;
+                    System.out.println("MISMATCH Spans " + e.getKey() + " " + names.get(i) + ": " + firstDifference(expectedSpans, got));
+                }
+            }
+        }
+        for (int i = 0; i < ERROR_CASES.length; i++) failures += checkErrorCase("error#" + i, ERROR_CASES[i], quiet);
+        System.out.println(sources.size() + " Programme verglichen, " + ERROR_CASES.length + " Fehlerfälle, "
+                + failures + " Abweichungen");
+        frontend.printStats();
+        quiet.printStats();     // Fehlerfälle: LL-Fallback
+        if (failures > 0) System.exit(1);
+    }
+
+    private static int checkErrorCase(String name, String source, MiniCFrontend frontend) {
+        int failures = 0;
+        String tree, direct;
+        boolean treeErrors, directErrors;
+        try {
+            List<AST.Stmt> t = frontend.parse(source);
+            treeErrors = frontend.hadErrors();
+            tree = AST.format(t) + spans(t);
+            List<AST.Stmt> d = frontend.parseDirect(source);
+            directErrors = frontend.hadErrors();
+            direct = AST.format(d) + spans(d);
+        } catch (RuntimeException e) {
+            System.out.println("MISMATCH " + name + ": Frontend wirft " + e);
+            return 1;
+        }
+        if (!treeErrors || !directErrors) {
+            failures++;
+            System.out.println("MISMATCH " + name + ": Syntaxfehler nicht gemeldet (ANTLR " + treeErrors + ", direkt " + directErrors + ")");
+        }
+        if (!tree.equals(direct)) {
+            failures++;
+            System.out.println("MISMATCH " + name + " DirectASTBuilder: " + firstDifference(tree, direct));
+        }
+        try {
+            HandParser.parse(source);
+            failures++;
+            System.out.println("MISMATCH " + name + ": HandParser meldet keinen Syntaxfehler");
+        } catch (HandLexer.SyntaxError expected) {
+            // ok
+        }
+        int[] streamErrors = new int[1];
+        BaseErrorListener counter = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> r, Object sym, int line, int pos, String msg, RecognitionException e) {
+                streamErrors[0]++;
+            }
+        };
+        try {
+            new StreamingFrontend(counter).parse(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), s -> { });
+            if (streamErrors[0] == 0) {
+                failures++;
+                System.out.println("MISMATCH " + name + ": StreamingFrontend meldet keinen Syntaxfehler");
+            }
+        } catch (RuntimeException e) {
+            failures++;
+            System.out.println("MISMATCH " + name + ": StreamingFrontend wirft " + e);
+        }
+        return failures;
+    }
+
+    // "start-end" je Knoten in Preorder, eine Zeile pro Knoten
+    private static String spans(List<AST.Stmt> program) {
+        StringBuilder sb = new StringBuilder();
+        Deque<AST.ASTNode> stack = new ArrayDeque<>();
+        for (int i = program.size() - 1; i >= 0; i--) stack.push(program.get(i));
+        while (!stack.isEmpty()) {
+            AST.ASTNode n = stack.pop();
+            long span = n.span();
+            sb.append(n.getClass().getSimpleName()).append(' ');
+            sb.append(span == AST.NO_SPAN ? "-" : AST.spanStart(span) + "-" + AST.spanEnd(span)).append('\n');
+            List<AST.ASTNode> kids = new ArrayList<>();
+            if (n instanceof AST.VarDecl v && v.initializer != null) kids.add(v.initializer);
+            else if (n instanceof AST.Assign a) kids.add(a.value);
+            else if (n instanceof AST.FnDecl f) kids.add(f.body);
+            else if (n instanceof AST.ReturnStmt r) kids.add(r.value);
+            else if (n instanceof AST.ExprStmt x) kids.add(x.expr);
+            else if (n instanceof AST.Block b) kids.addAll(b.statements);
+            else if (n instanceof AST.WhileStmt w) { kids.add(w.condition); kids.add(w.body); }
+            else if (n instanceof AST.IfStmt f) { kids.add(f.condition); kids.add(f.thenBranch); kids.add(f.elseBranch); }
+            else if (n instanceof AST.Binary b) { kids.add(b.left); kids.add(b.right); }
+            else if (n instanceof AST.Call c) kids.addAll(c.args);
+            for (int k = kids.size() - 1; k >= 0; k--) stack.push(kids.get(k));
+        }
+        return sb.toString();
+    }
+
+    private static String firstDifference(String a, String b) {
+        String[] la = a.split("\n"), lb = b.split("\n");
+        for (int i = 0; i < Math.min(la.length, lb.length); i++) {
+            if (!la[i].equals(lb[i])) return "Zeile " + (i + 1) + ": '" + la[i].strip() + "' vs '" + lb[i].strip() + "'";
+        }
+        return "Länge " + la.length + " vs " + lb.length + " Zeilen";
+    }
+}
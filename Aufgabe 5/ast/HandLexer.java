@@ -0,0 +1,182 @@
+package Aufgabe;
+
+import java.util.*;
+
+/**
+ * Handgeschriebener MiniC-Lexer (gleiche Token-Definition wie MiniC.g4).
+ * Tokens werden als parallele int-Arrays (Typ, Start, Ende) abgelegt,
+ * Text wird erst bei Bedarf per substring geholt.
+ */
+public final class HandLexer {
+    // Token-Typen
+    public static final int EOF = 0, ID = 1, NUMBER = 2, STRING = 3,
+            INT = 4, STRING_T = 5, BOOL = 6, RETURN = 7, WHILE = 8, IF = 9, ELSE = 10, TRUE = 11, FALSE = 12,
+            SEMI = 13, ASSIGN = 14, LPAREN = 15, RPAREN = 16, COMMA = 17, LBRACE = 18, RBRACE = 19,
+            MUL = 20, DIV = 21, PLUS = 22, MINUS = 23, GT = 24, LT = 25, EQ = 26, NEQ = 27;
+
+    private static final String[] NAMES = {"<EOF>", "ID", "NUMBER", "STRING",
+            "'int'", "'string'", "'bool'", "'return'", "'while'", "'if'", "'else'", "'T'", "'F'",
+            "';'", "'='", "'('", "')'", "','", "'{'", "'}'",
+            "'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", "'!='"};
+
+    private final String src;
+    int[] type = new int[256];
+    int[] start = new int[256];
+    int[] end = new int[256];
+    int count = 0;
+
+    public HandLexer(String src) {
+        this.src = src;
+        tokenize();
+    }
+
+    public static String name(int type) { return NAMES[type]; }
+
+    public String source() { return src; }
+
+    public String text(int i) { return src.substring(start[i], end[i]); }
+
+    private void add(int t, int s, int e) {
+        if (count == type.length) {
+            type = Arrays.copyOf(type, count * 2);
+            start = Arrays.copyOf(start, count * 2);
+            end = Arrays.copyOf(end, count * 2);
+        }
+        type[count] = t;
+        start[count] = s;
+        end[count] = e;
+        count++;
+    }
+
+    private void tokenize() {
+        final String s = src;
+        final int n = s.length();
+        int i = 0;
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r') { i++; continue; }
+            if (c == '#') {
+                while (i < n && s.charAt(i) != '\n' && s.charAt(i) != '\r') i++;
+                continue;
+            }
+            int st = i;
+            if (isLetter(c)) {
+                i++;
+                while (i < n && (isLetter(s.charAt(i)) || isDigit(s.charAt(i)))) i++;
+                add(keyword(s, st, i), st, i);
+                continue;
+            }
+            if (isDigit(c)) {
+                while (i < n && isDigit(s.charAt(i))) i++;
+                add(NUMBER, st, i);
+                continue;
+            }
+            if (c == '"') {
+                i++;
+                while (i < n && s.charAt(i) != '"' && s.charAt(i) != '\n' && s.charAt(i) != '\r') i++;
+                if (i >= n || s.charAt(i) != '"') throw error(st, "unterminated string", i >= n);
+                i++;
+                add(STRING, st, i);
+                continue;
+            }
+            int t;
+            switch (c) {
+                case ';' -> t = SEMI;
+                case '(' -> t = LPAREN;
+                case ')' -> t = RPAREN;
+                case ',' -> t = COMMA;
+                case '{' -> t = LBRACE;
+                case '}' -> t = RBRACE;
+                case '*' -> t = MUL;
+                case '/' -> t = DIV;
+                case '+' -> t = PLUS;
+                case '-' -> t = MINUS;
+                case '>' -> t = GT;
+                case '<' -> t = LT;
+                case '=' -> {
+                    if (i + 1 < n && s.charAt(i + 1) == '=') { i++; t = EQ; }
+                    else t = ASSIGN;
+                }
+                case '!' -> {
+                    if (i + 1 < n && s.charAt(i + 1) == '=') { i++; t = NEQ; }
+                    else throw error(st, "token recognition error at: '!'");
+                }
+                default -> throw error(st, "token recognition error at: '" + c + "'");
+            }
+            i++;
+            add(t, st, i);
+        }
+        add(EOF, n, n);
+    }
+
+    private static int keyword(String s, int from, int to) {
+        switch (to - from) {
+            case 1:
+                if (s.charAt(from) == 'T') return TRUE;
+                if (s.charAt(from) == 'F') return FALSE;
+                break;
+            case 2:
+                if (s.startsWith("if", from)) return IF;
+                break;
+            case 3:
+                if (s.startsWith("int", from)) return INT;
+                break;
+            case 4:
+                if (s.startsWith("bool", from)) return BOOL;
+                if (s.startsWith("else", from)) return ELSE;
+                break;
+            case 5:
+                if (s.startsWith("while", from)) return WHILE;
+                break;
+            case 6:
+                if (s.startsWith("string", from)) return STRING_T;
+                if (s.startsWith("return", from)) return RETURN;
+                break;
+            default:
+                break;
+        }
+        return ID;
+    }
+
+    private static boolean isLetter(char c) { return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'); }
+
+    private static boolean isDigit(char c) { return c >= '0' && c <= '9'; }
+
+    SyntaxError error(int offset, String msg) {
+        return error(offset, msg, offset >= src.length());
+    }
+
+    SyntaxError error(int offset, String msg, boolean incomplete) {
+        return error(offset, msg, incomplete, false);
+    }
+
+    SyntaxError error(int offset, String msg, boolean incomplete, boolean openBlock) {
+        int line = 1, col = 0;
+        for (int i = 0; i < offset; i++) {
+            if (src.charAt(i) == '\n') { line++; col = 0; } else col++;
+        }
+        return new SyntaxError("line " + line + ":" + col + " " + msg, msg, offset, incomplete, openBlock);
+    }
+
+    /**
+     * Lexer-/Syntaxfehler. offset: Position im Quelltext, detail: Meldung ohne Position,
+     * incomplete: die Eingabe endete zu früh (weiterer Text dahinter könnte den Fehler beheben),
+     * openBlock: sie endete in der Anweisungsliste eines Blocks -- weitere vollständige
+     * Anweisungen dahinter ändern daran nichts, erst ein '}'.
+     */
+    public static final class SyntaxError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public final String detail;
+        public final int offset;
+        public final boolean incomplete, openBlock;
+
+        SyntaxError(String message, String detail, int offset, boolean incomplete, boolean openBlock) {
+            super(message);
+            this.detail = detail;
+            this.offset = offset;
+            this.incomplete = incomplete;
+            this.openBlock = openBlock;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package Aufgabe;
+
+import java.util.*;
+import static Aufgabe.HandLexer.*;
+
+/**
+ * Handgeschriebener MiniC-Parser (rekursiver Abstieg, Pratt/Precedence Climbing für expr).
+ * Baut die AST-Knoten direkt, ohne ANTLR-ParseTree und ohne zweiten ASTBuilder-Lauf.
+ *
+ * Präzedenz wie in MiniC.g4 (höher bindet stärker, alle links-assoziativ):
+ *   3: '*' '/'   2: '+' '-'   1: '>' '<'   0: '==' '!='
+ *
+ * Quellbereich jedes Knotens: erstes bis letztes Token seiner Regel (wie ctx.start/stop im
+ * ANTLR-Pfad), Klammern um einen ganzen Ausdruck gehören nicht zum Ausdruck.
+ */
+public class HandParser {
+    private final HandLexer lx;
+    private final int[] type;
+    private int pos = 0;
+
+    public HandParser(HandLexer lexer) {
+        this.lx = lexer;
+        this.type = lexer.type;
+    }
+
+    /** Lexen + Parsen einer kompletten Datei. */
+    public static List<AST.Stmt> parse(String source) {
+        return new HandParser(new HandLexer(source)).parseProgram();
+    }
+
+    /**
+     * Wie parse, aber die Rümpfe der Top-Level-Funktionen werden nur per Klammerzählung
+     * übersprungen (Pre-Parse); geparst und aufgebaut wird ein Rumpf erst beim ersten Zugriff
+     * auf fd.body.statements. Signaturen und globale Statements sind sofort vollständig.
+     * Syntaxfehler innerhalb eines Rumpfs fallen erst bei diesem Zugriff auf.
+     */
+    public static List<AST.Stmt> parseLazy(String source) {
+        return new HandParser(new HandLexer(source)).parseProgramLazy();
+    }
+
+    /** true = Rumpf wurde per parseLazy übersprungen und noch nicht angefasst */
+    public static boolean isDeferred(AST.Block body) {
+        return body.statements instanceof LazyBody lb && lb.stmts == null;
+    }
+
+    /* program : stmt+ EOF ; */
+    public List<AST.Stmt> parseProgram() {
+        AST.beginUnit();
+        List<AST.Stmt> program = new ArrayList<>();
+        do {
+            program.add(parseStmt());
+        } while (type[pos] != EOF);
+        return program;
+    }
+
+    private AST.Stmt parseStmt() {
+        int first = pos;
+        switch (type[pos]) {
+            case INT, STRING_T, BOOL -> {
+                AST.PrimType t = parseType();
+                String name = expectText(ID);
+                if (type[pos] == LPAREN) return parseFnDecl(first, t, name);
+                AST.Expr init = null;
+                if (type[pos] == ASSIGN) {
+                    pos++;
+                    init = parseExpr(0);
+                }
+                expect(SEMI);
+                return at(new AST.VarDecl(t, name, init), first);
+            }
+            case ID -> {
+                if (type[pos + 1] == ASSIGN) {
+                    String name = lx.text(pos);
+                    pos += 2;
+                    AST.Expr value = parseExpr(0);
+                    expect(SEMI);
+                    return at(new AST.Assign(name, value), first);
+                }
+                return parseExprStmt();
+            }
+            case RETURN -> {
+                pos++;
+                AST.Expr e = parseExpr(0);
+                expect(SEMI);
+                return at(new AST.ReturnStmt(e), first);
+            }
+            case LBRACE -> {
+                return parseBlock();
+            }
+            case WHILE -> {
+                pos++;
+                expect(LPAREN);
+                AST.Expr cond = parseExpr(0);
+                expect(RPAREN);
+                AST.Block body = parseBlock();
+                return at(new AST.WhileStmt(cond, body), first);
+            }
+            case IF -> {
+                pos++;
+                expect(LPAREN);
+                AST.Expr cond = parseExpr(0);
+                expect(RPAREN);
+                AST.Block thenB = parseBlock();
+                AST.Block elseB;
+                if (type[pos] == ELSE) {
+                    pos++;
+                    elseB = parseBlock();
+                } else {
+                    elseB = new AST.Block(Collections.emptyList());
+                }
+                return at(new AST.IfStmt(cond, thenB, elseB), first);
+            }
+            default -> {
+                return parseExprStmt();
+            }
+        }
+    }
+
+    private AST.Stmt parseExprStmt() {
+        int first = pos;
+        AST.Expr e = parseExpr(0);
+        expect(SEMI);
+        return at(new AST.ExprStmt(e), first);
+    }
+
+    /* fndecl : type ID '(' params? ')' block ; (type und ID sind schon gelesen) */
+    private AST.Stmt parseFnDecl(int first, AST.PrimType rt, String name) {
+        List<AST.Param> params = parseParams();
+        AST.Block body = parseBlock();
+        return at(new AST.FnDecl(rt, name, params, body), first);
+    }
+
+    private List<AST.Param> parseParams() {
+        expect(LPAREN);
+        List<AST.Param> params = new ArrayList<>();
+        if (type[pos] != RPAREN) {
+            do {
+                AST.PrimType pt = parseType();
+                params.add(new AST.Param(pt, expectText(ID)));
+            } while (accept(COMMA));
+        }
+        expect(RPAREN);
+        return params;
+    }
+
+    private AST.Block parseBlock() {
+        int first = pos;
+        List<AST.Stmt> stmts = parseStatements();
+        return at(new AST.Block(stmts), first);
+    }
+
+    /* '{' stmt* '}' */
+    private List<AST.Stmt> parseStatements() {
+        expect(LBRACE);
+        List<AST.Stmt> stmts = new ArrayList<>();
+        while (type[pos] != RBRACE && type[pos] != EOF) stmts.add(parseStmt());
+        if (type[pos] == EOF) {
+            throw lx.error(lx.start[pos], "mismatched input '" + lx.text(pos) + "' expecting " + name(RBRACE), true, true);
+        }
+        pos++;
+        return stmts;
+    }
+
+    /* ---------- Top-Level einzeln (IncrementalParser) ---------- */
+
+    boolean atEof() { return type[pos] == EOF; }
+
+    /** Start-Offset des aktuellen Tokens */
+    int offset() { return lx.start[pos]; }
+
+    AST.Stmt parseTopLevel() { return parseStmt(); }
+
+    /* ---------- verzögerte Funktionsrümpfe (parseLazy) ---------- */
+
+    public List<AST.Stmt> parseProgramLazy() {
+        AST.beginUnit();
+        LazyUnit unit = new LazyUnit(lx);
+        List<AST.Stmt> program = new ArrayList<>();
+        do {
+            boolean fn = (type[pos] == INT || type[pos] == STRING_T || type[pos] == BOOL)
+                    && pos + 2 < lx.count && type[pos + 1] == ID && type[pos + 2] == LPAREN;
+            program.add(fn ? parseFnDeclLazy(unit) : parseStmt());
+        } while (type[pos] != EOF);
+        unit.nextNodeId = AST.nodeCount();
+        return program;
+    }
+
+    private AST.Stmt parseFnDeclLazy(LazyUnit unit) {
+        int first = pos;
+        AST.PrimType rt = parseType();
+        String name = expectText(ID);
+        List<AST.Param> params = parseParams();
+        if (type[pos] != LBRACE) expect(LBRACE);
+        // Pre-Parse: nur Klammern zählen (Strings und Kommentare hat der Lexer schon erledigt)
+        int open = pos, depth = 0;
+        do {
+            switch (type[pos]) {
+                case LBRACE -> depth++;
+                case RBRACE -> depth--;
+                case EOF -> throw lx.error(lx.start[pos], "missing '}' at '<EOF>'");
+                default -> { }
+            }
+            pos++;
+        } while (depth > 0);
+        unit.remaining++;
+        AST.Block body = at(new AST.Block(new LazyBody(unit, open)), open);
+        return at(new AST.FnDecl(rt, name, params, body), first);
+    }
+
+    // gemeinsamer Zustand der verzögerten Rümpfe einer Datei: Tokens und nächste Knoten-ID
+    private static final class LazyUnit {
+        private HandLexer lexer;        // null, sobald alle Rümpfe geparst sind
+        private int nextNodeId;
+        private int remaining = 0;
+
+        LazyUnit(HandLexer lexer) { this.lexer = lexer; }
+
+        synchronized List<AST.Stmt> parse(LazyBody body) {
+            if (body.stmts != null) return body.stmts;
+            // IDs fortlaufend in dieser Einheit, egal auf welchem Thread und wann geparst wird
+            int saved = AST.resetNodeCount(nextNodeId);
+            try {
+                HandParser p = new HandParser(lexer);
+                p.pos = body.open;
+                body.stmts = p.parseStatements();
+            } finally {
+                nextNodeId = AST.resetNodeCount(saved);
+            }
+            if (--remaining == 0) lexer = null;
+            return body.stmts;
+        }
+    }
+
+    // Block.statements eines übersprungenen Rumpfs: parst beim ersten Zugriff
+    private static final class LazyBody extends AbstractList<AST.Stmt> implements RandomAccess {
+        private final LazyUnit unit;
+        private final int open;                     // Token-Index der '{'
+        private volatile List<AST.Stmt> stmts;      // null = noch nicht geparst
+
+        LazyBody(LazyUnit unit, int open) {
+            this.unit = unit;
+            this.open = open;
+        }
+
+        private List<AST.Stmt> parsed() {
+            List<AST.Stmt> s = stmts;
+            return s != null ? s : unit.parse(this);
+        }
+
+        @Override public AST.Stmt get(int index) { return parsed().get(index); }
+        @Override public int size() { return parsed().size(); }
+    }
+
+    private AST.PrimType parseType() {
+        switch (type[pos++]) {
+            case INT: return AST.PrimType.INT;
+            case STRING_T: return AST.PrimType.STRING;
+            case BOOL: return AST.PrimType.BOOL;
+            default: throw unexpected(pos - 1);
+        }
+    }
+
+    /* ---------- Ausdrücke: Precedence Climbing ---------- */
+
+    private static int precedence(int t) {
+        switch (t) {
+            case MUL: case DIV: return 3;
+            case PLUS: case MINUS: return 2;
+            case GT: case LT: return 1;
+            case EQ: case NEQ: return 0;
+            default: return -1;
+        }
+    }
+
+    private static AST.Operator operator(int t) {
+        switch (t) {
+            case MUL: return AST.Operator.MUL;
+            case DIV: return AST.Operator.DIV;
+            case PLUS: return AST.Operator.PLUS;
+            case MINUS: return AST.Operator.MINUS;
+            case GT: return AST.Operator.GT;
+            case LT: return AST.Operator.LT;
+            case EQ: return AST.Operator.EQ;
+            default: return AST.Operator.NEQ;
+        }
+    }
+
+    // links-assoziative Ketten laufen in der Schleife, nicht in der Rekursion
+    private AST.Expr parseExpr(int minPrec) {
+        int first = pos;
+        AST.Expr left = parsePrimary();
+        int prec;
+        while ((prec = precedence(type[pos])) >= minPrec) {
+            AST.Operator op = operator(type[pos++]);
+            AST.Expr right = parseExpr(prec + 1);
+            left = at(new AST.Binary(left, op, right), first);
+        }
+        return left;
+    }
+
+    private AST.Expr parsePrimary() {
+        int i = pos++;
+        switch (type[i]) {
+            case ID:
+                if (type[pos] == LPAREN) return parseCall(i);
+                return at(new AST.Variable(lx.text(i)), i);
+            case NUMBER:
+                return at(new AST.IntLiteral(Integer.parseInt(lx.text(i))), i);
+            case STRING:
+                return at(new AST.StringLiteral(lx.source().substring(lx.start[i] + 1, lx.end[i] - 1)), i);
+            case TRUE:
+                return at(new AST.BoolLiteral(true), i);
+            case FALSE:
+                return at(new AST.BoolLiteral(false), i);
+            case LPAREN: {
+                AST.Expr e = parseExpr(0);
+                expect(RPAREN);
+                return e;
+            }
+            default:
+                throw unexpected(i);
+        }
+    }
+
+    /* fncall : ID '(' args? ')' ; */
+    private AST.Expr parseCall(int first) {
+        String name = lx.text(first);
+        expect(LPAREN);
+        List<AST.Expr> args = new ArrayList<>();
+        if (type[pos] != RPAREN) {
+            do {
+                args.add(parseExpr(0));
+            } while (accept(COMMA));
+        }
+        expect(RPAREN);
+        return at(new AST.Call(name, args), first);
+    }
+
+    /* ---------- Hilfsfunktionen ---------- */
+
+    // Quellbereich: Token first bis zum zuletzt gelesenen Token
+    private <T extends AST.ASTNode> T at(T node, int first) {
+        return AST.at(node, lx.start[first], lx.end[pos - 1]);
+    }
+
+    private boolean accept(int t) {
+        if (type[pos] != t) return false;
+        pos++;
+        return true;
+    }
+
+    private void expect(int t) {
+        if (type[pos] != t) throw lx.error(lx.start[pos], "mismatched input '" + lx.text(pos) + "' expecting " + name(t));
+        pos++;
+    }
+
+    private String expectText(int t) {
+        expect(t);
+        return lx.text(pos - 1);
+    }
+
+    private HandLexer.SyntaxError unexpected(int i) {
+        return lx.error(lx.start[i], "extraneous input '" + lx.text(i) + "'");
+    }
+}
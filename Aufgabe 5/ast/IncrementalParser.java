@@ -0,0 +1,433 @@
+package Aufgabe;
+
+import java.util.*;
+
+/**
+ * IncrementalParser: Quelltext als Folge von Abschnitten, einer pro Top-Level-Statement
+ * (Text ab dem ersten Token bis vor das nächste Statement, inkl. Whitespace/Kommentare).
+ * Eine Änderung lext und parst nur das Fenster der betroffenen Abschnitte neu, alle
+ * anderen Statements (Teilbäume samt nodeIds) bleiben unverändert.
+ *
+ * Fenster: der Abschnitt vor der Änderung bis zu dem, der ihr Ende enthält (ein Zeichen
+ * davor, damit auch das Verlängern eines Tokens an der Grenze erfasst wird), plus
+ * benachbarte Fehlerabschnitte. Das Fenster wächst nach rechts (verdoppelnd), solange
+ *  - der Parser am Fensterende mehr Text braucht (offene Klammer, fehlendes ';', ...) oder
+ *  - das Fenster nicht sauber endet (letztes Token ';' / '}' direkt am Ende oder Zeilenende),
+ *    damit ein Token nicht über die Fenstergrenze hinweg anders gelext würde.
+ * Ab MAX_WINDOW Abschnitten wird nicht weiter verdoppelt, sondern der ganze Rest der Datei
+ * in einem Durchgang geparst.
+ *
+ * Offener Block: endet das Fenster in der Anweisungsliste eines Blocks (eine '{' zu viel,
+ * eine '}' gelöscht), steht das Ergebnis ohne Weiterparsen fest -- jedes folgende
+ * Top-Level-Statement ist auch eine gültige Anweisung im Block, der Fehler kommt am
+ * Dateiende. Die Abschnitte dahinter bleiben dann stehen, sind aber verdeckt (ihre
+ * Statements gehören nicht zum Programm); eine Änderung im verdeckten Teil parst ab dem
+ * Fehlerabschnitt. Wird der Block wieder geschlossen, kommen dieselben Statements zurück.
+ *
+ * Abschnitte des neuen Fensters mit demselben Text wie vorher werden wiederverwendet
+ * (gleiches Statement-Objekt): am Anfang und Ende des Fensters die alten Abschnitte, in der
+ * Mitte die von der vorigen Änderung entfernten (Rücknahme einer Änderung).
+ *
+ * Syntaxfehler: Statements vor dem Fehler werden übernommen, der Rest des Fensters wird ein
+ * Fehlerabschnitt (ohne Statement), die Abschnitte dahinter bleiben gültig. Fehlerabschnitte
+ * werden bei jeder Änderung in ihrer Nähe erneut versucht.
+ *
+ * Positionen: die Abschnittslängen stehen in einem Fenwick-Baum (Offset -> Abschnitt und
+ * Abschnitt -> Offset in O(log n)); er wird nur neu aufgebaut, wenn sich die Zahl der
+ * Abschnitte ändert. Jeder Abschnitt hat außerdem einen Ordnungsschlüssel, der mit der
+ * Quellreihenfolge steigt und sich für unveränderte Abschnitte nicht ändert; neue Abschnitte
+ * bekommen Schlüssel aus der Lücke zwischen ihren Nachbarn, ist sie zu klein, werden alle
+ * neu vergeben (EditInfo.relabeled).
+ *
+ * nodeIds laufen über alle Änderungen fortlaufend weiter (neue Knoten bekommen neue IDs),
+ * damit semantische Ergebnisse wiederverwendeter Knoten in NodeFacts gültig bleiben.
+ * Ebenso bleiben die Quellbereiche (AST.span) relativ zu dem Fenster, in dem ein Statement
+ * geparst wurde; spanShift() liefert die Verschiebung in den aktuellen Text.
+ * Parst mit dem HandParser (gleicher AST wie der ANTLR-Pfad, siehe FrontendDiff).
+ */
+public final class IncrementalParser {
+
+    // ab so vielen Abschnitten wächst das Fenster direkt bis zum Dateiende
+    private static final int MAX_WINDOW = 64;
+    // Ordnungsschlüssel liegen in 1..ORDER_END-1 (SymbolTable: Integer.MAX_VALUE = "am Ende")
+    private static final int ORDER_END = Integer.MAX_VALUE - 1;
+
+    private static final class Chunk {
+        final String text;
+        final AST.Stmt stmt;                    // null = Fehler- oder reiner Whitespace-Abschnitt
+        final HandLexer.SyntaxError error;      // Offset relativ zum Fenster, in dem geparst wurde
+        final int base;                         // Offset des Abschnitts in diesem Fenster (Spans, Fehler)
+        int order;                              // Ordnungsschlüssel, siehe oben
+        boolean hidden;                         // hinter einem offenen Block
+
+        Chunk(String text, AST.Stmt stmt, HandLexer.SyntaxError error, int base) {
+            this.text = text;
+            this.stmt = stmt;
+            this.error = error;
+            this.base = base;
+        }
+
+        boolean visible() { return stmt != null && !hidden; }
+    }
+
+    /**
+     * Umfang einer Änderung: entfernte und neue Statements (in Quellreihenfolge), entfernte, die
+     * auch keine Rücknahme mehr zurückbringt (Ergebnisse dazu können weg), neu gelexte Zeichen;
+     * relabeled = alle Ordnungsschlüssel wurden neu vergeben
+     */
+    public record EditInfo(List<AST.Stmt> removed, List<AST.Stmt> added, List<AST.Stmt> discarded,
+                           int relexedChars, boolean relabeled) {}
+
+    private final ArrayList<Chunk> chunks = new ArrayList<>();
+    private int[] tree = new int[1];            // Fenwick-Baum über die Abschnittslängen (1-basiert)
+    private Chunk[] owner = new Chunk[64];      // nodeId eines Top-Level-Statements -> sein Abschnitt
+    private List<Chunk> removedLast = List.of();               // von der vorigen Änderung entfernt
+    private Map<String, Chunk> removedByText = new HashMap<>();
+    private int length = 0;
+    private int statements = 0, errors = 0;
+    private int nextNodeId = 0;
+    private List<AST.Stmt> program = null;      // Cache, null = neu aufbauen
+
+    public IncrementalParser(String source) {
+        if (!source.isEmpty()) {
+            List<Chunk> cs = parseWindow(source).chunks;
+            chunks.addAll(cs);
+            for (Chunk c : cs) enter(c);
+        }
+        length = source.length();
+        relabel();
+        rebuildTree();
+    }
+
+    /** ersetzt removed Zeichen ab offset durch inserted */
+    public EditInfo edit(int offset, int removed, String inserted) {
+        if (offset < 0 || removed < 0 || offset + removed > length) {
+            throw new IndexOutOfBoundsException("edit " + offset + "+" + removed + " outside 0.." + length);
+        }
+        int newLength = length - removed + inserted.length();
+        program = null;
+        if (chunks.isEmpty()) {
+            List<Chunk> cs = parseWindow(inserted).chunks;
+            chunks.addAll(cs);
+            for (Chunk c : cs) enter(c);
+            length = newLength;
+            relabel();
+            rebuildTree();
+            return new EditInfo(List.of(), statements(chunks), List.of(), inserted.length(), true);
+        }
+
+        int i = chunkAt(Math.max(offset - 1, 0));
+        int j = chunkAt(offset + removed);
+        while (chunks.get(i).hidden) i--;       // hinter einem offenen Block: ab dem Fehlerabschnitt
+        while (i > 0 && chunks.get(i - 1).error != null) i--;
+        while (j + 1 < chunks.size() && chunks.get(j + 1).error != null) j++;
+        int windowStart = startOf(i);
+        boolean wasHidden = j + 1 < chunks.size() && chunks.get(j + 1).hidden;
+
+        Window w;
+        while (true) {
+            StringBuilder sb = new StringBuilder();
+            for (int k = i; k <= j; k++) sb.append(chunks.get(k).text);
+            int rel = offset - windowStart;
+            sb.replace(rel, rel + removed, inserted);
+            w = parseWindow(sb.toString());
+            if (w.clean || j + 1 == chunks.size()) break;
+            if (w.openBlock && (wasHidden || noErrorAfter(j))) break;
+            j = j - i + 1 >= MAX_WINDOW ? chunks.size() - 1 : Math.min(chunks.size() - 1, j + (j - i + 1));
+            while (j + 1 < chunks.size() && chunks.get(j + 1).error != null) j++;
+            wasHidden = j + 1 < chunks.size() && chunks.get(j + 1).hidden;
+        }
+        boolean hideRest = !w.clean && w.openBlock;
+
+        // gleicher Text am Anfang/Ende des Fensters: alte Abschnitte behalten
+        List<Chunk> old = chunks.subList(i, j + 1);
+        List<Chunk> fresh = w.chunks;
+        int head = 0, tail = 0;
+        while (head < old.size() && head < fresh.size() && same(old.get(head), fresh.get(head))) head++;
+        while (tail < old.size() - head && tail < fresh.size() - head
+                && same(old.get(old.size() - 1 - tail), fresh.get(fresh.size() - 1 - tail))) tail++;
+        List<Chunk> gone = old.subList(head, old.size() - tail);
+        List<Chunk> added = new ArrayList<>(fresh.subList(head, fresh.size() - tail));
+
+        // in der Mitte: Abschnitte, die die vorige Änderung entfernt hat
+        Set<Chunk> back = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int k = 0; k < added.size(); k++) {
+            Chunk c = added.get(k);
+            Chunk prev = c.stmt != null ? removedByText.remove(c.text) : null;
+            if (prev != null) {
+                added.set(k, prev);
+                back.add(prev);
+            }
+        }
+        List<AST.Stmt> discarded = new ArrayList<>();
+        for (Chunk c : removedLast) {
+            if (!back.contains(c)) {
+                owner[c.stmt.nodeId] = null;
+                discarded.add(c.stmt);
+            }
+        }
+        removedLast = new ArrayList<>();
+        removedByText = new HashMap<>();
+        List<AST.Stmt> removedStmts = new ArrayList<>(), addedStmts = new ArrayList<>();
+        for (Chunk c : gone) {
+            if (c.visible()) removedStmts.add(c.stmt);
+            leave(c);
+            if (c.stmt == null) continue;
+            removedLast.add(c);
+            removedByText.putIfAbsent(c.text, c);
+        }
+
+        int lo = i + head == 0 ? 0 : chunks.get(i + head - 1).order;
+        int hi = i + old.size() - tail == chunks.size() ? ORDER_END : chunks.get(i + old.size() - tail).order;
+        for (int k = 0; k < head; k++) show(old.get(k), addedStmts);
+        boolean resize = gone.size() != added.size();
+        int at = i + head;
+        if (resize) {
+            gone.clear();
+            chunks.addAll(at, added);
+        } else {
+            for (int k = 0; k < added.size(); k++) {
+                Chunk c = added.get(k);
+                update(at + k, c.text.length() - chunks.get(at + k).text.length());
+                chunks.set(at + k, c);
+            }
+        }
+        for (Chunk c : added) {
+            c.hidden = false;
+            enter(c);
+            if (c.stmt != null) addedStmts.add(c.stmt);
+        }
+        int after = at + added.size();      // erster Abschnitt hinter dem Fenster (Ende ab tail)
+        for (int k = after; k < after + tail; k++) show(chunks.get(k), addedStmts);
+        if (hideRest != wasHidden) {
+            for (int k = after + tail; k < chunks.size(); k++) {
+                if (hideRest) hide(chunks.get(k), removedStmts); else show(chunks.get(k), addedStmts);
+            }
+        }
+        length = newLength;
+
+        boolean relabeled = (long) hi - lo <= added.size();
+        if (relabeled) {
+            relabel();
+        } else {
+            for (int k = 0; k < added.size(); k++) {
+                added.get(k).order = (int) (lo + ((long) hi - lo) * (k + 1) / (added.size() + 1));
+            }
+        }
+        if (resize) rebuildTree();
+        return new EditInfo(removedStmts, addedStmts, discarded, w.length, relabeled);
+    }
+
+    /** aktuelle Top-Level-Statements (ohne Fehlerabschnitte), unveränderte sind dieselben Objekte */
+    public List<AST.Stmt> program() {
+        if (program == null) program = Collections.unmodifiableList(statements(chunks));
+        return program;
+    }
+
+    public int statementCount() { return statements; }
+
+    /**
+     * Ordnungsschlüssel des Top-Level-Statements s: steigt mit der Quellreihenfolge, bleibt
+     * über Änderungen gleich, solange s unverändert ist und kein relabeled gemeldet wird
+     */
+    public int order(AST.Stmt s) {
+        return owner[s.nodeId].order;
+    }
+
+    /** Verschiebung für die Spans der Knoten des Top-Level-Statements s: AST.shift(span, spanShift(s)) */
+    public int spanShift(AST.Stmt s) {
+        Chunk c = owner[s.nodeId];
+        return startOf(indexOf(c.order)) - c.base;
+    }
+
+    public int length() { return length; }
+
+    public int chunkCount() { return chunks.size(); }
+
+    /** größte vergebene nodeId + 1 */
+    public int nodeCount() { return nextNodeId; }
+
+    public String text() {
+        StringBuilder sb = new StringBuilder(length);
+        for (Chunk c : chunks) sb.append(c.text);
+        return sb.toString();
+    }
+
+    public boolean hasSyntaxErrors() { return errors > 0; }
+
+    /** Syntaxfehler mit Zeile:Spalte im aktuellen Text (wird erst hier berechnet) */
+    public List<String> syntaxErrors() {
+        List<String> out = new ArrayList<>();
+        int start = 0, line = 1, col = 0, scanned = 0;
+        String text = null;
+        for (Chunk c : chunks) {
+            if (c.error != null) {
+                if (text == null) text = text();
+                // offener Block: der Fehler steht am Dateiende, hinter den verdeckten Abschnitten
+                int at = c.error.openBlock ? length : start + c.error.offset - c.base;
+                for (; scanned < at; scanned++) {
+                    if (text.charAt(scanned) == '\n') { line++; col = 0; } else col++;
+                }
+                out.add("line " + line + ":" + col + " " + c.error.detail);
+            }
+            start += c.text.length();
+        }
+        return out;
+    }
+
+    /* ------------------ intern ------------------ */
+
+    private static List<AST.Stmt> statements(List<Chunk> cs) {
+        List<AST.Stmt> out = new ArrayList<>();
+        for (Chunk c : cs) if (c.visible()) out.add(c.stmt);
+        return out;
+    }
+
+    private static boolean same(Chunk a, Chunk b) {
+        return a.error == null && b.error == null && a.text.equals(b.text);
+    }
+
+    private boolean noErrorAfter(int index) {
+        for (int k = index + 1; k < chunks.size(); k++) if (chunks.get(k).error != null) return false;
+        return true;
+    }
+
+    // Abschnitt kommt in die Liste / verlässt sie
+    private void enter(Chunk c) {
+        if (c.error != null) errors++;
+        if (c.stmt == null) return;
+        if (!c.hidden) statements++;
+        int id = c.stmt.nodeId;
+        if (id >= owner.length) owner = Arrays.copyOf(owner, Math.max(id + 1, owner.length * 2));
+        owner[id] = c;
+    }
+
+    private void leave(Chunk c) {
+        if (c.error != null) errors--;
+        if (c.visible()) statements--;
+    }
+
+    private void hide(Chunk c, List<AST.Stmt> removedStmts) {
+        if (c.visible()) {
+            removedStmts.add(c.stmt);
+            statements--;
+        }
+        c.hidden = true;
+    }
+
+    private void show(Chunk c, List<AST.Stmt> addedStmts) {
+        if (!c.hidden) return;
+        c.hidden = false;
+        if (c.stmt != null) {
+            addedStmts.add(c.stmt);
+            statements++;
+        }
+    }
+
+    // alle Ordnungsschlüssel neu, gleichmäßig über die untere Hälfte (oben Platz zum Anhängen)
+    private void relabel() {
+        int step = ORDER_END / 2 / (chunks.size() + 1);
+        for (int k = 0; k < chunks.size(); k++) chunks.get(k).order = (k + 1) * step;
+    }
+
+    // Index des Abschnitts mit diesem Ordnungsschlüssel
+    private int indexOf(int order) {
+        int lo = 0, hi = chunks.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (chunks.get(mid).order < order) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private void rebuildTree() {
+        int n = chunks.size();
+        if (tree.length < n + 1) tree = new int[Math.max(n + 1, tree.length * 2)];
+        for (int k = 1; k <= n; k++) tree[k] = chunks.get(k - 1).text.length();
+        for (int k = 1; k <= n; k++) {
+            int parent = k + (k & -k);
+            if (parent <= n) tree[parent] += tree[k];
+        }
+    }
+
+    private void update(int index, int delta) {
+        for (int k = index + 1; k <= chunks.size(); k += k & -k) tree[k] += delta;
+    }
+
+    // Index des Abschnitts, der offset enthält (offset == length: der letzte)
+    private int chunkAt(int offset) {
+        int n = chunks.size(), pos = 0;
+        for (int step = Integer.highestOneBit(n); step > 0; step >>= 1) {
+            if (pos + step <= n && tree[pos + step] <= offset) {
+                pos += step;
+                offset -= tree[pos];
+            }
+        }
+        return Math.min(pos, n - 1);
+    }
+
+    private int startOf(int index) {
+        int start = 0;
+        for (int k = index; k > 0; k -= k & -k) start += tree[k];
+        return start;
+    }
+
+    // clean = false: Fenster muss wachsen; openBlock: Fenster endet in einem offenen Block
+    // an einer Token-Grenze (folgende Abschnitte können daran nichts ändern)
+    private record Window(List<Chunk> chunks, boolean clean, boolean openBlock, int length) {}
+
+    // Text eines Fensters in Abschnitte zerlegen
+    private Window parseWindow(String text) {
+        List<Chunk> out = new ArrayList<>();
+        int saved = AST.resetNodeCount(nextNodeId);
+        try {
+            HandLexer lexer;
+            try {
+                lexer = new HandLexer(text);
+            } catch (HandLexer.SyntaxError e) {
+                out.add(new Chunk(text, null, e, 0));
+                return new Window(out, !e.incomplete, false, text.length());
+            }
+            HandParser parser = new HandParser(lexer);
+            int chunkStart = 0;
+            AST.Stmt pending = null;
+            while (!parser.atEof()) {
+                int stmtStart = parser.offset();
+                if (pending != null) {
+                    out.add(new Chunk(text.substring(chunkStart, stmtStart), pending, null, chunkStart));
+                    chunkStart = stmtStart;
+                }
+                try {
+                    pending = parser.parseTopLevel();
+                } catch (HandLexer.SyntaxError e) {
+                    out.add(new Chunk(text.substring(chunkStart), null, e, chunkStart));
+                    return new Window(out, !e.incomplete, e.openBlock && tokenBoundary(text, lexer), text.length());
+                }
+            }
+            out.add(new Chunk(text.substring(chunkStart), pending, null, chunkStart));
+            return new Window(out, cleanEnd(text, lexer), false, text.length());
+        } finally {
+            nextNodeId = AST.resetNodeCount(saved);
+        }
+    }
+
+    // endet das Fenster an einer Stelle, an der nachfolgender Text kein Token verlängern
+    // oder in einem Kommentar verschwinden kann?
+    private static boolean cleanEnd(String text, HandLexer lexer) {
+        if (text.isEmpty()) return true;
+        char last = text.charAt(text.length() - 1);
+        if (last == '\n' || last == '\r') return true;
+        int t = lexer.count - 2;    // letztes Token vor EOF
+        return t >= 0 && lexer.end[t] == text.length()
+                && (lexer.type[t] == HandLexer.SEMI || lexer.type[t] == HandLexer.RBRACE);
+    }
+
+    // schwächer als cleanEnd, für Fenster, die an einer alten Abschnittsgrenze enden: dort
+    // fing schon vorher ein neues Token an, es darf nur kein Kommentar bis ans Ende reichen
+    private static boolean tokenBoundary(String text, HandLexer lexer) {
+        int t = lexer.count - 2;
+        int hash = text.lastIndexOf('#');
+        return hash < (t >= 0 ? lexer.end[t] : 0)
+                || Math.max(text.lastIndexOf('\n'), text.lastIndexOf('\r')) > hash;
+    }
+}
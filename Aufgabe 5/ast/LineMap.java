@@ -0,0 +1,67 @@
+package Aufgabe;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * LineMap: Zeilenanfänge einer Quelldatei, gemeinsam für alle Knoten und Meldungen der Datei.
+ * Die Knoten tragen nur ihren Offset-Bereich (AST.span); Zeile/Spalte werden erst hier
+ * berechnet, wenn eine Meldung ausgegeben wird (Binärsuche über die Zeilenanfänge).
+ *
+ * Die Tabelle wird beim ersten Nachschlagen aufgebaut -- eine Datei ohne Meldungen zahlt
+ * nichts. Zeilen ab 1, Spalten ab 0 (wie die ANTLR-Syntaxfehler), Offsets in char-Einheiten.
+ */
+public final class LineMap {
+    private Supplier<String> source;    // null, sobald die Tabelle steht
+    private volatile int[] lineStarts;
+
+    public LineMap(String source) {
+        this(() -> source);
+    }
+
+    /** Quelltext erst beim ersten Nachschlagen holen (z.B. IncrementalParser::text) */
+    public LineMap(Supplier<String> source) {
+        this.source = source;
+    }
+
+    /** Zeile (ab 1) von offset */
+    public int line(int offset) {
+        int i = Arrays.binarySearch(starts(), offset);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    /** Spalte (ab 0) von offset */
+    public int column(int offset) {
+        return offset - starts()[line(offset) - 1];
+    }
+
+    /** "line L:C" für den Anfang von span, null bei AST.NO_SPAN */
+    public String position(long span) {
+        if (span == AST.NO_SPAN) return null;
+        int start = AST.spanStart(span);
+        return "line " + line(start) + ":" + column(start);
+    }
+
+    public int lineCount() { return starts().length; }
+
+    private int[] starts() {
+        int[] s = lineStarts;
+        return s != null ? s : build();
+    }
+
+    private synchronized int[] build() {
+        if (lineStarts != null) return lineStarts;
+        String text = source.get();
+        int[] s = new int[64];
+        int n = 1;                  // s[0] = 0
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                if (n == s.length) s = Arrays.copyOf(s, n * 2);
+                s[n++] = i + 1;
+            }
+        }
+        lineStarts = Arrays.copyOf(s, n);
+        source = null;
+        return lineStarts;
+    }
+}
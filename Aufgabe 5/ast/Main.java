@@ -8,35 +8,30 @@ import parser.*; // passe ggf. an
 
 /**
  * Demo: Parsen einer Datei, AST bauen, AST ausgeben.
- * Usage: java ast.Main <input-file>
+ * Usage: java ast.Main [--direct | --stream] <input-file>
+ *   --direct: AST direkt beim Parsen bauen (kein ParseTree)
+ *   --stream: Datei ungepuffert lesen, Statement für Statement parsen und ausgeben
  */
 public class Main {
     public static void main(String[] args) throws Exception {
-        if (args.length == 0) {
-            System.err.println("Usage: java ast.Main <source.minic>");
+        String mode = args.length > 0 && args[0].startsWith("--") ? args[0] : "";
+        if (args.length == (mode.isEmpty() ? 0 : 1)) {
+            System.err.println("Usage: java ast.Main [--direct | --stream] <source.minic>");
             System.exit(1);
         }
-        String src = Files.readString(Path.of(args[0]));
-
-        CharStream cs = CharStreams.fromString(src);
-        MiniCLexer lexer = new MiniCLexer(cs);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        MiniCParser parser = new MiniCParser(tokens);
-
-        // optional: Fehlerlistener anpassen
-        parser.removeErrorListeners();
-        parser.addErrorListener(new DiagnosticErrorListener());
-        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
-
-        MiniCParser.ProgramContext tree = parser.program();
-
-        ASTBuilder builder = new ASTBuilder();
-        List<AST.Stmt> program = new ArrayList<>();
-        for (MiniCParser.StmtContext sctx : tree.stmt()) {
-            AST.ASTNode node = builder.visit(sctx);
-            if (node instanceof AST.Stmt) program.add((AST.Stmt) node);
-            else throw new RuntimeException("Top-level produced non-stmt: " + node);
+        String file = args[mode.isEmpty() ? 0 : 1];
+        if (mode.equals("--stream")) {
+            System.out.println("=== AST ===");
+            new StreamingFrontend(new DiagnosticErrorListener(), ConsoleErrorListener.INSTANCE)
+                    .parse(file, stmt -> AST.printProgram(List.of(stmt)));
+            return;
         }
+        boolean direct = mode.equals("--direct");
+        String src = Files.readString(Path.of(file));
+
+        // optional: Fehlerlistener anpassen (gelten für den LL-Fallback)
+        MiniCFrontend frontend = new MiniCFrontend(new DiagnosticErrorListener(), ConsoleErrorListener.INSTANCE);
+        List<AST.Stmt> program = direct ? frontend.parseDirect(src) : frontend.parse(src);
 
         System.out.println("=== AST ===");
         AST.printProgram(program);
@@ -0,0 +1,213 @@
+package Aufgabe;
+
+import java.util.*;
+
+/**
+ * Erzeugt zufällige, syntaktisch und semantisch gültige MiniC-Programme
+ * (für Differenztests und Benchmarks).
+ */
+public class MiniCCorpus {
+    private static final String[] TYPES = {"int", "bool", "string"};
+
+    private final Random rnd;
+    private final StringBuilder out = new StringBuilder();
+    private final Deque<Map<String, String>> scopes = new ArrayDeque<>();   // name -> type
+    private final List<String[]> functions = new ArrayList<>();            // {name, returnType, paramTypes...}
+    private final Map<String, List<String[]>> functionsByType = new HashMap<>();
+    private final Map<String, List<String>> globalsByType = new HashMap<>();
+    private int counter = 0;
+
+    private MiniCCorpus(long seed) {
+        this.rnd = new Random(seed);
+    }
+
+    /** Programm mit ungefähr `functions` Funktionen und einigen globalen Variablen. */
+    public static String generate(int functions, long seed) {
+        return new MiniCCorpus(seed).program(functions);
+    }
+
+    private String program(int fnCount) {
+        scopes.push(new HashMap<>());
+        for (int i = 0; i < fnCount; i++) {
+            if (rnd.nextInt(3) == 0) varDecl(0);
+            fnDecl();
+        }
+        // ein paar Top-Level-Anweisungen
+        for (int i = 0; i < 3; i++) stmt(0, 2, null);
+        return out.toString();
+    }
+
+    private void fnDecl() {
+        String rt = pick(TYPES);
+        String name = "f" + functions.size();
+        int n = rnd.nextInt(4);
+        String[] sig = new String[2 + n];
+        sig[0] = name;
+        sig[1] = rt;
+        out.append(rt).append(' ').append(name).append('(');
+        Map<String, String> params = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            sig[2 + i] = pick(TYPES);
+            String p = "p" + i;
+            params.put(p, sig[2 + i]);
+            out.append(i > 0 ? ", " : "").append(sig[2 + i]).append(' ').append(p);
+        }
+        out.append(") {\n");
+        functions.add(sig);     // rekursive Aufrufe erlaubt
+        functionsByType.computeIfAbsent(rt, k -> new ArrayList<>()).add(sig);
+        scopes.push(params);
+        int stmts = 1 + rnd.nextInt(5);
+        for (int i = 0; i < stmts; i++) stmt(1, 2, rt);
+        indent(1).append("return ").append(expr(rt, 3)).append(";\n");
+        scopes.pop();
+        out.append("}\n");
+    }
+
+    private void stmt(int level, int depth, String returnType) {
+        int k = rnd.nextInt(depth > 0 ? 7 : 4);
+        switch (k) {
+            case 0, 1 -> varDecl(level);
+            case 2 -> {
+                String[] v = anyVar();
+                if (v == null) varDecl(level);
+                else indent(level).append(v[0]).append(" = ").append(expr(v[1], 3)).append(";\n");
+            }
+            case 3 -> {
+                if (functions.isEmpty()) varDecl(level);
+                else indent(level).append(call(functions.get(rnd.nextInt(functions.size())), 2)).append(";\n");
+            }
+            case 4 -> {
+                indent(level).append("while (").append(expr("bool", 2)).append(") ");
+                block(level, depth - 1, returnType);
+                out.append('\n');
+            }
+            case 5 -> {
+                indent(level).append("if (").append(expr("bool", 2)).append(") ");
+                block(level, depth - 1, returnType);
+                if (rnd.nextBoolean()) {
+                    out.append(" else ");
+                    block(level, depth - 1, returnType);
+                }
+                out.append('\n');
+            }
+            default -> {
+                indent(level);
+                block(level, depth - 1, returnType);
+                out.append('\n');
+            }
+        }
+    }
+
+    private void block(int level, int depth, String returnType) {
+        out.append("{\n");
+        scopes.push(new HashMap<>());
+        int n = rnd.nextInt(4);
+        for (int i = 0; i < n; i++) stmt(level + 1, depth, returnType);
+        if (returnType != null && rnd.nextInt(4) == 0) {
+            indent(level + 1).append("return ").append(expr(returnType, 2)).append(";\n");
+        }
+        scopes.pop();
+        indent(level).append('}');
+    }
+
+    private void varDecl(int level) {
+        String t = pick(TYPES);
+        String name = "v" + (counter++);
+        indent(level).append(t).append(' ').append(name);
+        if (rnd.nextInt(4) != 0) out.append(" = ").append(expr(t, 3));
+        out.append(";\n");
+        scopes.peek().put(name, t);   // erst nach dem Initialisierer sichtbar
+        if (scopes.size() == 1) globalsByType.computeIfAbsent(t, k -> new ArrayList<>()).add(name);
+    }
+
+    /* Ausdrücke: prec 0 = '==' '!=', 1 = '<' '>', 2 = '+' '-', 3 = '*' '/', 4 = primär */
+    private String expr(String type, int depth) {
+        return exprP(type, depth)[0];
+    }
+
+    private String[] exprP(String type, int depth) {
+        if (depth > 0 && rnd.nextInt(3) != 0) {
+            switch (type) {
+                case "int" -> {
+                    int p = rnd.nextBoolean() ? 2 : 3;
+                    String op = p == 2 ? (rnd.nextBoolean() ? "+" : "-") : (rnd.nextBoolean() ? "*" : "/");
+                    return binary("int", "int", op, p, depth);
+                }
+                case "bool" -> {
+                    int r = rnd.nextInt(3);
+                    if (r == 0) return binary("int", "int", rnd.nextBoolean() ? "<" : ">", 1, depth);
+                    return binary(r == 1 ? "int" : "bool", r == 1 ? "int" : "bool", rnd.nextBoolean() ? "==" : "!=", 0, depth);
+                }
+                default -> { }
+            }
+        }
+        return new String[]{primary(type, depth), "4"};
+    }
+
+    private String[] binary(String lt, String rt, String op, int prec, int depth) {
+        String[] l = exprP(lt, depth - 1);
+        String[] r = exprP(rt, depth - 1);
+        // links-assoziativ: links reicht >= prec, rechts braucht > prec
+        String ls = Integer.parseInt(l[1]) >= prec ? l[0] : "(" + l[0] + ")";
+        String rs = Integer.parseInt(r[1]) > prec ? r[0] : "(" + r[0] + ")";
+        return new String[]{ls + " " + op + " " + rs, String.valueOf(prec)};
+    }
+
+    private String primary(String type, int depth) {
+        int r = rnd.nextInt(5);
+        if (r < 2) {
+            String v = varOfType(type);
+            if (v != null) return v;
+        }
+        if (r == 2 && depth > 0) {
+            List<String[]> fs = functionsByType.getOrDefault(type, List.of());
+            if (!fs.isEmpty()) return call(fs.get(rnd.nextInt(fs.size())), depth - 1);
+        }
+        if (r == 3 && depth > 0) return "(" + expr(type, depth - 1) + ")";
+        return switch (type) {
+            case "int" -> String.valueOf(rnd.nextInt(1000));
+            case "bool" -> rnd.nextBoolean() ? "T" : "F";
+            default -> "\"s" + rnd.nextInt(100) + " x\"";
+        };
+    }
+
+    private String call(String[] fn, int depth) {
+        StringBuilder sb = new StringBuilder(fn[0]).append('(');
+        for (int i = 2; i < fn.length; i++) {
+            if (i > 2) sb.append(", ");
+            sb.append(expr(fn[i], Math.max(0, depth - 1)));
+        }
+        return sb.append(')').toString();
+    }
+
+    private String varOfType(String type) {
+        // lokale Scopes sind klein; globale Variablen kommen aus der Liste pro Typ
+        // (Variablennamen sind eindeutig, Parameter p0.. nur lokal -> keine Verschattung)
+        List<String> names = new ArrayList<>();
+        Iterator<Map<String, String>> it = scopes.iterator();
+        for (int i = 0; i < scopes.size() - 1; i++) {
+            for (Map.Entry<String, String> e : it.next().entrySet()) {
+                if (e.getValue().equals(type)) names.add(e.getKey());
+            }
+        }
+        List<String> globals = globalsByType.getOrDefault(type, List.of());
+        int total = names.size() + globals.size();
+        if (total == 0) return null;
+        int k = rnd.nextInt(total);
+        return k < names.size() ? names.get(k) : globals.get(k - names.size());
+    }
+
+    private String[] anyVar() {
+        String t = pick(TYPES);
+        String v = varOfType(t);
+        return v == null ? null : new String[]{v, t};
+    }
+
+    private StringBuilder indent(int level) {
+        return out.append("    ".repeat(level));
+    }
+
+    private String pick(String[] xs) {
+        return xs[rnd.nextInt(xs.length)];
+    }
+}
@@ -0,0 +1,168 @@
+package Aufgabe;
+
+import java.util.*;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.*;
+import parser.*; // passe ggf. an
+
+/**
+ * MiniCFrontend: wiederverwendbarer Treiber für Lexer, Parser und ASTBuilder.
+ *
+ * Zweistufiges Parsen:
+ *  - Stufe 1: PredictionMode.SLL + BailErrorStrategy (schnell, reicht fast immer)
+ *  - Stufe 2: nur wenn Stufe 1 abbricht, nochmal mit vollem LL und normalen Fehlermeldungen
+ *
+ * Lexer/Parser-Instanzen werden wiederverwendet; der DFA-Cache der generierten
+ * Klassen ist statisch und bleibt damit über alle Übersetzungen im Prozess warm.
+ * Eine Instanz ist nicht thread-safe (eine pro Thread verwenden).
+ */
+public final class MiniCFrontend {
+
+    // deckt alle Regeln/Alternativen ab, damit der DFA-Cache vorgewärmt wird
+    private static final String WARMUP_SOURCE = String.join("\n",
+            "int x = 1 + 2 * 3 - 4 / 5;",
+            "string s = \"warm\";",
+            "bool b = (x > 1) == T;",
+            "x = x + 1;",
+            "int f(int a, string c, bool d) { if (a < 2) { return a; } else { return f(a - 1, c, d); } }",
+            "while (x != 0) { x = x - 1; }",
+            "{ f(x, s, F); }");
+
+    private final MiniCLexer lexer = new MiniCLexer(CharStreams.fromString(""));
+    private final MiniCParser parser = new MiniCParser(new CommonTokenStream(lexer));
+    private final List<ANTLRErrorListener> listeners;
+
+    private long parses = 0;
+    private long fallbacks = 0;
+    private int lexerErrors = 0;
+
+    public MiniCFrontend() {
+        this(ConsoleErrorListener.INSTANCE);
+    }
+
+    /** listeners hängen am Lexer und werden in Stufe 2 (LL) an den Parser gehängt */
+    public MiniCFrontend(ANTLRErrorListener... listeners) {
+        this.listeners = List.of(listeners);
+        lexer.removeErrorListeners();
+        for (ANTLRErrorListener l : listeners) lexer.addErrorListener(l);
+        lexer.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> r, Object sym, int line, int pos, String msg, RecognitionException e) {
+                lexerErrors++;
+            }
+        });
+        warmUp();
+    }
+
+    private void warmUp() {
+        parseTree(CharStreams.fromString(WARMUP_SOURCE));
+        parses = 0;
+        fallbacks = 0;
+    }
+
+    /** Parst eine komplette Datei und liefert den ParseTree. */
+    public MiniCParser.ProgramContext parseTree(CharStream input) {
+        return runProgram(input, null);
+    }
+
+    /**
+     * Parst und baut den AST direkt über den DirectASTBuilder, ohne ParseTree
+     * (setBuildParseTree(false)); ParseTree und AST sind nie gleichzeitig im Speicher.
+     * Top-Level-Statements mit Syntaxfehlern fehlen im Ergebnis (Meldung über die Listener).
+     */
+    public List<AST.Stmt> parseDirect(String source) {
+        AST.beginUnit();
+        DirectASTBuilder builder = new DirectASTBuilder();
+        parser.setBuildParseTree(false);
+        parser.addParseListener(builder);
+        try {
+            runProgram(CharStreams.fromString(source), builder);
+            return builder.result();
+        } finally {
+            parser.removeParseListener(builder);
+            parser.setBuildParseTree(true);
+        }
+    }
+
+    private MiniCParser.ProgramContext runProgram(CharStream input, DirectASTBuilder builder) {
+        lexer.setInputStream(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        parser.setTokenStream(tokens);
+        parses++;
+        lexerErrors = 0;
+
+        // Stufe 1: SLL, beim ersten Fehler abbrechen
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return parser.program();
+        } catch (ParseCancellationException e) {
+            // Stufe 2: volles LL mit Fehlerbehandlung und Meldungen
+            fallbacks++;
+            tokens.seek(0);
+            parser.reset();
+            for (ANTLRErrorListener l : listeners) parser.addErrorListener(l);
+            if (builder != null) {
+                // Stufe 1 hat schon Knoten gebaut: IDs wieder ab 0, Fehler verwerfen ihr Statement
+                builder.reset();
+                AST.beginUnit();
+                parser.addErrorListener(builder.errorListener());
+            }
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.program();
+        }
+    }
+
+    /**
+     * Parst und baut den AST (Liste der Top-Level-Statements). Statements mit Syntaxfehlern
+     * werden übersprungen (Meldung über die Listener), wie beim DirectASTBuilder.
+     */
+    public List<AST.Stmt> parse(String source) {
+        MiniCParser.ProgramContext tree = parseTree(CharStreams.fromString(source));
+        boolean errors = hadErrors();
+
+        AST.beginUnit();
+        ASTBuilder builder = new ASTBuilder();
+        List<AST.Stmt> program = new ArrayList<>();
+        for (MiniCParser.StmtContext sctx : tree.stmt()) {
+            if (errors && containsError(sctx)) continue;
+            AST.ASTNode node = builder.visit(sctx);
+            if (node instanceof AST.Stmt) program.add((AST.Stmt) node);
+            else throw new RuntimeException("Top-level produced non-stmt: " + node);
+        }
+        return program;
+    }
+
+    // Fehlerknoten (übersprungene/eingefügte Tokens) oder abgebrochene Regel im Teilbaum?
+    private static boolean containsError(ParserRuleContext root) {
+        Deque<ParseTree> work = new ArrayDeque<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            ParseTree t = work.pop();
+            if (t instanceof ErrorNode) return true;
+            if (t instanceof ParserRuleContext ctx) {
+                if (ctx.exception != null) return true;
+                for (int i = 0; i < ctx.getChildCount(); i++) work.push(ctx.getChild(i));
+            }
+        }
+        return false;
+    }
+
+    /** Hatte der letzte Parse Lexer- oder Syntaxfehler? */
+    public boolean hadErrors() {
+        return lexerErrors > 0 || parser.getNumberOfSyntaxErrors() > 0;
+    }
+
+    public long getParseCount() { return parses; }
+
+    public long getFallbackCount() { return fallbacks; }
+
+    public void printStats() {
+        System.out.printf("Frontend: %d parses, %d LL fallbacks (%.1f%%)%n",
+                parses, fallbacks, parses == 0 ? 0.0 : 100.0 * fallbacks / parses);
+    }
+}
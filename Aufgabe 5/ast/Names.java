@@ -0,0 +1,93 @@
+package Aufgabe;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names: prozessweiter Interner für Bezeichner. Jeder verschiedene Name bekommt eine
+ * dichte int-ID (0, 1, 2, ...); AST-Knoten und Symboltabelle arbeiten mit diesen IDs,
+ * Namensauflösung vergleicht damit nur noch ints.
+ *
+ * Global statt pro Übersetzung, damit alle AST-Erzeuger (ASTBuilder, DirectASTBuilder,
+ * HandParser, ASTCodec, von Hand gebaute ASTs) dieselben IDs vergeben. Thread-safe:
+ * Lesen ist lock-frei, nur das Anlegen eines neuen Namens synchronisiert.
+ *
+ * Langlebige Prozesse (Daemon, Editor) begrenzen das Wachstum mit Sitzungen (session()):
+ * schließt die letzte offene Sitzung, werden alle seit dem Öffnen der ersten vergebenen
+ * Namen wieder verworfen. Wer IDs über eine Sitzung hinaus behält (AST, Symbole), muss
+ * daher selbst eine offen halten; IDs von vor der ersten Sitzung bleiben immer gültig.
+ */
+public final class Names {
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[256];
+    private static int size = 0;
+    private static int sessions = 0;    // offene Sitzungen
+    private static int base = 0;        // size beim Öffnen der ersten Sitzung
+
+    private Names() {}
+
+    /** Sitzung: hält die in ihr vergebenen IDs gültig, bis sie (und jede andere) geschlossen ist */
+    public static final class Session implements AutoCloseable {
+        private boolean closed = false;
+
+        private Session() {}
+
+        @Override
+        public void close() {
+            synchronized (Names.class) {
+                if (closed) return;
+                closed = true;
+                if (--sessions == 0) truncate(base);
+            }
+        }
+    }
+
+    public static synchronized Session session() {
+        if (sessions++ == 0) base = size;
+        return new Session();
+    }
+
+    // alle IDs ab n verwerfen; nur ohne offene Sitzung, niemand hält sie mehr
+    private static void truncate(int n) {
+        String[] a = names;
+        for (int i = n; i < size; i++) {
+            ids.remove(a[i]);
+            a[i] = null;
+        }
+        size = n;
+        if (a.length > 256 && n < a.length / 4) names = Arrays.copyOf(a, Math.max(256, n * 2));
+    }
+
+    /** ID des Namens, neu vergeben falls noch unbekannt */
+    public static int intern(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : add(name);
+    }
+
+    private static synchronized int add(String name) {
+        Integer id = ids.get(name);
+        if (id != null) return id;
+        String[] a = names;
+        if (size == a.length) a = Arrays.copyOf(a, size * 2);
+        a[size] = name;
+        names = a;
+        ids.put(name, size);    // erst nach dem Eintrag im Array sichtbar machen
+        return size++;
+    }
+
+    /** ID oder -1, ohne den Namen anzulegen (z.B. für Lookups mit beliebigen Strings) */
+    public static int lookup(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    /** der kanonische String zur ID */
+    public static String name(int id) {
+        return names[id];
+    }
+
+    /** Anzahl bisher vergebener IDs (obere Grenze für ID-indizierte Arrays) */
+    public static int count() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,73 @@
+package Aufgabe;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+import org.antlr.v4.runtime.*;
+import parser.*; // passe ggf. an
+
+/**
+ * StreamingFrontend: liest die Eingabe über UnbufferedCharStream/UnbufferedTokenStream
+ * und parst Top-Level-Statements einzeln (Regel stmt statt program).
+ *
+ * Jedes fertige Statement wird sofort als AST an den Consumer gegeben; danach hält das
+ * Frontend weder seine Tokens noch Parser-Kontexte (kein ParseTree, DirectASTBuilder).
+ * Im Speicher liegt damit nur das Zeichen-/Token-Fenster für das aktuelle Statement.
+ *
+ * Kein SLL/LL-Zweistufenparsen: ein Unbuffered-Stream kann nicht zurückgespult werden,
+ * daher wird gleich mit vollem LL und normaler Fehlerbehandlung geparst. Ein Statement mit
+ * Syntaxfehler wird gemeldet (Listener) und nicht weitergereicht; weiter geht es dort, wo die
+ * Fehlerbehandlung wieder aufsetzt.
+ */
+public class StreamingFrontend {
+    private final List<ANTLRErrorListener> listeners;
+
+    public StreamingFrontend() {
+        this(ConsoleErrorListener.INSTANCE);
+    }
+
+    public StreamingFrontend(ANTLRErrorListener... listeners) {
+        this.listeners = List.of(listeners);
+    }
+
+    /** Parst alle Top-Level-Statements aus in und reicht sie in Quellreihenfolge an sink weiter. */
+    public int parse(InputStream in, Consumer<AST.Stmt> sink) {
+        CharStream chars = new UnbufferedCharStream(in, 4096, StandardCharsets.UTF_8);
+        MiniCLexer lexer = new MiniCLexer(chars);
+        // Lexerfehler an dieselben Listener wie die Syntaxfehler (wie MiniCFrontend)
+        lexer.removeErrorListeners();
+        for (ANTLRErrorListener l : listeners) lexer.addErrorListener(l);
+        // Tokens müssen ihren Text kopieren, der Zeichenpuffer wird laufend verworfen
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        TokenStream tokens = new UnbufferedTokenStream<CommonToken>(lexer);
+
+        MiniCParser parser = new MiniCParser(tokens);
+        parser.setBuildParseTree(false);
+        DirectASTBuilder builder = new DirectASTBuilder();
+        parser.addParseListener(builder);
+        parser.removeErrorListeners();
+        for (ANTLRErrorListener l : listeners) parser.addErrorListener(l);
+        parser.addErrorListener(builder.errorListener());     // Statements mit Fehler verwerfen
+
+        AST.beginUnit();
+        int count = 0;
+        while (tokens.LA(1) != Token.EOF) {
+            int before = tokens.index();
+            parser.stmt();
+            for (AST.Stmt s : builder.result()) {
+                sink.accept(s);
+                count++;
+            }
+            // Fehlerbehandlung hat nichts verbraucht -> ein Token überspringen, sonst Endlosschleife
+            if (tokens.index() == before) tokens.consume();
+        }
+        return count;
+    }
+
+    public int parse(String path, Consumer<AST.Stmt> sink) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(path))) {
+            return parse(in, sink);
+        }
+    }
+}
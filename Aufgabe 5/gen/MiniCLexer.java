@@ -17,9 +17,9 @@ public class MiniCLexer extends Lexer {
 		new PredictionContextCache();
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
-		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
-		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
-		ID=25, NUMBER=26, STRING=27, COMMENT=28, WS=29;
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, MUL=15, DIV=16, PLUS=17, 
+		MINUS=18, GT=19, LT=20, EQ=21, NEQ=22, TRUE=23, FALSE=24, ID=25, NUMBER=26, 
+		STRING=27, COMMENT=28, WS=29;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -31,9 +31,9 @@ public class MiniCLexer extends Lexer {
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
-			"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
-			"T__17", "T__18", "T__19", "T__20", "T__21", "T__22", "T__23", "ID", 
-			"NUMBER", "STRING", "COMMENT", "WS"
+			"T__9", "T__10", "T__11", "T__12", "T__13", "MUL", "DIV", "PLUS", "MINUS", 
+			"GT", "LT", "EQ", "NEQ", "TRUE", "FALSE", "ID", "NUMBER", "STRING", "COMMENT", 
+			"WS"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -41,16 +41,16 @@ public class MiniCLexer extends Lexer {
 	private static String[] makeLiteralNames() {
 		return new String[] {
 			null, "';'", "'='", "'('", "')'", "','", "'return'", "'{'", "'}'", "'while'", 
-			"'if'", "'else'", "'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", "'!='", 
-			"'T'", "'F'", "'int'", "'string'", "'bool'"
+			"'if'", "'else'", "'int'", "'string'", "'bool'", "'*'", "'/'", "'+'", 
+			"'-'", "'>'", "'<'", "'=='", "'!='", "'T'", "'F'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, "ID", "NUMBER", "STRING", "COMMENT", "WS"
+			null, null, null, "MUL", "DIV", "PLUS", "MINUS", "GT", "LT", "EQ", "NEQ", 
+			"TRUE", "FALSE", "ID", "NUMBER", "STRING", "COMMENT", "WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -127,95 +127,95 @@ public class MiniCLexer extends Lexer {
 		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0007"+
 		"\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001"+
 		"\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
-		"\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000f\u0001"+
-		"\u000f\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0014\u0001"+
-		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
-		"\u0018\u0005\u0018\u0087\b\u0018\n\u0018\f\u0018\u008a\t\u0018\u0001\u0019"+
-		"\u0004\u0019\u008d\b\u0019\u000b\u0019\f\u0019\u008e\u0001\u001a\u0001"+
-		"\u001a\u0005\u001a\u0093\b\u001a\n\u001a\f\u001a\u0096\t\u001a\u0001\u001a"+
-		"\u0001\u001a\u0001\u001b\u0001\u001b\u0005\u001b\u009c\b\u001b\n\u001b"+
-		"\f\u001b\u009f\t\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0004\u001c"+
-		"\u00a4\b\u001c\u000b\u001c\f\u001c\u00a5\u0001\u001c\u0001\u001c\u0000"+
-		"\u0000\u001d\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t\u0005\u000b"+
-		"\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f\u0019\r\u001b"+
-		"\u000e\u001d\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014)\u0015+\u0016"+
-		"-\u0017/\u00181\u00193\u001a5\u001b7\u001c9\u001d\u0001\u0000\u0006\u0002"+
-		"\u0000AZaz\u0003\u000009AZaz\u0001\u000009\u0003\u0000\n\n\r\r\"\"\u0002"+
-		"\u0000\n\n\r\r\u0003\u0000\t\n\r\r  \u00ad\u0000\u0001\u0001\u0000\u0000"+
-		"\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000"+
-		"\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000"+
-		"\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000"+
-		"\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000"+
-		"\u0013\u0001\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000"+
-		"\u0017\u0001\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000"+
-		"\u001b\u0001\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000"+
-		"\u001f\u0001\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001"+
-		"\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000"+
-		"\u0000\u0000\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000"+
-		"\u0000-\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001"+
-		"\u0001\u0000\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000"+
-		"\u0000\u0000\u00007\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000"+
-		"\u0001;\u0001\u0000\u0000\u0000\u0003=\u0001\u0000\u0000\u0000\u0005?"+
-		"\u0001\u0000\u0000\u0000\u0007A\u0001\u0000\u0000\u0000\tC\u0001\u0000"+
-		"\u0000\u0000\u000bE\u0001\u0000\u0000\u0000\rL\u0001\u0000\u0000\u0000"+
-		"\u000fN\u0001\u0000\u0000\u0000\u0011P\u0001\u0000\u0000\u0000\u0013V"+
-		"\u0001\u0000\u0000\u0000\u0015Y\u0001\u0000\u0000\u0000\u0017^\u0001\u0000"+
-		"\u0000\u0000\u0019`\u0001\u0000\u0000\u0000\u001bb\u0001\u0000\u0000\u0000"+
-		"\u001dd\u0001\u0000\u0000\u0000\u001ff\u0001\u0000\u0000\u0000!h\u0001"+
-		"\u0000\u0000\u0000#j\u0001\u0000\u0000\u0000%m\u0001\u0000\u0000\u0000"+
-		"\'p\u0001\u0000\u0000\u0000)r\u0001\u0000\u0000\u0000+t\u0001\u0000\u0000"+
-		"\u0000-x\u0001\u0000\u0000\u0000/\u007f\u0001\u0000\u0000\u00001\u0084"+
-		"\u0001\u0000\u0000\u00003\u008c\u0001\u0000\u0000\u00005\u0090\u0001\u0000"+
-		"\u0000\u00007\u0099\u0001\u0000\u0000\u00009\u00a3\u0001\u0000\u0000\u0000"+
-		";<\u0005;\u0000\u0000<\u0002\u0001\u0000\u0000\u0000=>\u0005=\u0000\u0000"+
-		">\u0004\u0001\u0000\u0000\u0000?@\u0005(\u0000\u0000@\u0006\u0001\u0000"+
-		"\u0000\u0000AB\u0005)\u0000\u0000B\b\u0001\u0000\u0000\u0000CD\u0005,"+
-		"\u0000\u0000D\n\u0001\u0000\u0000\u0000EF\u0005r\u0000\u0000FG\u0005e"+
-		"\u0000\u0000GH\u0005t\u0000\u0000HI\u0005u\u0000\u0000IJ\u0005r\u0000"+
-		"\u0000JK\u0005n\u0000\u0000K\f\u0001\u0000\u0000\u0000LM\u0005{\u0000"+
-		"\u0000M\u000e\u0001\u0000\u0000\u0000NO\u0005}\u0000\u0000O\u0010\u0001"+
-		"\u0000\u0000\u0000PQ\u0005w\u0000\u0000QR\u0005h\u0000\u0000RS\u0005i"+
-		"\u0000\u0000ST\u0005l\u0000\u0000TU\u0005e\u0000\u0000U\u0012\u0001\u0000"+
-		"\u0000\u0000VW\u0005i\u0000\u0000WX\u0005f\u0000\u0000X\u0014\u0001\u0000"+
-		"\u0000\u0000YZ\u0005e\u0000\u0000Z[\u0005l\u0000\u0000[\\\u0005s\u0000"+
-		"\u0000\\]\u0005e\u0000\u0000]\u0016\u0001\u0000\u0000\u0000^_\u0005*\u0000"+
-		"\u0000_\u0018\u0001\u0000\u0000\u0000`a\u0005/\u0000\u0000a\u001a\u0001"+
-		"\u0000\u0000\u0000bc\u0005+\u0000\u0000c\u001c\u0001\u0000\u0000\u0000"+
-		"de\u0005-\u0000\u0000e\u001e\u0001\u0000\u0000\u0000fg\u0005>\u0000\u0000"+
-		"g \u0001\u0000\u0000\u0000hi\u0005<\u0000\u0000i\"\u0001\u0000\u0000\u0000"+
-		"jk\u0005=\u0000\u0000kl\u0005=\u0000\u0000l$\u0001\u0000\u0000\u0000m"+
-		"n\u0005!\u0000\u0000no\u0005=\u0000\u0000o&\u0001\u0000\u0000\u0000pq"+
-		"\u0005T\u0000\u0000q(\u0001\u0000\u0000\u0000rs\u0005F\u0000\u0000s*\u0001"+
-		"\u0000\u0000\u0000tu\u0005i\u0000\u0000uv\u0005n\u0000\u0000vw\u0005t"+
-		"\u0000\u0000w,\u0001\u0000\u0000\u0000xy\u0005s\u0000\u0000yz\u0005t\u0000"+
-		"\u0000z{\u0005r\u0000\u0000{|\u0005i\u0000\u0000|}\u0005n\u0000\u0000"+
-		"}~\u0005g\u0000\u0000~.\u0001\u0000\u0000\u0000\u007f\u0080\u0005b\u0000"+
-		"\u0000\u0080\u0081\u0005o\u0000\u0000\u0081\u0082\u0005o\u0000\u0000\u0082"+
-		"\u0083\u0005l\u0000\u0000\u00830\u0001\u0000\u0000\u0000\u0084\u0088\u0007"+
-		"\u0000\u0000\u0000\u0085\u0087\u0007\u0001\u0000\u0000\u0086\u0085\u0001"+
-		"\u0000\u0000\u0000\u0087\u008a\u0001\u0000\u0000\u0000\u0088\u0086\u0001"+
-		"\u0000\u0000\u0000\u0088\u0089\u0001\u0000\u0000\u0000\u00892\u0001\u0000"+
-		"\u0000\u0000\u008a\u0088\u0001\u0000\u0000\u0000\u008b\u008d\u0007\u0002"+
-		"\u0000\u0000\u008c\u008b\u0001\u0000\u0000\u0000\u008d\u008e\u0001\u0000"+
-		"\u0000\u0000\u008e\u008c\u0001\u0000\u0000\u0000\u008e\u008f\u0001\u0000"+
-		"\u0000\u0000\u008f4\u0001\u0000\u0000\u0000\u0090\u0094\u0005\"\u0000"+
-		"\u0000\u0091\u0093\b\u0003\u0000\u0000\u0092\u0091\u0001\u0000\u0000\u0000"+
-		"\u0093\u0096\u0001\u0000\u0000\u0000\u0094\u0092\u0001\u0000\u0000\u0000"+
-		"\u0094\u0095\u0001\u0000\u0000\u0000\u0095\u0097\u0001\u0000\u0000\u0000"+
-		"\u0096\u0094\u0001\u0000\u0000\u0000\u0097\u0098\u0005\"\u0000\u0000\u0098"+
-		"6\u0001\u0000\u0000\u0000\u0099\u009d\u0005#\u0000\u0000\u009a\u009c\b"+
-		"\u0004\u0000\u0000\u009b\u009a\u0001\u0000\u0000\u0000\u009c\u009f\u0001"+
-		"\u0000\u0000\u0000\u009d\u009b\u0001\u0000\u0000\u0000\u009d\u009e\u0001"+
-		"\u0000\u0000\u0000\u009e\u00a0\u0001\u0000\u0000\u0000\u009f\u009d\u0001"+
-		"\u0000\u0000\u0000\u00a0\u00a1\u0006\u001b\u0000\u0000\u00a18\u0001\u0000"+
-		"\u0000\u0000\u00a2\u00a4\u0007\u0005\u0000\u0000\u00a3\u00a2\u0001\u0000"+
-		"\u0000\u0000\u00a4\u00a5\u0001\u0000\u0000\u0000\u00a5\u00a3\u0001\u0000"+
-		"\u0000\u0000\u00a5\u00a6\u0001\u0000\u0000\u0000\u00a6\u00a7\u0001\u0000"+
-		"\u0000\u0000\u00a7\u00a8\u0006\u001c\u0000\u0000\u00a8:\u0001\u0000\u0000"+
-		"\u0000\u0006\u0000\u0088\u008e\u0094\u009d\u00a5\u0001\u0006\u0000\u0000";
+		"\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e"+
+		"\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011"+
+		"\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014"+
+		"\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016"+
+		"\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0005\u0018\u0087\b\u0018"+
+		"\n\u0018\f\u0018\u008a\t\u0018\u0001\u0019\u0004\u0019\u008d\b\u0019\u000b"+
+		"\u0019\f\u0019\u008e\u0001\u001a\u0001\u001a\u0005\u001a\u0093\b\u001a"+
+		"\n\u001a\f\u001a\u0096\t\u001a\u0001\u001a\u0001\u001a\u0001\u001b\u0001"+
+		"\u001b\u0005\u001b\u009c\b\u001b\n\u001b\f\u001b\u009f\t\u001b\u0001\u001b"+
+		"\u0001\u001b\u0001\u001c\u0004\u001c\u00a4\b\u001c\u000b\u001c\f\u001c"+
+		"\u00a5\u0001\u001c\u0001\u001c\u0000\u0000\u001d\u0001\u0001\u0003\u0002"+
+		"\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013"+
+		"\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011"+
+		"#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b"+
+		"7\u001c9\u001d\u0001\u0000\u0006\u0002\u0000AZaz\u0003\u000009AZaz\u0001"+
+		"\u000009\u0003\u0000\n\n\r\r\"\"\u0002\u0000\n\n\r\r\u0003\u0000\t\n\r"+
+		"\r  \u00ad\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000"+
+		"\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000"+
+		"\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000"+
+		"\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000"+
+		"\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000"+
+		"\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000"+
+		"\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000"+
+		"\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000"+
+		"\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%"+
+		"\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001"+
+		"\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000"+
+		"\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u0000"+
+		"3\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001"+
+		"\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0001;\u0001\u0000\u0000"+
+		"\u0000\u0003=\u0001\u0000\u0000\u0000\u0005?\u0001\u0000\u0000\u0000\u0007"+
+		"A\u0001\u0000\u0000\u0000\tC\u0001\u0000\u0000\u0000\u000bE\u0001\u0000"+
+		"\u0000\u0000\rL\u0001\u0000\u0000\u0000\u000fN\u0001\u0000\u0000\u0000"+
+		"\u0011P\u0001\u0000\u0000\u0000\u0013V\u0001\u0000\u0000\u0000\u0015Y"+
+		"\u0001\u0000\u0000\u0000\u0017^\u0001\u0000\u0000\u0000\u0019b\u0001\u0000"+
+		"\u0000\u0000\u001bi\u0001\u0000\u0000\u0000\u001dn\u0001\u0000\u0000\u0000"+
+		"\u001fp\u0001\u0000\u0000\u0000!r\u0001\u0000\u0000\u0000#t\u0001\u0000"+
+		"\u0000\u0000%v\u0001\u0000\u0000\u0000\'x\u0001\u0000\u0000\u0000)z\u0001"+
+		"\u0000\u0000\u0000+}\u0001\u0000\u0000\u0000-\u0080\u0001\u0000\u0000"+
+		"\u0000/\u0082\u0001\u0000\u0000\u00001\u0084\u0001\u0000\u0000\u00003"+
+		"\u008c\u0001\u0000\u0000\u00005\u0090\u0001\u0000\u0000\u00007\u0099\u0001"+
+		"\u0000\u0000\u00009\u00a3\u0001\u0000\u0000\u0000;<\u0005;\u0000\u0000"+
+		"<\u0002\u0001\u0000\u0000\u0000=>\u0005=\u0000\u0000>\u0004\u0001\u0000"+
+		"\u0000\u0000?@\u0005(\u0000\u0000@\u0006\u0001\u0000\u0000\u0000AB\u0005"+
+		")\u0000\u0000B\b\u0001\u0000\u0000\u0000CD\u0005,\u0000\u0000D\n\u0001"+
+		"\u0000\u0000\u0000EF\u0005r\u0000\u0000FG\u0005e\u0000\u0000GH\u0005t"+
+		"\u0000\u0000HI\u0005u\u0000\u0000IJ\u0005r\u0000\u0000JK\u0005n\u0000"+
+		"\u0000K\f\u0001\u0000\u0000\u0000LM\u0005{\u0000\u0000M\u000e\u0001\u0000"+
+		"\u0000\u0000NO\u0005}\u0000\u0000O\u0010\u0001\u0000\u0000\u0000PQ\u0005"+
+		"w\u0000\u0000QR\u0005h\u0000\u0000RS\u0005i\u0000\u0000ST\u0005l\u0000"+
+		"\u0000TU\u0005e\u0000\u0000U\u0012\u0001\u0000\u0000\u0000VW\u0005i\u0000"+
+		"\u0000WX\u0005f\u0000\u0000X\u0014\u0001\u0000\u0000\u0000YZ\u0005e\u0000"+
+		"\u0000Z[\u0005l\u0000\u0000[\\\u0005s\u0000\u0000\\]\u0005e\u0000\u0000"+
+		"]\u0016\u0001\u0000\u0000\u0000^_\u0005i\u0000\u0000_`\u0005n\u0000\u0000"+
+		"`a\u0005t\u0000\u0000a\u0018\u0001\u0000\u0000\u0000bc\u0005s\u0000\u0000"+
+		"cd\u0005t\u0000\u0000de\u0005r\u0000\u0000ef\u0005i\u0000\u0000fg\u0005"+
+		"n\u0000\u0000gh\u0005g\u0000\u0000h\u001a\u0001\u0000\u0000\u0000ij\u0005"+
+		"b\u0000\u0000jk\u0005o\u0000\u0000kl\u0005o\u0000\u0000lm\u0005l\u0000"+
+		"\u0000m\u001c\u0001\u0000\u0000\u0000no\u0005*\u0000\u0000o\u001e\u0001"+
+		"\u0000\u0000\u0000pq\u0005/\u0000\u0000q \u0001\u0000\u0000\u0000rs\u0005"+
+		"+\u0000\u0000s\"\u0001\u0000\u0000\u0000tu\u0005-\u0000\u0000u$\u0001"+
+		"\u0000\u0000\u0000vw\u0005>\u0000\u0000w&\u0001\u0000\u0000\u0000xy\u0005"+
+		"<\u0000\u0000y(\u0001\u0000\u0000\u0000z{\u0005=\u0000\u0000{|\u0005="+
+		"\u0000\u0000|*\u0001\u0000\u0000\u0000}~\u0005!\u0000\u0000~\u007f\u0005"+
+		"=\u0000\u0000\u007f,\u0001\u0000\u0000\u0000\u0080\u0081\u0005T\u0000"+
+		"\u0000\u0081.\u0001\u0000\u0000\u0000\u0082\u0083\u0005F\u0000\u0000\u0083"+
+		"0\u0001\u0000\u0000\u0000\u0084\u0088\u0007\u0000\u0000\u0000\u0085\u0087"+
+		"\u0007\u0001\u0000\u0000\u0086\u0085\u0001\u0000\u0000\u0000\u0087\u008a"+
+		"\u0001\u0000\u0000\u0000\u0088\u0086\u0001\u0000\u0000\u0000\u0088\u0089"+
+		"\u0001\u0000\u0000\u0000\u00892\u0001\u0000\u0000\u0000\u008a\u0088\u0001"+
+		"\u0000\u0000\u0000\u008b\u008d\u0007\u0002\u0000\u0000\u008c\u008b\u0001"+
+		"\u0000\u0000\u0000\u008d\u008e\u0001\u0000\u0000\u0000\u008e\u008c\u0001"+
+		"\u0000\u0000\u0000\u008e\u008f\u0001\u0000\u0000\u0000\u008f4\u0001\u0000"+
+		"\u0000\u0000\u0090\u0094\u0005\"\u0000\u0000\u0091\u0093\b\u0003\u0000"+
+		"\u0000\u0092\u0091\u0001\u0000\u0000\u0000\u0093\u0096\u0001\u0000\u0000"+
+		"\u0000\u0094\u0092\u0001\u0000\u0000\u0000\u0094\u0095\u0001\u0000\u0000"+
+		"\u0000\u0095\u0097\u0001\u0000\u0000\u0000\u0096\u0094\u0001\u0000\u0000"+
+		"\u0000\u0097\u0098\u0005\"\u0000\u0000\u00986\u0001\u0000\u0000\u0000"+
+		"\u0099\u009d\u0005#\u0000\u0000\u009a\u009c\b\u0004\u0000\u0000\u009b"+
+		"\u009a\u0001\u0000\u0000\u0000\u009c\u009f\u0001\u0000\u0000\u0000\u009d"+
+		"\u009b\u0001\u0000\u0000\u0000\u009d\u009e\u0001\u0000\u0000\u0000\u009e"+
+		"\u00a0\u0001\u0000\u0000\u0000\u009f\u009d\u0001\u0000\u0000\u0000\u00a0"+
+		"\u00a1\u0006\u001b\u0000\u0000\u00a18\u0001\u0000\u0000\u0000\u00a2\u00a4"+
+		"\u0007\u0005\u0000\u0000\u00a3\u00a2\u0001\u0000\u0000\u0000\u00a4\u00a5"+
+		"\u0001\u0000\u0000\u0000\u00a5\u00a3\u0001\u0000\u0000\u0000\u00a5\u00a6"+
+		"\u0001\u0000\u0000\u0000\u00a6\u00a7\u0001\u0000\u0000\u0000\u00a7\u00a8"+
+		"\u0006\u001c\u0000\u0000\u00a8:\u0001\u0000\u0000\u0000\u0006\u0000\u0088"+
+		"\u008e\u0094\u009d\u00a5\u0001\u0006\u0000\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -26,6 +26,16 @@ public interface MiniCListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitStmt(MiniCParser.StmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link MiniCParser#expr_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_stmt(MiniCParser.Expr_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link MiniCParser#expr_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_stmt(MiniCParser.Expr_stmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link MiniCParser#vardecl}.
 	 * @param ctx the parse tree
@@ -127,15 +137,89 @@ public interface MiniCListener extends ParseTreeListener {
 	 */
 	void exitCond(MiniCParser.CondContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link MiniCParser#expr}.
+	 * Enter a parse tree produced by the {@code call}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterCall(MiniCParser.CallContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code call}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitCall(MiniCParser.CallContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code number}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumber(MiniCParser.NumberContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code number}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumber(MiniCParser.NumberContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code paren}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterParen(MiniCParser.ParenContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code paren}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitParen(MiniCParser.ParenContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code string}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterString(MiniCParser.StringContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code string}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitString(MiniCParser.StringContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code boolLit}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterBoolLit(MiniCParser.BoolLitContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code boolLit}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitBoolLit(MiniCParser.BoolLitContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code binary}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterBinary(MiniCParser.BinaryContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code binary}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitBinary(MiniCParser.BinaryContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code variable}
+	 * labeled alternative in {@link MiniCParser#expr}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpr(MiniCParser.ExprContext ctx);
+	void enterVariable(MiniCParser.VariableContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link MiniCParser#expr}.
+	 * Exit a parse tree produced by the {@code variable}
+	 * labeled alternative in {@link MiniCParser#expr}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpr(MiniCParser.ExprContext ctx);
+	void exitVariable(MiniCParser.VariableContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link MiniCParser#type}.
 	 * @param ctx the parse tree
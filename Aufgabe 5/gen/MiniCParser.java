@@ -17,17 +17,18 @@ public class MiniCParser extends Parser {
 		new PredictionContextCache();
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
-		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
-		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
-		ID=25, NUMBER=26, STRING=27, COMMENT=28, WS=29;
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, MUL=15, DIV=16, PLUS=17, 
+		MINUS=18, GT=19, LT=20, EQ=21, NEQ=22, TRUE=23, FALSE=24, ID=25, NUMBER=26, 
+		STRING=27, COMMENT=28, WS=29;
 	public static final int
-		RULE_program = 0, RULE_stmt = 1, RULE_vardecl = 2, RULE_assign = 3, RULE_fndecl = 4, 
-		RULE_params = 5, RULE_return = 6, RULE_fncall = 7, RULE_args = 8, RULE_block = 9, 
-		RULE_while = 10, RULE_cond = 11, RULE_expr = 12, RULE_type = 13;
+		RULE_program = 0, RULE_stmt = 1, RULE_expr_stmt = 2, RULE_vardecl = 3, 
+		RULE_assign = 4, RULE_fndecl = 5, RULE_params = 6, RULE_return = 7, RULE_fncall = 8, 
+		RULE_args = 9, RULE_block = 10, RULE_while = 11, RULE_cond = 12, RULE_expr = 13, 
+		RULE_type = 14;
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"program", "stmt", "vardecl", "assign", "fndecl", "params", "return", 
-			"fncall", "args", "block", "while", "cond", "expr", "type"
+			"program", "stmt", "expr_stmt", "vardecl", "assign", "fndecl", "params", 
+			"return", "fncall", "args", "block", "while", "cond", "expr", "type"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -35,16 +36,16 @@ public class MiniCParser extends Parser {
 	private static String[] makeLiteralNames() {
 		return new String[] {
 			null, "';'", "'='", "'('", "')'", "','", "'return'", "'{'", "'}'", "'while'", 
-			"'if'", "'else'", "'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", "'!='", 
-			"'T'", "'F'", "'int'", "'string'", "'bool'"
+			"'if'", "'else'", "'int'", "'string'", "'bool'", "'*'", "'/'", "'+'", 
+			"'-'", "'>'", "'<'", "'=='", "'!='", "'T'", "'F'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, "ID", "NUMBER", "STRING", "COMMENT", "WS"
+			null, null, null, "MUL", "DIV", "PLUS", "MINUS", "GT", "LT", "EQ", "NEQ", 
+			"TRUE", "FALSE", "ID", "NUMBER", "STRING", "COMMENT", "WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -113,15 +114,15 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_program; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterProgram(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterProgram(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitProgram(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitProgram(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitProgram(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitProgram(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -133,21 +134,21 @@ public class MiniCParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(29); 
+			setState(31); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(28);
+				setState(30);
 				stmt();
 				}
 				}
-				setState(31); 
+				setState(33); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 267388616L) != 0) );
-			setState(33);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 260077256L) != 0) );
+			setState(35);
 			match(EOF);
 			}
 		}
@@ -173,8 +174,8 @@ public class MiniCParser extends Parser {
 		public FndeclContext fndecl() {
 			return getRuleContext(FndeclContext.class,0);
 		}
-		public ExprContext expr() {
-			return getRuleContext(ExprContext.class,0);
+		public Expr_stmtContext expr_stmt() {
+			return getRuleContext(Expr_stmtContext.class,0);
 		}
 		public BlockContext block() {
 			return getRuleContext(BlockContext.class,0);
@@ -194,15 +195,15 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterStmt(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterStmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitStmt(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitStmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitStmt(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitStmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -217,31 +218,29 @@ public class MiniCParser extends Parser {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(35);
+				setState(37);
 				vardecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(36);
+				setState(38);
 				assign();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(37);
+				setState(39);
 				fndecl();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(38);
-				expr(0);
-				setState(39);
-				match(T__0);
+				setState(40);
+				expr_stmt();
 				}
 				break;
 			case 5:
@@ -285,6 +284,53 @@ public class MiniCParser extends Parser {
 		return _localctx;
 	}
 
+	@SuppressWarnings("CheckReturnValue")
+	public static class Expr_stmtContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Expr_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterExpr_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitExpr_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitExpr_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Expr_stmtContext expr_stmt() throws RecognitionException {
+		Expr_stmtContext _localctx = new Expr_stmtContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_expr_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(47);
+			expr(0);
+			setState(48);
+			match(T__0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	@SuppressWarnings("CheckReturnValue")
 	public static class VardeclContext extends ParserRuleContext {
 		public TypeContext type() {
@@ -300,43 +346,43 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_vardecl; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterVardecl(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterVardecl(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitVardecl(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitVardecl(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitVardecl(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitVardecl(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final VardeclContext vardecl() throws RecognitionException {
 		VardeclContext _localctx = new VardeclContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_vardecl);
+		enterRule(_localctx, 6, RULE_vardecl);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(47);
+			setState(50);
 			type();
-			setState(48);
-			match(ID);
 			setState(51);
+			match(ID);
+			setState(54);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__1) {
 				{
-				setState(49);
+				setState(52);
 				match(T__1);
-				setState(50);
+				setState(53);
 				expr(0);
 				}
 			}
 
-			setState(53);
+			setState(56);
 			match(T__0);
 			}
 		}
@@ -363,32 +409,32 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_assign; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterAssign(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterAssign(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitAssign(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitAssign(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitAssign(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitAssign(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final AssignContext assign() throws RecognitionException {
 		AssignContext _localctx = new AssignContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_assign);
+		enterRule(_localctx, 8, RULE_assign);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(55);
+			setState(58);
 			match(ID);
-			setState(56);
+			setState(59);
 			match(T__1);
-			setState(57);
+			setState(60);
 			expr(0);
-			setState(58);
+			setState(61);
 			match(T__0);
 			}
 		}
@@ -421,45 +467,45 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_fndecl; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterFndecl(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterFndecl(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitFndecl(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitFndecl(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitFndecl(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitFndecl(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final FndeclContext fndecl() throws RecognitionException {
 		FndeclContext _localctx = new FndeclContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_fndecl);
+		enterRule(_localctx, 10, RULE_fndecl);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(60);
+			setState(63);
 			type();
-			setState(61);
+			setState(64);
 			match(ID);
-			setState(62);
+			setState(65);
 			match(T__2);
-			setState(64);
+			setState(67);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 29360128L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 28672L) != 0)) {
 				{
-				setState(63);
+				setState(66);
 				params();
 				}
 			}
 
-			setState(66);
+			setState(69);
 			match(T__3);
-			setState(67);
+			setState(70);
 			block();
 			}
 		}
@@ -492,45 +538,45 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_params; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterParams(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterParams(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitParams(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitParams(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitParams(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitParams(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final ParamsContext params() throws RecognitionException {
 		ParamsContext _localctx = new ParamsContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_params);
+		enterRule(_localctx, 12, RULE_params);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(69);
+			setState(72);
 			type();
-			setState(70);
+			setState(73);
 			match(ID);
-			setState(77);
+			setState(80);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__4) {
 				{
 				{
-				setState(71);
+				setState(74);
 				match(T__4);
-				setState(72);
+				setState(75);
 				type();
-				setState(73);
+				setState(76);
 				match(ID);
 				}
 				}
-				setState(79);
+				setState(82);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -558,30 +604,30 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_return; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterReturn(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterReturn(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitReturn(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitReturn(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitReturn(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitReturn(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final ReturnContext return_() throws RecognitionException {
 		ReturnContext _localctx = new ReturnContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_return);
+		enterRule(_localctx, 14, RULE_return);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(80);
+			setState(83);
 			match(T__5);
-			setState(81);
+			setState(84);
 			expr(0);
-			setState(82);
+			setState(85);
 			match(T__0);
 			}
 		}
@@ -608,41 +654,41 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_fncall; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterFncall(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterFncall(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitFncall(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitFncall(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitFncall(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitFncall(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final FncallContext fncall() throws RecognitionException {
 		FncallContext _localctx = new FncallContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_fncall);
+		enterRule(_localctx, 16, RULE_fncall);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(84);
+			setState(87);
 			match(ID);
-			setState(85);
+			setState(88);
 			match(T__2);
-			setState(87);
+			setState(90);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 238026760L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 260046856L) != 0)) {
 				{
-				setState(86);
+				setState(89);
 				args();
 				}
 			}
 
-			setState(89);
+			setState(92);
 			match(T__3);
 			}
 		}
@@ -671,41 +717,41 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_args; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterArgs(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterArgs(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitArgs(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitArgs(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitArgs(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitArgs(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final ArgsContext args() throws RecognitionException {
 		ArgsContext _localctx = new ArgsContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_args);
+		enterRule(_localctx, 18, RULE_args);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(91);
+			setState(94);
 			expr(0);
-			setState(96);
+			setState(99);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__4) {
 				{
 				{
-				setState(92);
+				setState(95);
 				match(T__4);
-				setState(93);
+				setState(96);
 				expr(0);
 				}
 				}
-				setState(98);
+				setState(101);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -736,43 +782,43 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_block; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterBlock(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterBlock(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitBlock(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitBlock(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitBlock(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitBlock(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final BlockContext block() throws RecognitionException {
 		BlockContext _localctx = new BlockContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_block);
+		enterRule(_localctx, 20, RULE_block);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(99);
+			setState(102);
 			match(T__6);
-			setState(103);
+			setState(106);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 267388616L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 260077256L) != 0)) {
 				{
 				{
-				setState(100);
+				setState(103);
 				stmt();
 				}
 				}
-				setState(105);
+				setState(108);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(106);
+			setState(109);
 			match(T__7);
 			}
 		}
@@ -801,34 +847,34 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_while; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterWhile(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterWhile(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitWhile(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitWhile(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitWhile(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitWhile(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final WhileContext while_() throws RecognitionException {
 		WhileContext _localctx = new WhileContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_while);
+		enterRule(_localctx, 22, RULE_while);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(108);
+			setState(111);
 			match(T__8);
-			setState(109);
+			setState(112);
 			match(T__2);
-			setState(110);
+			setState(113);
 			expr(0);
-			setState(111);
+			setState(114);
 			match(T__3);
-			setState(112);
+			setState(115);
 			block();
 			}
 		}
@@ -860,44 +906,44 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_cond; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterCond(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterCond(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitCond(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitCond(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitCond(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitCond(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final CondContext cond() throws RecognitionException {
 		CondContext _localctx = new CondContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_cond);
+		enterRule(_localctx, 24, RULE_cond);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(114);
+			setState(117);
 			match(T__9);
-			setState(115);
+			setState(118);
 			match(T__2);
-			setState(116);
+			setState(119);
 			expr(0);
-			setState(117);
+			setState(120);
 			match(T__3);
-			setState(118);
-			block();
 			setState(121);
+			block();
+			setState(124);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__10) {
 				{
-				setState(119);
+				setState(122);
 				match(T__10);
-				setState(120);
+				setState(123);
 				block();
 				}
 			}
@@ -917,33 +963,158 @@ public class MiniCParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ExprContext extends ParserRuleContext {
+		public ExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr; }
+	 
+		public ExprContext() { }
+		public void copyFrom(ExprContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class CallContext extends ExprContext {
 		public FncallContext fncall() {
 			return getRuleContext(FncallContext.class,0);
 		}
-		public TerminalNode ID() { return getToken(MiniCParser.ID, 0); }
+		public CallContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterCall(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitCall(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitCall(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class NumberContext extends ExprContext {
 		public TerminalNode NUMBER() { return getToken(MiniCParser.NUMBER, 0); }
+		public NumberContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterNumber(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitNumber(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitNumber(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ParenContext extends ExprContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public ParenContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterParen(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitParen(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitParen(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class StringContext extends ExprContext {
 		public TerminalNode STRING() { return getToken(MiniCParser.STRING, 0); }
+		public StringContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterString(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitString(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitString(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class BoolLitContext extends ExprContext {
+		public TerminalNode TRUE() { return getToken(MiniCParser.TRUE, 0); }
+		public TerminalNode FALSE() { return getToken(MiniCParser.FALSE, 0); }
+		public BoolLitContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterBoolLit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitBoolLit(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitBoolLit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class BinaryContext extends ExprContext {
+		public Token op;
 		public List<ExprContext> expr() {
 			return getRuleContexts(ExprContext.class);
 		}
 		public ExprContext expr(int i) {
 			return getRuleContext(ExprContext.class,i);
 		}
-		public ExprContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public TerminalNode MUL() { return getToken(MiniCParser.MUL, 0); }
+		public TerminalNode DIV() { return getToken(MiniCParser.DIV, 0); }
+		public TerminalNode PLUS() { return getToken(MiniCParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(MiniCParser.MINUS, 0); }
+		public TerminalNode GT() { return getToken(MiniCParser.GT, 0); }
+		public TerminalNode LT() { return getToken(MiniCParser.LT, 0); }
+		public TerminalNode EQ() { return getToken(MiniCParser.EQ, 0); }
+		public TerminalNode NEQ() { return getToken(MiniCParser.NEQ, 0); }
+		public BinaryContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterBinary(this);
 		}
-		@Override public int getRuleIndex() { return RULE_expr; }
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitBinary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitBinary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class VariableContext extends ExprContext {
+		public TerminalNode ID() { return getToken(MiniCParser.ID, 0); }
+		public VariableContext(ExprContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterExpr(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterVariable(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitExpr(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitVariable(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitExpr(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitVariable(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -957,65 +1128,87 @@ public class MiniCParser extends Parser {
 		int _parentState = getState();
 		ExprContext _localctx = new ExprContext(_ctx, _parentState);
 		ExprContext _prevctx = _localctx;
-		int _startState = 24;
-		enterRecursionRule(_localctx, 24, RULE_expr, _p);
+		int _startState = 26;
+		enterRecursionRule(_localctx, 26, RULE_expr, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(134);
+			setState(137);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
 			case 1:
 				{
-				setState(124);
+				_localctx = new CallContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+
+				setState(127);
 				fncall();
 				}
 				break;
 			case 2:
 				{
-				setState(125);
+				_localctx = new VariableContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(128);
 				match(ID);
 				}
 				break;
 			case 3:
 				{
-				setState(126);
+				_localctx = new NumberContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(129);
 				match(NUMBER);
 				}
 				break;
 			case 4:
 				{
-				setState(127);
+				_localctx = new StringContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(130);
 				match(STRING);
 				}
 				break;
 			case 5:
 				{
-				setState(128);
-				match(T__19);
+				_localctx = new BoolLitContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(131);
+				match(TRUE);
 				}
 				break;
 			case 6:
 				{
-				setState(129);
-				match(T__20);
+				_localctx = new BoolLitContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(132);
+				match(FALSE);
 				}
 				break;
 			case 7:
 				{
-				setState(130);
+				_localctx = new ParenContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(133);
 				match(T__2);
-				setState(131);
+				setState(134);
 				expr(0);
-				setState(132);
+				setState(135);
 				match(T__3);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(150);
+			setState(153);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1023,93 +1216,97 @@ public class MiniCParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(148);
+					setState(151);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 					case 1:
 						{
-						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx = new BinaryContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(136);
+						setState(139);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(137);
+						setState(140);
+						((BinaryContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__11 || _la==T__12) ) {
-						_errHandler.recoverInline(this);
+						if ( !(_la==MUL || _la==DIV) ) {
+							((BinaryContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
-							if ( _input.LA(1)== Token.EOF ) matchedEOF = true;
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(138);
+						setState(141);
 						expr(11);
 						}
 						break;
 					case 2:
 						{
-						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx = new BinaryContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(139);
+						setState(142);
 						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(140);
+						setState(143);
+						((BinaryContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__13 || _la==T__14) ) {
-						_errHandler.recoverInline(this);
+						if ( !(_la==PLUS || _la==MINUS) ) {
+							((BinaryContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
-							if ( _input.LA(1)== Token.EOF ) matchedEOF = true;
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(141);
+						setState(144);
 						expr(10);
 						}
 						break;
 					case 3:
 						{
-						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx = new BinaryContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(142);
+						setState(145);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(143);
+						setState(146);
+						((BinaryContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__15 || _la==T__16) ) {
-						_errHandler.recoverInline(this);
+						if ( !(_la==GT || _la==LT) ) {
+							((BinaryContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
-							if ( _input.LA(1)== Token.EOF ) matchedEOF = true;
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(144);
+						setState(147);
 						expr(9);
 						}
 						break;
 					case 4:
 						{
-						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx = new BinaryContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(145);
+						setState(148);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(146);
+						setState(149);
+						((BinaryContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__17 || _la==T__18) ) {
-						_errHandler.recoverInline(this);
+						if ( !(_la==EQ || _la==NEQ) ) {
+							((BinaryContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
-							if ( _input.LA(1)== Token.EOF ) matchedEOF = true;
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(147);
+						setState(150);
 						expr(8);
 						}
 						break;
 					}
 					} 
 				}
-				setState(152);
+				setState(155);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 			}
@@ -1134,33 +1331,33 @@ public class MiniCParser extends Parser {
 		@Override public int getRuleIndex() { return RULE_type; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).enterType(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).enterType(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof MiniCListener) ((MiniCListener)listener).exitType(this);
+			if ( listener instanceof MiniCListener ) ((MiniCListener)listener).exitType(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof MiniCVisitor) return ((MiniCVisitor<? extends T>)visitor).visitType(this);
+			if ( visitor instanceof MiniCVisitor ) return ((MiniCVisitor<? extends T>)visitor).visitType(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final TypeContext type() throws RecognitionException {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_type);
+		enterRule(_localctx, 28, RULE_type);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(153);
+			setState(156);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 29360128L) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 28672L) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
-				if ( _input.LA(1)== Token.EOF ) matchedEOF = true;
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 				_errHandler.reportMatch(this);
 				consume();
 			}
@@ -1179,7 +1376,7 @@ public class MiniCParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 12:
+		case 13:
 			return expr_sempred((ExprContext)_localctx, predIndex);
 		}
 		return true;
@@ -1199,98 +1396,99 @@ public class MiniCParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001\u001d\u009c\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001"+
+		"\u0004\u0001\u001d\u009f\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001"+
 		"\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004"+
 		"\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007"+
 		"\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b"+
-		"\u0002\f\u0007\f\u0002\r\u0007\r\u0001\u0000\u0004\u0000\u001e\b\u0000"+
-		"\u000b\u0000\f\u0000\u001f\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001"+
+		"\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0001\u0000\u0004"+
+		"\u0000 \b\u0000\u000b\u0000\f\u0000!\u0001\u0000\u0001\u0000\u0001\u0001"+
 		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
-		"\u0001\u0001\u0001\u0001\u0003\u0001.\b\u0001\u0001\u0002\u0001\u0002"+
-		"\u0001\u0002\u0001\u0002\u0003\u00024\b\u0002\u0001\u0002\u0001\u0002"+
-		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004"+
-		"\u0001\u0004\u0001\u0004\u0001\u0004\u0003\u0004A\b\u0004\u0001\u0004"+
-		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0005\u0005L\b\u0005\n\u0005\f\u0005O\t\u0005"+
-		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007"+
-		"\u0001\u0007\u0003\u0007X\b\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001"+
-		"\b\u0001\b\u0005\b_\b\b\n\b\f\bb\t\b\u0001\t\u0001\t\u0005\tf\b\t\n\t"+
-		"\f\ti\t\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
-		"\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
-		"\u0001\u000b\u0003\u000bz\b\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
-		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0003\f\u0087\b\f\u0001"+
-		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
-		"\f\u0001\f\u0001\f\u0005\f\u0095\b\f\n\f\f\f\u0098\t\f\u0001\r\u0001\r"+
-		"\u0001\r\u0000\u0001\u0018\u000e\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010"+
-		"\u0012\u0014\u0016\u0018\u001a\u0000\u0005\u0001\u0000\f\r\u0001\u0000"+
-		"\u000e\u000f\u0001\u0000\u0010\u0011\u0001\u0000\u0012\u0013\u0001\u0000"+
-		"\u0016\u0018\u00a6\u0000\u001d\u0001\u0000\u0000\u0000\u0002-\u0001\u0000"+
-		"\u0000\u0000\u0004/\u0001\u0000\u0000\u0000\u00067\u0001\u0000\u0000\u0000"+
-		"\b<\u0001\u0000\u0000\u0000\nE\u0001\u0000\u0000\u0000\fP\u0001\u0000"+
-		"\u0000\u0000\u000eT\u0001\u0000\u0000\u0000\u0010[\u0001\u0000\u0000\u0000"+
-		"\u0012c\u0001\u0000\u0000\u0000\u0014l\u0001\u0000\u0000\u0000\u0016r"+
-		"\u0001\u0000\u0000\u0000\u0018\u0086\u0001\u0000\u0000\u0000\u001a\u0099"+
-		"\u0001\u0000\u0000\u0000\u001c\u001e\u0003\u0002\u0001\u0000\u001d\u001c"+
-		"\u0001\u0000\u0000\u0000\u001e\u001f\u0001\u0000\u0000\u0000\u001f\u001d"+
-		"\u0001\u0000\u0000\u0000\u001f \u0001\u0000\u0000\u0000 !\u0001\u0000"+
-		"\u0000\u0000!\"\u0005\u0000\u0000\u0001\"\u0001\u0001\u0000\u0000\u0000"+
-		"#.\u0003\u0004\u0002\u0000$.\u0003\u0006\u0003\u0000%.\u0003\b\u0004\u0000"+
-		"&\'\u0003\u0018\f\u0000\'(\u0005\u0001\u0000\u0000(.\u0001\u0000\u0000"+
-		"\u0000).\u0003\u0012\t\u0000*.\u0003\u0014\n\u0000+.\u0003\u0016\u000b"+
-		"\u0000,.\u0003\f\u0006\u0000-#\u0001\u0000\u0000\u0000-$\u0001\u0000\u0000"+
-		"\u0000-%\u0001\u0000\u0000\u0000-&\u0001\u0000\u0000\u0000-)\u0001\u0000"+
-		"\u0000\u0000-*\u0001\u0000\u0000\u0000-+\u0001\u0000\u0000\u0000-,\u0001"+
-		"\u0000\u0000\u0000.\u0003\u0001\u0000\u0000\u0000/0\u0003\u001a\r\u0000"+
-		"03\u0005\u0019\u0000\u000012\u0005\u0002\u0000\u000024\u0003\u0018\f\u0000"+
-		"31\u0001\u0000\u0000\u000034\u0001\u0000\u0000\u000045\u0001\u0000\u0000"+
-		"\u000056\u0005\u0001\u0000\u00006\u0005\u0001\u0000\u0000\u000078\u0005"+
-		"\u0019\u0000\u000089\u0005\u0002\u0000\u00009:\u0003\u0018\f\u0000:;\u0005"+
-		"\u0001\u0000\u0000;\u0007\u0001\u0000\u0000\u0000<=\u0003\u001a\r\u0000"+
-		"=>\u0005\u0019\u0000\u0000>@\u0005\u0003\u0000\u0000?A\u0003\n\u0005\u0000"+
-		"@?\u0001\u0000\u0000\u0000@A\u0001\u0000\u0000\u0000AB\u0001\u0000\u0000"+
-		"\u0000BC\u0005\u0004\u0000\u0000CD\u0003\u0012\t\u0000D\t\u0001\u0000"+
-		"\u0000\u0000EF\u0003\u001a\r\u0000FM\u0005\u0019\u0000\u0000GH\u0005\u0005"+
-		"\u0000\u0000HI\u0003\u001a\r\u0000IJ\u0005\u0019\u0000\u0000JL\u0001\u0000"+
-		"\u0000\u0000KG\u0001\u0000\u0000\u0000LO\u0001\u0000\u0000\u0000MK\u0001"+
-		"\u0000\u0000\u0000MN\u0001\u0000\u0000\u0000N\u000b\u0001\u0000\u0000"+
-		"\u0000OM\u0001\u0000\u0000\u0000PQ\u0005\u0006\u0000\u0000QR\u0003\u0018"+
-		"\f\u0000RS\u0005\u0001\u0000\u0000S\r\u0001\u0000\u0000\u0000TU\u0005"+
-		"\u0019\u0000\u0000UW\u0005\u0003\u0000\u0000VX\u0003\u0010\b\u0000WV\u0001"+
-		"\u0000\u0000\u0000WX\u0001\u0000\u0000\u0000XY\u0001\u0000\u0000\u0000"+
-		"YZ\u0005\u0004\u0000\u0000Z\u000f\u0001\u0000\u0000\u0000[`\u0003\u0018"+
-		"\f\u0000\\]\u0005\u0005\u0000\u0000]_\u0003\u0018\f\u0000^\\\u0001\u0000"+
-		"\u0000\u0000_b\u0001\u0000\u0000\u0000`^\u0001\u0000\u0000\u0000`a\u0001"+
-		"\u0000\u0000\u0000a\u0011\u0001\u0000\u0000\u0000b`\u0001\u0000\u0000"+
-		"\u0000cg\u0005\u0007\u0000\u0000df\u0003\u0002\u0001\u0000ed\u0001\u0000"+
-		"\u0000\u0000fi\u0001\u0000\u0000\u0000ge\u0001\u0000\u0000\u0000gh\u0001"+
-		"\u0000\u0000\u0000hj\u0001\u0000\u0000\u0000ig\u0001\u0000\u0000\u0000"+
-		"jk\u0005\b\u0000\u0000k\u0013\u0001\u0000\u0000\u0000lm\u0005\t\u0000"+
-		"\u0000mn\u0005\u0003\u0000\u0000no\u0003\u0018\f\u0000op\u0005\u0004\u0000"+
-		"\u0000pq\u0003\u0012\t\u0000q\u0015\u0001\u0000\u0000\u0000rs\u0005\n"+
-		"\u0000\u0000st\u0005\u0003\u0000\u0000tu\u0003\u0018\f\u0000uv\u0005\u0004"+
-		"\u0000\u0000vy\u0003\u0012\t\u0000wx\u0005\u000b\u0000\u0000xz\u0003\u0012"+
-		"\t\u0000yw\u0001\u0000\u0000\u0000yz\u0001\u0000\u0000\u0000z\u0017\u0001"+
-		"\u0000\u0000\u0000{|\u0006\f\uffff\uffff\u0000|\u0087\u0003\u000e\u0007"+
-		"\u0000}\u0087\u0005\u0019\u0000\u0000~\u0087\u0005\u001a\u0000\u0000\u007f"+
-		"\u0087\u0005\u001b\u0000\u0000\u0080\u0087\u0005\u0014\u0000\u0000\u0081"+
-		"\u0087\u0005\u0015\u0000\u0000\u0082\u0083\u0005\u0003\u0000\u0000\u0083"+
-		"\u0084\u0003\u0018\f\u0000\u0084\u0085\u0005\u0004\u0000\u0000\u0085\u0087"+
-		"\u0001\u0000\u0000\u0000\u0086{\u0001\u0000\u0000\u0000\u0086}\u0001\u0000"+
-		"\u0000\u0000\u0086~\u0001\u0000\u0000\u0000\u0086\u007f\u0001\u0000\u0000"+
-		"\u0000\u0086\u0080\u0001\u0000\u0000\u0000\u0086\u0081\u0001\u0000\u0000"+
-		"\u0000\u0086\u0082\u0001\u0000\u0000\u0000\u0087\u0096\u0001\u0000\u0000"+
-		"\u0000\u0088\u0089\n\n\u0000\u0000\u0089\u008a\u0007\u0000\u0000\u0000"+
-		"\u008a\u0095\u0003\u0018\f\u000b\u008b\u008c\n\t\u0000\u0000\u008c\u008d"+
-		"\u0007\u0001\u0000\u0000\u008d\u0095\u0003\u0018\f\n\u008e\u008f\n\b\u0000"+
-		"\u0000\u008f\u0090\u0007\u0002\u0000\u0000\u0090\u0095\u0003\u0018\f\t"+
-		"\u0091\u0092\n\u0007\u0000\u0000\u0092\u0093\u0007\u0003\u0000\u0000\u0093"+
-		"\u0095\u0003\u0018\f\b\u0094\u0088\u0001\u0000\u0000\u0000\u0094\u008b"+
-		"\u0001\u0000\u0000\u0000\u0094\u008e\u0001\u0000\u0000\u0000\u0094\u0091"+
-		"\u0001\u0000\u0000\u0000\u0095\u0098\u0001\u0000\u0000\u0000\u0096\u0094"+
-		"\u0001\u0000\u0000\u0000\u0096\u0097\u0001\u0000\u0000\u0000\u0097\u0019"+
-		"\u0001\u0000\u0000\u0000\u0098\u0096\u0001\u0000\u0000\u0000\u0099\u009a"+
-		"\u0007\u0004\u0000\u0000\u009a\u001b\u0001\u0000\u0000\u0000\f\u001f-"+
-		"3@MW`gy\u0086\u0094\u0096";
+		"\u0001\u0001\u0003\u0001.\b\u0001\u0001\u0002\u0001\u0002\u0001\u0002"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u00037\b\u0003"+
+		"\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
+		"\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005"+
+		"D\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0005\u0006O\b\u0006"+
+		"\n\u0006\f\u0006R\t\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\b\u0001\b\u0001\b\u0003\b[\b\b\u0001\b\u0001\b\u0001\t\u0001\t"+
+		"\u0001\t\u0005\tb\b\t\n\t\f\te\t\t\u0001\n\u0001\n\u0005\ni\b\n\n\n\f"+
+		"\nl\t\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0003\f}\b\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u008a\b\r\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0001\r\u0005\r\u0098\b\r\n\r\f\r\u009b\t\r\u0001\u000e\u0001\u000e"+
+		"\u0001\u000e\u0000\u0001\u001a\u000f\u0000\u0002\u0004\u0006\b\n\f\u000e"+
+		"\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u0000\u0005\u0001\u0000\u000f"+
+		"\u0010\u0001\u0000\u0011\u0012\u0001\u0000\u0013\u0014\u0001\u0000\u0015"+
+		"\u0016\u0001\u0000\f\u000e\u00a8\u0000\u001f\u0001\u0000\u0000\u0000\u0002"+
+		"-\u0001\u0000\u0000\u0000\u0004/\u0001\u0000\u0000\u0000\u00062\u0001"+
+		"\u0000\u0000\u0000\b:\u0001\u0000\u0000\u0000\n?\u0001\u0000\u0000\u0000"+
+		"\fH\u0001\u0000\u0000\u0000\u000eS\u0001\u0000\u0000\u0000\u0010W\u0001"+
+		"\u0000\u0000\u0000\u0012^\u0001\u0000\u0000\u0000\u0014f\u0001\u0000\u0000"+
+		"\u0000\u0016o\u0001\u0000\u0000\u0000\u0018u\u0001\u0000\u0000\u0000\u001a"+
+		"\u0089\u0001\u0000\u0000\u0000\u001c\u009c\u0001\u0000\u0000\u0000\u001e"+
+		" \u0003\u0002\u0001\u0000\u001f\u001e\u0001\u0000\u0000\u0000 !\u0001"+
+		"\u0000\u0000\u0000!\u001f\u0001\u0000\u0000\u0000!\"\u0001\u0000\u0000"+
+		"\u0000\"#\u0001\u0000\u0000\u0000#$\u0005\u0000\u0000\u0001$\u0001\u0001"+
+		"\u0000\u0000\u0000%.\u0003\u0006\u0003\u0000&.\u0003\b\u0004\u0000\'."+
+		"\u0003\n\u0005\u0000(.\u0003\u0004\u0002\u0000).\u0003\u0014\n\u0000*"+
+		".\u0003\u0016\u000b\u0000+.\u0003\u0018\f\u0000,.\u0003\u000e\u0007\u0000"+
+		"-%\u0001\u0000\u0000\u0000-&\u0001\u0000\u0000\u0000-\'\u0001\u0000\u0000"+
+		"\u0000-(\u0001\u0000\u0000\u0000-)\u0001\u0000\u0000\u0000-*\u0001\u0000"+
+		"\u0000\u0000-+\u0001\u0000\u0000\u0000-,\u0001\u0000\u0000\u0000.\u0003"+
+		"\u0001\u0000\u0000\u0000/0\u0003\u001a\r\u000001\u0005\u0001\u0000\u0000"+
+		"1\u0005\u0001\u0000\u0000\u000023\u0003\u001c\u000e\u000036\u0005\u0019"+
+		"\u0000\u000045\u0005\u0002\u0000\u000057\u0003\u001a\r\u000064\u0001\u0000"+
+		"\u0000\u000067\u0001\u0000\u0000\u000078\u0001\u0000\u0000\u000089\u0005"+
+		"\u0001\u0000\u00009\u0007\u0001\u0000\u0000\u0000:;\u0005\u0019\u0000"+
+		"\u0000;<\u0005\u0002\u0000\u0000<=\u0003\u001a\r\u0000=>\u0005\u0001\u0000"+
+		"\u0000>\t\u0001\u0000\u0000\u0000?@\u0003\u001c\u000e\u0000@A\u0005\u0019"+
+		"\u0000\u0000AC\u0005\u0003\u0000\u0000BD\u0003\f\u0006\u0000CB\u0001\u0000"+
+		"\u0000\u0000CD\u0001\u0000\u0000\u0000DE\u0001\u0000\u0000\u0000EF\u0005"+
+		"\u0004\u0000\u0000FG\u0003\u0014\n\u0000G\u000b\u0001\u0000\u0000\u0000"+
+		"HI\u0003\u001c\u000e\u0000IP\u0005\u0019\u0000\u0000JK\u0005\u0005\u0000"+
+		"\u0000KL\u0003\u001c\u000e\u0000LM\u0005\u0019\u0000\u0000MO\u0001\u0000"+
+		"\u0000\u0000NJ\u0001\u0000\u0000\u0000OR\u0001\u0000\u0000\u0000PN\u0001"+
+		"\u0000\u0000\u0000PQ\u0001\u0000\u0000\u0000Q\r\u0001\u0000\u0000\u0000"+
+		"RP\u0001\u0000\u0000\u0000ST\u0005\u0006\u0000\u0000TU\u0003\u001a\r\u0000"+
+		"UV\u0005\u0001\u0000\u0000V\u000f\u0001\u0000\u0000\u0000WX\u0005\u0019"+
+		"\u0000\u0000XZ\u0005\u0003\u0000\u0000Y[\u0003\u0012\t\u0000ZY\u0001\u0000"+
+		"\u0000\u0000Z[\u0001\u0000\u0000\u0000[\\\u0001\u0000\u0000\u0000\\]\u0005"+
+		"\u0004\u0000\u0000]\u0011\u0001\u0000\u0000\u0000^c\u0003\u001a\r\u0000"+
+		"_`\u0005\u0005\u0000\u0000`b\u0003\u001a\r\u0000a_\u0001\u0000\u0000\u0000"+
+		"be\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000\u0000cd\u0001\u0000\u0000"+
+		"\u0000d\u0013\u0001\u0000\u0000\u0000ec\u0001\u0000\u0000\u0000fj\u0005"+
+		"\u0007\u0000\u0000gi\u0003\u0002\u0001\u0000hg\u0001\u0000\u0000\u0000"+
+		"il\u0001\u0000\u0000\u0000jh\u0001\u0000\u0000\u0000jk\u0001\u0000\u0000"+
+		"\u0000km\u0001\u0000\u0000\u0000lj\u0001\u0000\u0000\u0000mn\u0005\b\u0000"+
+		"\u0000n\u0015\u0001\u0000\u0000\u0000op\u0005\t\u0000\u0000pq\u0005\u0003"+
+		"\u0000\u0000qr\u0003\u001a\r\u0000rs\u0005\u0004\u0000\u0000st\u0003\u0014"+
+		"\n\u0000t\u0017\u0001\u0000\u0000\u0000uv\u0005\n\u0000\u0000vw\u0005"+
+		"\u0003\u0000\u0000wx\u0003\u001a\r\u0000xy\u0005\u0004\u0000\u0000y|\u0003"+
+		"\u0014\n\u0000z{\u0005\u000b\u0000\u0000{}\u0003\u0014\n\u0000|z\u0001"+
+		"\u0000\u0000\u0000|}\u0001\u0000\u0000\u0000}\u0019\u0001\u0000\u0000"+
+		"\u0000~\u007f\u0006\r\uffff\uffff\u0000\u007f\u008a\u0003\u0010\b\u0000"+
+		"\u0080\u008a\u0005\u0019\u0000\u0000\u0081\u008a\u0005\u001a\u0000\u0000"+
+		"\u0082\u008a\u0005\u001b\u0000\u0000\u0083\u008a\u0005\u0017\u0000\u0000"+
+		"\u0084\u008a\u0005\u0018\u0000\u0000\u0085\u0086\u0005\u0003\u0000\u0000"+
+		"\u0086\u0087\u0003\u001a\r\u0000\u0087\u0088\u0005\u0004\u0000\u0000\u0088"+
+		"\u008a\u0001\u0000\u0000\u0000\u0089~\u0001\u0000\u0000\u0000\u0089\u0080"+
+		"\u0001\u0000\u0000\u0000\u0089\u0081\u0001\u0000\u0000\u0000\u0089\u0082"+
+		"\u0001\u0000\u0000\u0000\u0089\u0083\u0001\u0000\u0000\u0000\u0089\u0084"+
+		"\u0001\u0000\u0000\u0000\u0089\u0085\u0001\u0000\u0000\u0000\u008a\u0099"+
+		"\u0001\u0000\u0000\u0000\u008b\u008c\n\n\u0000\u0000\u008c\u008d\u0007"+
+		"\u0000\u0000\u0000\u008d\u0098\u0003\u001a\r\u000b\u008e\u008f\n\t\u0000"+
+		"\u0000\u008f\u0090\u0007\u0001\u0000\u0000\u0090\u0098\u0003\u001a\r\n"+
+		"\u0091\u0092\n\b\u0000\u0000\u0092\u0093\u0007\u0002\u0000\u0000\u0093"+
+		"\u0098\u0003\u001a\r\t\u0094\u0095\n\u0007\u0000\u0000\u0095\u0096\u0007"+
+		"\u0003\u0000\u0000\u0096\u0098\u0003\u001a\r\b\u0097\u008b\u0001\u0000"+
+		"\u0000\u0000\u0097\u008e\u0001\u0000\u0000\u0000\u0097\u0091\u0001\u0000"+
+		"\u0000\u0000\u0097\u0094\u0001\u0000\u0000\u0000\u0098\u009b\u0001\u0000"+
+		"\u0000\u0000\u0099\u0097\u0001\u0000\u0000\u0000\u0099\u009a\u0001\u0000"+
+		"\u0000\u0000\u009a\u001b\u0001\u0000\u0000\u0000\u009b\u0099\u0001\u0000"+
+		"\u0000\u0000\u009c\u009d\u0007\u0004\u0000\u0000\u009d\u001d\u0001\u0000"+
+		"\u0000\u0000\f!-6CPZcj|\u0089\u0097\u0099";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
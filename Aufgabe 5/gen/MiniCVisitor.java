@@ -21,6 +21,12 @@ public interface MiniCVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitStmt(MiniCParser.StmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link MiniCParser#expr_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExpr_stmt(MiniCParser.Expr_stmtContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link MiniCParser#vardecl}.
 	 * @param ctx the parse tree
@@ -82,11 +88,54 @@ public interface MiniCVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitCond(MiniCParser.CondContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link MiniCParser#expr}.
+	 * Visit a parse tree produced by the {@code call}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCall(MiniCParser.CallContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code number}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumber(MiniCParser.NumberContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code paren}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParen(MiniCParser.ParenContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code string}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitString(MiniCParser.StringContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code boolLit}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBoolLit(MiniCParser.BoolLitContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code binary}
+	 * labeled alternative in {@link MiniCParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBinary(MiniCParser.BinaryContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code variable}
+	 * labeled alternative in {@link MiniCParser#expr}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpr(MiniCParser.ExprContext ctx);
+	T visitVariable(MiniCParser.VariableContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link MiniCParser#type}.
 	 * @param ctx the parse tree
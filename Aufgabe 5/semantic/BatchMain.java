@@ -0,0 +1,217 @@
+package Aufgabe;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+import org.antlr.v4.runtime.*;
+import ast.AST.Stmt;
+import ast.ASTCache;
+import ast.LineMap;
+import ast.MiniCFrontend;
+
+/**
+ * BatchMain: übersetzt viele MiniC-Dateien parallel (Parsen + Pass 1/2, ohne AST-Ausgabe).
+ *
+ *  - ForkJoinPool (Work-Stealing): jede Datei ist eine Aufgabe, freie Worker stehlen
+ *    sich Arbeit, damit ungleich große Dateien die Kerne nicht leer laufen lassen.
+ *  - Pro Worker-Thread ein MiniCFrontend (ThreadLocal); der DFA-Cache der generierten
+ *    Parser-Klassen ist statisch und wird von allen Threads gemeinsam gefüllt.
+ *  - Meldungen werden pro Datei gesammelt und am Ende in Eingabereihenfolge ausgegeben,
+ *    die Ausgabe ist damit unabhängig von der Thread-Anzahl.
+ *  - Ein Fehler im Übersetzer bei einer Datei wird zu deren Meldung, die anderen Dateien
+ *    laufen normal weiter.
+ *
+ * Usage: java semantic.BatchMain [--threads N] [--scaling] [--quiet] [--cache DIR] <datei|verzeichnis>...
+ *   Verzeichnisse werden rekursiv nach *.minic durchsucht.
+ *   --cache: unveränderte Dateien aus dem AST-Cache laden (ASTCache) statt neu zu parsen.
+ *   --scaling: Durchsatz für 1, 2, 4, ... bis N Threads messen (ohne Meldungen).
+ */
+public class BatchMain {
+
+    /** Ergebnis einer Datei: Syntax- und Semantikmeldungen, Laufzeit */
+    public record FileResult(Path path, List<String> syntaxErrors, List<String> semanticErrors, long nanos) {
+        public boolean ok() { return syntaxErrors.isEmpty() && semanticErrors.isEmpty(); }
+    }
+
+    // Syntaxfehler einer Datei sammeln statt auf die Konsole zu schreiben
+    private static final class CollectingListener extends BaseErrorListener {
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e) {
+            messages.add("line " + line + ":" + charPositionInLine + " " + msg);
+        }
+    }
+
+    /** Frontend + Listener für einen Thread (oder eine Daemon-Anfrage) */
+    static final class Worker {
+        final CollectingListener listener = new CollectingListener();
+        final MiniCFrontend frontend = new MiniCFrontend(listener);
+    }
+
+    private static final ThreadLocal<Worker> WORKER = ThreadLocal.withInitial(Worker::new);
+
+    private static volatile ASTCache cache = null;
+
+    /** AST-Cache für alle folgenden compile-Aufrufe (null = immer parsen) */
+    public static void setCache(ASTCache c) { cache = c; }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean scaling = false, quiet = false;
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--scaling" -> scaling = true;
+                case "--quiet" -> quiet = true;
+                case "--cache" -> setCache(new ASTCache(Path.of(args[++i])));
+                default -> inputs.add(Path.of(args[i]));
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("Usage: java semantic.BatchMain [--threads N] [--scaling] [--quiet] [--cache DIR] <datei|verzeichnis>...");
+            System.exit(1);
+        }
+
+        List<Path> files = collect(inputs);
+        if (files.isEmpty()) {
+            System.err.println("Keine .minic-Dateien gefunden.");
+            System.exit(1);
+        }
+
+        if (scaling) {
+            runScaling(files, threads);
+            return;
+        }
+
+        long t0 = System.nanoTime();
+        List<FileResult> results = compileAll(files, threads);
+        long elapsed = System.nanoTime() - t0;
+
+        PrintWriter out = new PrintWriter(System.out);
+        int failed = printResults(results, quiet, out);
+        out.printf("%d Dateien, %d mit Fehlern, %d Threads: %.0f ms, %.1f Dateien/s%n",
+                files.size(), failed, threads, elapsed / 1e6, files.size() / (elapsed / 1e9));
+        if (cache != null) out.printf("AST-Cache: %d Treffer, %d neu geparst%n", cache.getHits(), cache.getMisses());
+        out.flush();
+        if (failed > 0) System.exit(2);
+    }
+
+    /** Meldungen aller fehlerhaften Dateien ausgeben; liefert die Anzahl fehlerhafter Dateien. */
+    static int printResults(List<FileResult> results, boolean quiet, PrintWriter out) {
+        int failed = 0;
+        for (FileResult r : results) if (!printResult(r, quiet, out)) failed++;
+        return failed;
+    }
+
+    /** Meldungen einer Datei ausgeben (nichts, wenn fehlerfrei); liefert r.ok() */
+    static boolean printResult(FileResult r, boolean quiet, PrintWriter out) {
+        if (quiet || r.ok()) return r.ok();
+        out.println(r.path() + ":");
+        for (String m : r.syntaxErrors()) out.println("  [SYNTAX] " + m);
+        for (String m : r.semanticErrors()) out.println("  [ERROR] " + m);
+        return false;
+    }
+
+    /** Übersetzt alle Dateien mit `threads` Workern; Ergebnisse in Eingabereihenfolge. */
+    public static List<FileResult> compileAll(List<Path> files, int threads) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Callable<FileResult>> tasks = new ArrayList<>(files.size());
+            for (Path p : files) tasks.add(() -> compile(p));
+            List<FileResult> results = new ArrayList<>(files.size());
+            List<Future<FileResult>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // compile fängt selbst ab; bleibt nur, was dort nicht abfangbar war (z.B. OOM)
+                    results.add(failed(files.get(i), "compiler failure: " + e.getCause(), 0));
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Eine Datei: Parsen (SLL, bei Bedarf LL) + Pass 1/2 auf dem Frontend des aktuellen Threads. */
+    public static FileResult compile(Path path) {
+        return compile(path, WORKER.get());
+    }
+
+    static FileResult compile(Path path, Worker w) {
+        long t0 = System.nanoTime();
+        w.listener.messages.clear();
+        String src;
+        try {
+            src = Files.readString(path);
+        } catch (IOException e) {
+            return new FileResult(path, List.of("cannot read file: " + e.getMessage()), List.of(), System.nanoTime() - t0);
+        }
+
+        ASTCache c = cache;
+        List<Stmt> program;
+        try {
+            program = c != null ? c.parse(src, w.frontend) : w.frontend.parseDirect(src);
+        } catch (RuntimeException | StackOverflowError e) {
+            return failed(path, "parser failure: " + e, System.nanoTime() - t0);
+        }
+        List<String> syntax = List.copyOf(w.listener.messages);
+
+        SemanticAnalyzer sa = new SemanticAnalyzer(new FileDiagnostics());
+        sa.getDiagnostics().setLines(new LineMap(src));
+        try {
+            sa.runPass1(program);
+            sa.runPass2(program);
+            sa.runTypeCheck(program);
+        } catch (RuntimeException | StackOverflowError e) {
+            List<String> semantic = new ArrayList<>(sa.getDiagnostics().getErrors());
+            semantic.add("analysis failure: " + e);
+            return new FileResult(path, syntax, semantic, System.nanoTime() - t0);
+        }
+        return new FileResult(path, syntax, sa.getDiagnostics().getErrors(), System.nanoTime() - t0);
+    }
+
+    private static FileResult failed(Path path, String message, long nanos) {
+        return new FileResult(path, List.of(message), List.of(), nanos);
+    }
+
+    static List<Path> collect(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path in : inputs) {
+            if (Files.isDirectory(in)) {
+                try (Stream<Path> s = Files.walk(in)) {
+                    s.filter(p -> p.toString().endsWith(".minic") && Files.isRegularFile(p)).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(in);
+            }
+        }
+        return files;
+    }
+
+    // Durchsatz für 1, 2, 4, ... Threads; erster Lauf wärmt JIT und DFA-Cache
+    private static void runScaling(List<Path> files, int maxThreads) throws InterruptedException {
+        compileAll(files, maxThreads);
+        double base = 0;
+        System.out.printf("%8s %10s %12s %8s%n", "Threads", "ms", "Dateien/s", "Speedup");
+        for (int n = 1; ; n = Math.min(n * 2, maxThreads)) {
+            long best = Long.MAX_VALUE;
+            for (int rep = 0; rep < 3; rep++) {
+                long t0 = System.nanoTime();
+                compileAll(files, n);
+                best = Math.min(best, System.nanoTime() - t0);
+            }
+            double rate = files.size() / (best / 1e9);
+            if (n == 1) base = rate;
+            System.out.printf("%8d %10.0f %12.1f %7.2fx%n", n, best / 1e6, rate, rate / base);
+            if (n == maxThreads) break;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package Aufgabe;
+
+import java.util.*;
+import org.antlr.v4.runtime.*;
+import parser.*;   // passe ggf. an dein ANTLR-Package an
+import ast.AST;
+import ast.AST.*;
+import ast.ASTBuilder;
+import ast.HandParser;
+import ast.MiniCFrontend;
+
+/**
+ * Stresstest für lange Binary-Ketten: AST-Aufbau (ASTBuilder, DirectASTBuilder, HandParser),
+ * AST.printProgram und SemanticAnalyzer Pass 1/2 müssen auf dem normalen Thread-Stack
+ * durchlaufen, für links- und rechtstiefe Ketten.
+ * Usage: java semantic.BinaryChainStress [terms]
+ */
+public class BinaryChainStress {
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        MiniCFrontend frontend = new MiniCFrontend();
+
+        // links-tief: int x = 1 + 1 + ... ; x = x - x - ... ;
+        StringBuilder src = new StringBuilder("int x = 1");
+        for (int i = 1; i < n; i++) src.append(" + 1");
+        src.append(";\nx = x");
+        for (int i = 1; i < n; i++) src.append(" - x");
+        src.append(";\n");
+        String left = src.toString();
+
+        check("links-tief / ASTBuilder", frontend.parse(left), n);
+        check("links-tief / DirectASTBuilder", frontend.parseDirect(left), n);
+        check("links-tief / HandParser", HandParser.parse(left), n);
+
+        // rechts-tief über Klammern: 1 + (1 + (1 + ...)). Der ANTLR-Parser selbst ist
+        // rekursiv und braucht dafür einen großen Stack; der AST-Aufbau danach nicht.
+        String right = "int x = " + "1 + (".repeat(n - 1) + "1" + ")".repeat(n - 1) + ";\n";
+        MiniCParser.ProgramContext[] tree = new MiniCParser.ProgramContext[1];
+        Thread t = new Thread(null, () -> tree[0] = frontend.parseTree(CharStreams.fromString(right)), "parse", 2L << 30);
+        t.start();
+        t.join();
+        List<Stmt> rightAst = new ArrayList<>();
+        ASTBuilder builder = new ASTBuilder();
+        for (MiniCParser.StmtContext sctx : tree[0].stmt()) rightAst.add((Stmt) builder.visit(sctx));
+        check("rechts-tief / ASTBuilder", rightAst, n);
+
+        // rechts-tief, direkt konstruiert (z.B. aus einem Codegenerator)
+        Expr e = new Variable("x");
+        for (int i = 1; i < n; i++) e = new Binary(new Variable("x"), Operator.MUL, e);
+        check("rechts-tief / konstruiert", List.of(new VarDecl(PrimType.INT, "x", new IntLiteral(0)), new ExprStmt(e)), n);
+
+        System.out.println("OK");
+    }
+
+    private static void check(String name, List<Stmt> program, int n) {
+        long t0 = System.nanoTime();
+        int depth = 0;
+        for (Stmt s : program) depth = Math.max(depth, chainLength(s));
+        if (depth != n) throw new IllegalStateException(name + ": Kettenlänge " + depth + " statt " + n);
+
+        CountingAppendable sink = new CountingAppendable();
+        AST.printProgram(program, sink);
+
+        SemanticAnalyzer sa = new SemanticAnalyzer();
+        sa.runPass1(program);
+        sa.runPass2(program);
+        sa.runTypeCheck(program);
+        if (sa.getDiagnostics().hasErrors()) throw new IllegalStateException(name + ": " + sa.getDiagnostics().getErrors());
+
+        System.out.printf("%-32s %6d Terme, %,d Zeichen Ausgabe, %.0f ms%n", name, n, sink.count, (System.nanoTime() - t0) / 1e6);
+    }
+
+    // Anzahl Blätter der längsten Binary-Kette (iterativ)
+    private static int chainLength(Stmt s) {
+        Expr e = s instanceof VarDecl vd ? vd.initializer : s instanceof Assign a ? a.value : s instanceof ExprStmt es ? es.expr : null;
+        int len = 1;
+        while (e instanceof Binary b) {
+            len++;
+            e = b.left instanceof Binary ? b.left : b.right;
+        }
+        return e == null ? 0 : len;
+    }
+
+    // zählt nur die Zeichen (die Ausgabe einer 50k-Kette ist wegen der Einrückung quadratisch groß)
+    private static final class CountingAppendable implements Appendable {
+        long count = 0;
+        public Appendable append(CharSequence cs) { count += cs.length(); return this; }
+        public Appendable append(CharSequence cs, int start, int end) { count += end - start; return this; }
+        public Appendable append(char c) { count++; return this; }
+    }
+}
@@ -0,0 +1,58 @@
+package Aufgabe;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * CompilerClient: dünner Client für den CompilerDaemon. Schickt die Argumente (Pfade
+ * absolut gemacht) über den Unix-Domain-Socket und gibt die Meldungen des Daemons aus;
+ * der Exit-Code ist der des Daemons.
+ *
+ * Usage: java semantic.CompilerClient [--socket pfad] [--quiet] [--shutdown] <datei|verzeichnis>...
+ */
+public class CompilerClient {
+    public static void main(String[] args) throws Exception {
+        Path socket = CompilerDaemon.defaultSocket();
+        StringBuilder request = new StringBuilder();
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if (a.equals("--socket") && i + 1 < args.length) socket = Path.of(args[++i]);
+            else if (a.equals("--quiet") || a.equals("--shutdown")) request.append(a).append('\n');
+            else if (a.startsWith("--")) {
+                // der Daemon hielte die Option (und ihren Wert) für Eingabedateien
+                System.err.println("Unknown option: " + a);
+                System.err.println("Usage: java semantic.CompilerClient [--socket pfad] [--quiet] [--shutdown] <datei|verzeichnis>...");
+                System.exit(1);
+            }
+            else request.append(Path.of(a).toAbsolutePath()).append('\n');   // Daemon hat ein anderes Arbeitsverzeichnis
+        }
+        request.append('\n');
+
+        SocketChannel ch;
+        try {
+            ch = SocketChannel.open(StandardProtocolFamily.UNIX);
+            ch.connect(UnixDomainSocketAddress.of(socket));
+        } catch (IOException e) {
+            System.err.println("No MiniC daemon at " + socket + " (start: java semantic.CompilerDaemon)");
+            System.exit(4);
+            return;
+        }
+
+        int code = 3;
+        try (ch;
+             Writer out = new OutputStreamWriter(Channels.newOutputStream(ch), StandardCharsets.UTF_8);
+             BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.UTF_8))) {
+            out.write(request.toString());
+            out.flush();
+            for (String line; (line = in.readLine()) != null; ) {
+                if (line.startsWith(CompilerDaemon.EXIT_PREFIX)) code = Integer.parseInt(line.substring(CompilerDaemon.EXIT_PREFIX.length()));
+                else System.out.println(line);
+            }
+        }
+        System.exit(code);
+    }
+}
@@ -0,0 +1,153 @@
+package Aufgabe;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import ast.ASTCache;
+import ast.Names;
+
+/**
+ * CompilerDaemon: langlebiger MiniC-Compiler hinter einem Unix-Domain-Socket.
+ *
+ * JVM-Start, Klassenladen, ATN-Deserialisierung und DFA-Aufwärmen passieren nur einmal;
+ * danach kostet eine Anfrage nur noch Parsen + Pass 1/2. Jede Verbindung läuft auf einem
+ * eigenen virtuellen Thread, die vorgewärmten Frontends liegen in einem Pool. Jede Anfrage
+ * ist eine Names-Sitzung: die Namen der übersetzten Dateien werden verworfen, sobald keine
+ * Anfrage mehr läuft, der Interner wächst also nicht über die Laufzeit des Daemons.
+ *
+ * Protokoll (UTF-8, zeilenweise):
+ *   Client -> Daemon: ein Argument pro Zeile (Dateien/Verzeichnisse, absolute Pfade), dann eine Leerzeile
+ *   Daemon -> Client: Meldungen wie bei BatchMain, jede Datei sobald sie fertig ist, zuletzt "exit <code>"
+ *   Sonderargument "--shutdown" beendet den Daemon.
+ *
+ * Usage: java semantic.CompilerDaemon [--cache DIR] [socket]   (Standard: siehe defaultSocket())
+ */
+public class CompilerDaemon {
+    public static final String EXIT_PREFIX = "exit ";
+
+    private final ServerSocketChannel server;
+    private final Path socket;
+    // vorgewärmte Frontends; eine Anfrage leiht sich eins aus und gibt es danach zurück
+    private final ConcurrentLinkedQueue<BatchMain.Worker> workers = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    public CompilerDaemon(Path socket) throws IOException {
+        this.socket = socket;
+        if (Files.exists(socket)) {
+            if (isAlive(socket)) throw new IOException("another MiniC daemon is already listening on " + socket);
+            Files.deleteIfExists(socket);   // Überbleibsel eines abgestürzten Daemons
+        }
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socket));
+        workers.add(new BatchMain.Worker());
+    }
+
+    // antwortet dort ein laufender Daemon? (die leere Anfrage beantwortet er mit "exit 0")
+    private static boolean isAlive(Path socket) {
+        try (SocketChannel ch = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            ch.connect(UnixDomainSocketAddress.of(socket));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static Path defaultSocket() {
+        return Path.of(System.getProperty("java.io.tmpdir"), "minic-daemon-" + System.getProperty("user.name") + ".sock");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path socket = defaultSocket();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--cache")) BatchMain.setCache(new ASTCache(Path.of(args[++i])));
+            else socket = Path.of(args[i]);
+        }
+        CompilerDaemon daemon = new CompilerDaemon(socket);
+        System.out.println("MiniC daemon listening on " + socket);
+        daemon.serve();
+    }
+
+    /** Nimmt Verbindungen an, bis eine Anfrage "--shutdown" schickt. */
+    public void serve() throws IOException {
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (running) {
+                SocketChannel ch;
+                try {
+                    ch = server.accept();
+                } catch (ClosedChannelException e) {
+                    // shutdown(): während accept() (AsynchronousCloseException) oder schon davor
+                    break;
+                }
+                requests.submit(() -> handle(ch));
+            }
+        } finally {
+            server.close();
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    public void shutdown() throws IOException {
+        running = false;
+        server.close();
+    }
+
+    private void handle(SocketChannel ch) {
+        try (ch;
+             BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(Channels.newOutputStream(ch), StandardCharsets.UTF_8))) {
+            List<String> args = new ArrayList<>();
+            for (String line; (line = in.readLine()) != null && !line.isEmpty(); ) args.add(line);
+
+            int code;
+            try {
+                code = compile(args, out);
+            } catch (Exception e) {
+                out.println("[DAEMON] " + e);
+                code = 3;
+            }
+            out.println(EXIT_PREFIX + code);
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("[DAEMON] connection failed: " + e.getMessage());
+        }
+    }
+
+    private int compile(List<String> args, PrintWriter out) throws IOException {
+        if (args.contains("--shutdown")) {
+            shutdown();
+            out.println("daemon stopped");
+            return 0;
+        }
+        boolean quiet = args.remove("--quiet");
+        for (String a : args) {
+            if (a.startsWith("--")) {
+                out.println("unknown option: " + a + " (daemon understands --quiet and --shutdown)");
+                return 2;
+            }
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (String a : args) inputs.add(Path.of(a));
+        List<Path> files = BatchMain.collect(inputs);
+
+        BatchMain.Worker w = workers.poll();
+        if (w == null) w = new BatchMain.Worker();      // mehr parallele Anfragen als bisher
+        int failed = 0;
+        Names.Session names = Names.session();
+        try {
+            // jede Datei sofort zurückschicken, der Client sieht Meldungen schon während der Anfrage
+            for (Path p : files) {
+                if (!BatchMain.printResult(BatchMain.compile(p, w), quiet, out)) failed++;
+                out.flush();
+            }
+        } finally {
+            names.close();
+            workers.offer(w);
+        }
+        return failed > 0 ? 2 : 0;
+    }
+}
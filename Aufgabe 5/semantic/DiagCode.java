@@ -0,0 +1,40 @@
+package Aufgabe;
+
+/**
+ * Fehlercodes der semantischen Analyse. Jeder Code trägt das Format seiner Meldung, die
+ * Argumente (Namen, Typen, Anzahlen) werden erst bei der Ausgabe eingesetzt (Diagnostic.message).
+ *
+ *  - MC1xx: Deklarationen/Namensauflösung (Pass 1)
+ *  - MC2xx: Funktionsaufrufe (Pass 2)
+ *  - MC3xx: Typen (TypeChecker)
+ */
+public enum DiagCode {
+    DUPLICATE_VARIABLE(101, "Duplicate variable declaration in same scope: %s"),
+    DUPLICATE_FUNCTION(102, "Duplicate function declaration in same scope: %s"),
+    DUPLICATE_PARAMETER(103, "Duplicate parameter name in function %s: %s"),
+    PARAMETER_SHADOWS(104, "Parameter name shadows another symbol already in function scope: %s"),
+    UNDEFINED_VARIABLE(105, "Use of undefined variable: %s"),
+    FUNCTION_AS_VARIABLE(106, "Function name used where variable expected: %s"),
+    ASSIGN_UNDEFINED(107, "Assignment to undefined variable: %s"),
+    ASSIGN_TO_FUNCTION(108, "Assignment target is a function name (not a variable): %s"),
+    CALL_ON_VARIABLE(109, "Attempt to call a variable as function: %s"),
+
+    UNDEFINED_FUNCTION(201, "Call to undefined function: %s"),
+    NOT_A_FUNCTION(202, "Call target is not a function: %s"),
+    ARGUMENT_COUNT(203, "Argument count mismatch in call to %s: expected %d, got %d"),
+
+    TYPE_MISMATCH(301, "Type mismatch in %s: expected %s, got %s"),
+    OPERATOR_TYPES(302, "Operator %s not applicable to %s and %s"),
+    RETURN_OUTSIDE_FUNCTION(303, "Return outside of a function");
+
+    public final int number;
+    public final String format;
+
+    DiagCode(int number, String format) {
+        this.number = number;
+        this.format = format;
+    }
+
+    /** z.B. "MC105" */
+    public String id() { return "MC" + number; }
+}
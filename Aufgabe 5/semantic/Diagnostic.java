@@ -0,0 +1,54 @@
+package Aufgabe;
+
+import java.util.Arrays;
+import ast.AST;
+import ast.LineMap;
+
+/**
+ * Eine Meldung: Code, Knoten (nodeId, -1 = keiner), Quellbereich und die Argumente der
+ * Meldung. Der Text wird erst in message() formatiert -- gesammelte, aber nie ausgegebene
+ * Meldungen kosten nur das Record und die (meist internierten) Argumente.
+ *
+ * span: Quellbereich des Knotens (AST.span), NO_SPAN = unbekannt. Zeile/Spalte erst in
+ * render() über die LineMap der Datei.
+ */
+public record Diagnostic(DiagCode code, int nodeId, long span, Object[] args) {
+    public static final long NO_SPAN = AST.NO_SPAN;
+
+    public static long span(int start, int end) {
+        return AST.span(start, end);
+    }
+
+    public int start() { return AST.spanStart(span); }
+    public int end() { return AST.spanEnd(span); }
+    public boolean hasSpan() { return span != NO_SPAN; }
+
+    public String message() {
+        return String.format(code.format, args);
+    }
+
+    /** "line L:C message" (wie die Syntaxfehler), ohne Quellbereich oder LineMap nur message() */
+    public String render(LineMap lines) {
+        String at = lines == null ? null : lines.position(span);
+        return at == null ? message() : at + " " + message();
+    }
+
+    // gleiche Meldung = gleicher Code, gleiche Argumente, gleiche Stelle; ohne Quellbereich
+    // ist die Stelle der Knoten (nodeId), sonst zählt nur der Bereich
+    Key key() { return new Key(code, span, span == NO_SPAN ? nodeId : -1, args); }
+
+    record Key(DiagCode code, long span, int nodeId, Object[] args) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && code == k.code && span == k.span && nodeId == k.nodeId && Arrays.equals(args, k.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((31 * code.hashCode() + Long.hashCode(span)) * 31 + nodeId) * 31 + Arrays.hashCode(args);
+        }
+    }
+
+    @Override
+    public String toString() { return message(); }
+}
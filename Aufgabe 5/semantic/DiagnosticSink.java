@@ -0,0 +1,100 @@
+package Aufgabe;
+
+import java.io.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DiagnosticSink: gemeinsame Ausgabe für die Meldungen mehrerer Dateien (Batch, Daemon,
+ * parallele Pässe).
+ *
+ *  - Gesamtlimit über alle Dateien (admit, CAS-Zähler), das Limit pro Datei setzt file()
+ *  - Ausgabe gebündelt: report() hängt die Meldung nur in eine lock-freie Queue; ab BATCH
+ *    offenen Meldungen schreibt der meldende Thread sie gesammelt durch einen BufferedWriter,
+ *    sofern nicht schon ein anderer Thread schreibt (der meldende Thread wartet nie)
+ *  - formatiert wird erst beim Schreiben
+ *
+ * flush() am Ende eines Laufs schreibt den Rest. stderr() bündelt nicht: jede Meldung wird
+ * sofort geschrieben, für Aufrufer, die nie flush() rufen (new SemanticAnalyzer()).
+ */
+public final class DiagnosticSink {
+    public static final int DEFAULT_TOTAL_LIMIT = 100_000;
+    private static final int BATCH = 256;
+
+    private record Pending(FileDiagnostics file, Diagnostic diagnostic) {}
+
+    private final PrintWriter out;          // null = nichts ausgeben
+    private final int perFileLimit;
+    private final int totalLimit;
+    private final int batch;                // 1 = jede Meldung sofort schreiben
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean writing = new AtomicBoolean();
+
+    public DiagnosticSink(Writer out, int perFileLimit, int totalLimit) {
+        this(out, perFileLimit, totalLimit, BATCH);
+    }
+
+    private DiagnosticSink(Writer out, int perFileLimit, int totalLimit, int batch) {
+        this.out = out == null ? null : new PrintWriter(new BufferedWriter(out, 1 << 16));
+        this.perFileLimit = perFileLimit;
+        this.totalLimit = totalLimit;
+        this.batch = batch;
+    }
+
+    /** Ausgabe auf System.err mit Standardlimits, ungebündelt (kein flush() nötig) */
+    public static DiagnosticSink stderr() {
+        return new DiagnosticSink(new OutputStreamWriter(System.err), FileDiagnostics.DEFAULT_LIMIT, DEFAULT_TOTAL_LIMIT, 1);
+    }
+
+    /** Meldungen einer Datei; file = Name für die Ausgabe (null = ohne) */
+    public FileDiagnostics file(String file) {
+        return new FileDiagnostics(this, file, perFileLimit);
+    }
+
+    /** Anzahl übernommener Meldungen über alle Dateien */
+    public int total() { return Math.min(total.get(), totalLimit); }
+
+    // Platz im Gesamtlimit reservieren
+    boolean admit() {
+        if (total.incrementAndGet() <= totalLimit) return true;
+        total.decrementAndGet();
+        return false;
+    }
+
+    void emit(FileDiagnostics file, Diagnostic d) {
+        if (out == null) return;
+        queue.add(new Pending(file, d));
+        // ungebündelt wartet der meldende Thread, sonst könnte die Meldung liegen bleiben
+        if (queued.incrementAndGet() >= batch) drain(batch == 1);
+    }
+
+    public void flush() {
+        if (out == null) return;
+        drain(true);
+    }
+
+    // wait = false: nur schreiben, wenn gerade niemand schreibt
+    private void drain(boolean wait) {
+        if (wait) {
+            while (!writing.compareAndSet(false, true)) Thread.onSpinWait();
+        } else if (!writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Pending p;
+            while ((p = queue.poll()) != null) {
+                queued.decrementAndGet();
+                out.print("[ERROR] ");
+                if (p.file().file() != null) out.print(p.file().file() + ": ");
+                out.println(p.file().render(p.diagnostic()));
+            }
+            out.flush();
+        } finally {
+            writing.set(false);
+        }
+    }
+}
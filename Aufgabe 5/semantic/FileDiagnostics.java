@@ -0,0 +1,140 @@
+package Aufgabe;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import ast.AST;
+import ast.LineMap;
+
+/**
+ * FileDiagnostics: Meldungen einer Quelldatei (ersetzt den ErrorReporter).
+ *
+ *  - report() ist lock-frei (CAS-Zähler, ConcurrentLinkedQueue, konkurrente Key-Menge) und
+ *    darf von mehreren Threads gleichzeitig aufgerufen werden
+ *  - höchstens limit Meldungen pro Datei, dazu das Gesamtlimit des DiagnosticSink;
+ *    alles darüber wird nur noch gezählt (suppressed)
+ *  - Wiederholungen (gleicher Code, gleiche Argumente, gleiche Stelle) werden einmal
+ *    gespeichert und sonst nur gezählt (repeated)
+ *  - Ausgabe gepuffert über den DiagnosticSink, ohne Sink wird nur gesammelt
+ *  - Meldungen tragen den Quellbereich ihres Knotens; mit setLines() werden sie bei der
+ *    Ausgabe als "line L:C ..." dargestellt
+ *
+ * Speicher ist dadurch durch das Limit begrenzt: nach Erreichen wird weder gespeichert
+ * noch formatiert noch in die Key-Menge eingetragen.
+ */
+public final class FileDiagnostics {
+    public static final int DEFAULT_LIMIT = 1000;
+
+    private final DiagnosticSink sink;      // null = nur sammeln
+    private final String file;              // für die Ausgabe, null = ohne Dateinamen
+    private final int limit;
+    private volatile LineMap lines;         // null = ohne Position ausgeben
+
+    private final ConcurrentLinkedQueue<Diagnostic> accepted = new ConcurrentLinkedQueue<>();
+    private final Set<Diagnostic.Key> seen = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger count = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder repeated = new LongAdder();
+
+    /** nur sammeln, nichts ausgeben */
+    public FileDiagnostics() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /** nur sammeln, höchstens limit Meldungen (Integer.MAX_VALUE = unbegrenzt, z.B. für Vergleiche) */
+    public FileDiagnostics(int limit) {
+        this(null, null, limit);
+    }
+
+    FileDiagnostics(DiagnosticSink sink, String file, int limit) {
+        this.sink = sink;
+        this.file = file;
+        this.limit = limit;
+    }
+
+    public void report(DiagCode code, AST.ASTNode at, Object... args) {
+        if (at == null) report(code, -1, Diagnostic.NO_SPAN, args);
+        else report(code, at.nodeId, at.span(), args);
+    }
+
+    /** true = Meldung übernommen, false = Wiederholung oder Limit erreicht */
+    public boolean report(DiagCode code, int nodeId, long span, Object... args) {
+        if (count.get() >= limit) {
+            suppressed.increment();
+            return false;
+        }
+        Diagnostic d = new Diagnostic(code, nodeId, span, args);
+        if (!seen.add(d.key())) {
+            repeated.increment();
+            return false;
+        }
+        // Platz reservieren; zwei Threads können beide die Prüfung oben passiert haben
+        if (count.incrementAndGet() > limit) {
+            suppressed.increment();
+            return false;
+        }
+        if (sink != null && !sink.admit()) {
+            count.decrementAndGet();
+            suppressed.increment();
+            return false;
+        }
+        accepted.add(d);
+        if (sink != null) sink.emit(this, d);
+        return true;
+    }
+
+    // Zähler von Meldungen, die schon anderswo verworfen wurden (Blätter von runParallel)
+    void addDropped(long suppressedCount, long repeatedCount) {
+        suppressed.add(suppressedCount);
+        repeated.add(repeatedCount);
+    }
+
+    public boolean hasErrors() { return !accepted.isEmpty() || suppressed.sum() > 0; }
+
+    /** Anzahl gespeicherter Meldungen */
+    public int size() { return Math.min(count.get(), limit); }
+
+    public long suppressed() { return suppressed.sum(); }
+
+    public long repeated() { return repeated.sum(); }
+
+    public String file() { return file; }
+
+    /** Zeilentabelle der Quelldatei, vor der ersten Ausgabe setzen */
+    public void setLines(LineMap lines) { this.lines = lines; }
+
+    public LineMap lines() { return lines; }
+
+    /** Meldung mit Position (falls bekannt) */
+    public String render(Diagnostic d) { return d.render(lines); }
+
+    int limit() { return limit; }
+
+    public List<Diagnostic> getDiagnostics() { return List.copyOf(accepted); }
+
+    /** formatierte Meldungen (mit Position, siehe setLines) in Meldungsreihenfolge */
+    public List<String> getErrors() {
+        List<String> out = new ArrayList<>();
+        for (Diagnostic d : accepted) out.add(render(d));
+        return out;
+    }
+
+    /** gepufferte Ausgabe des Sinks schreiben (ohne Sink: nichts) */
+    public void flush() {
+        if (sink != null) sink.flush();
+    }
+
+    public void printSummary() {
+        if (!hasErrors()) {
+            System.out.println("No semantic errors found.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Semantic errors:\n");
+        for (Diagnostic d : accepted) sb.append(" - ").append(render(d)).append('\n');
+        if (suppressed.sum() > 0) sb.append(" ... ").append(suppressed.sum()).append(" more (limit reached)\n");
+        if (repeated.sum() > 0) sb.append(" (").append(repeated.sum()).append(" repeated messages omitted)\n");
+        System.out.print(sb);
+    }
+}
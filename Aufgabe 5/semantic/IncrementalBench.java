@@ -0,0 +1,135 @@
+package Aufgabe;
+
+import java.util.*;
+import ast.AST;
+import ast.AST.Stmt;
+import ast.HandParser;
+import ast.LineMap;
+import ast.MiniCCorpus;
+
+/**
+ * Einzelzeichen-Änderungen in einer großen Datei: IncrementalCompiler gegen den vollen Lauf
+ * (HandParser + Pass 1/2 + Typprüfung). Jede Änderung wird mit der nächsten wieder
+ * rückgängig gemacht (Zeichen einfügen/löschen, Zeichen ersetzen/zurücksetzen), dazwischen
+ * ist die Datei oft syntaktisch oder semantisch fehlerhaft -- wie beim Tippen.
+ *
+ * Alle verifyEvery Änderungen: AST und Meldungen müssen einem vollständigen Neuübersetzen
+ * des aktuellen Texts entsprechen, inkl. Zeile:Spalte (Syntaxfehler: beide Seiten müssen einen finden).
+ *
+ * Usage: java semantic.IncrementalBench [functions] [edits] [verifyEvery]
+ */
+public class IncrementalBench {
+    private static final String CHARS = "ax1 ;{}()=+\"#";
+
+    public static void main(String[] args) {
+        int functions = args.length > 0 ? Integer.parseInt(args[0]) : 12_000;
+        int edits = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int verifyEvery = args.length > 2 ? Integer.parseInt(args[2]) : 250;
+
+        String src = MiniCCorpus.generate(functions, 1);
+        long lines = src.chars().filter(c -> c == '\n').count();
+        System.out.printf("%,d Zeilen, %,d Zeichen%n", lines, src.length());
+
+        long full = Long.MAX_VALUE;
+        for (int rep = 0; rep < 3; rep++) {
+            long t0 = System.nanoTime();
+            fullErrors(src);
+            full = Math.min(full, System.nanoTime() - t0);
+        }
+        System.out.printf("voller Lauf (Parsen + Analyse): %.1f ms%n", full / 1e6);
+
+        long t0 = System.nanoTime();
+        IncrementalCompiler ic = new IncrementalCompiler(src);
+        System.out.printf("IncrementalCompiler aufgebaut: %.1f ms, %,d Top-Level-Statements%n",
+                (System.nanoTime() - t0) / 1e6, ic.program().size());
+
+        Random rnd = new Random(7);
+        long[] total = new long[edits], parse = new long[edits];
+        long analyzed = 0, relexed = 0;
+        int verified = 0;
+        String undoText = null;
+        int undoOffset = 0, undoRemoved = 0;
+        for (int e = 0; e < edits; e++) {
+            IncrementalCompiler.EditStats st;
+            if (undoText != null) {
+                st = ic.edit(undoOffset, undoRemoved, undoText);
+                undoText = null;
+            } else {
+                String text = null;
+                int offset = rnd.nextInt(src.length());
+                switch (rnd.nextInt(3)) {
+                    case 0 -> {     // einfügen
+                        st = ic.edit(offset, 0, String.valueOf(CHARS.charAt(rnd.nextInt(CHARS.length()))));
+                        undoOffset = offset; undoRemoved = 1; undoText = "";
+                    }
+                    case 1 -> {     // löschen
+                        text = src.substring(offset, offset + 1);
+                        st = ic.edit(offset, 1, "");
+                        undoOffset = offset; undoRemoved = 0; undoText = text;
+                    }
+                    default -> {    // ersetzen
+                        text = src.substring(offset, offset + 1);
+                        st = ic.edit(offset, 1, String.valueOf(CHARS.charAt(rnd.nextInt(CHARS.length()))));
+                        undoOffset = offset; undoRemoved = 1; undoText = text;
+                    }
+                }
+            }
+            total[e] = st.parseNanos() + st.analyzeNanos();
+            parse[e] = st.parseNanos();
+            analyzed += st.analyzed();
+            relexed += st.parse().relexedChars();
+
+            if ((e + 1) % verifyEvery == 0 || e == edits - 1) {
+                verify(ic, e);
+                verified++;
+            }
+        }
+        if (!ic.text().equals(src)) throw new IllegalStateException("Text nach allen Rücknahmen verschieden");
+
+        Arrays.sort(total);
+        Arrays.sort(parse);
+        System.out.printf("%,d Änderungen: Median %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms (Parsen: Median %.3f ms)%n",
+                edits, pct(total, 50), pct(total, 90), pct(total, 99), total[edits - 1] / 1e6, pct(parse, 50));
+        System.out.printf("im Mittel %.1f Zeichen neu gelext, %.1f Statements neu analysiert; %.0fx schneller als voll (Median)%n",
+                (double) relexed / edits, (double) analyzed / edits, full / (pct(total, 50) * 1e6));
+        System.out.println(verified + " Stände verifiziert, OK");
+    }
+
+    private static double pct(long[] sorted, int p) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)] / 1e6;
+    }
+
+    // voller Lauf; null = Syntaxfehler
+    private static List<String> fullErrors(String text) {
+        List<Stmt> program;
+        try {
+            program = HandParser.parse(text);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        SemanticAnalyzer sa = new SemanticAnalyzer(new FileDiagnostics());
+        sa.getDiagnostics().setLines(new LineMap(text));
+        sa.runPass1(program);
+        sa.runPass2(program);
+        sa.runTypeCheck(program);
+        return sa.getDiagnostics().getErrors();
+    }
+
+    private static void verify(IncrementalCompiler ic, int edit) {
+        String text = ic.text();
+        List<String> expected = fullErrors(text);
+        boolean syntax = !ic.syntaxErrors().isEmpty();
+        if (expected == null || syntax) {
+            if (expected != null || !syntax) {
+                throw new IllegalStateException("Änderung " + edit + ": Syntaxfehler nur auf einer Seite: " + ic.syntaxErrors());
+            }
+            return;
+        }
+        if (!AST.format(ic.program()).equals(AST.format(HandParser.parse(text)))) {
+            throw new IllegalStateException("Änderung " + edit + ": AST weicht vom vollen Parsen ab");
+        }
+        if (!ic.diagnostics().getErrors().equals(expected)) {
+            throw new IllegalStateException("Änderung " + edit + ": Meldungen weichen ab:\n" + ic.diagnostics().getErrors() + "\n" + expected);
+        }
+    }
+}
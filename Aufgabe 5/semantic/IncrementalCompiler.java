@@ -0,0 +1,431 @@
+package Aufgabe;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import ast.AST;
+import ast.AST.*;
+import ast.IncrementalParser;
+import ast.Names;
+import ast.LineMap;
+
+/**
+ * IncrementalCompiler: Quelltext + Analyse für den Editor-Betrieb. Nach jeder Änderung
+ * werden nur die betroffenen Top-Level-Statements neu geparst (IncrementalParser) und nur
+ * die Statements neu analysiert, die neu sind oder deren globale Abhängigkeiten sich
+ * geändert haben. Der Aufwand hängt von der Zahl entfernter/neuer Statements und ihrer
+ * Abhängigen ab, nicht von der Länge der Datei.
+ *
+ * Ablauf pro Änderung (Ergebnis wie runParallel, Meldungen in derselben Reihenfolge):
+ *  1. globale Deklarationen: entfernte Statements austragen, neue eintragen (pro Name alle
+ *     deklarierenden Statements, es gilt das erste nach Ordnungsschlüssel, die übrigen sind
+ *     Duplikate); ist die gültige Deklaration gleich geblieben (Art, Typ, Parameter), bleibt
+ *     ihr altes Symbol, damit Bezüge darauf gültig bleiben
+ *  2. geändert sind die Namen, die ein entferntes oder neues Statement deklariert; nur die
+ *     Statements, die einen davon global nachgeschlagen haben (umgekehrter Index), werden
+ *     geprüft: liefern alle ihre globalen Namen an ihrer Position und am Ende noch dieselben
+ *     Symbole, bleibt ihr Ergebnis, sonst Pass 1, Pass 2 (Calls des Statements) und
+ *     Typprüfung für dieses Statement. Neue Statements werden immer analysiert, außer sie
+ *     waren schon einmal da (Rücknahme, wieder geschlossener Block) -- dann wie oben geprüft.
+ *     Positionen sind die Ordnungsschlüssel des IncrementalParser; die Reihenfolge
+ *     unveränderter Statements untereinander ändert sich durch eine Änderung nicht.
+ *  3. Meldungen werden erst von diagnostics() zusammengesetzt, und nur aus den Statements,
+ *     die welche haben (nach Position sortiert): Duplikate + Pass 1, dann Pass 2, dann
+ *     Typen; die Spans gespeicherter Meldungen sind relativ zum Parse-Fenster und werden
+ *     dabei verschoben
+ *
+ * Ergebnisse, umgekehrter Index und NodeFacts liegen in Arrays über nodeId bzw. Names-ID;
+ * die Knoten-Arrays wachsen mit jeder neu geparsten Knotenzahl (IDs werden nicht wiederverwendet).
+ * Der Compiler ist eine Names-Sitzung: close() gibt die beim Editieren angelegten Namen frei.
+ */
+public final class IncrementalCompiler implements AutoCloseable {
+
+    /** Aufwand einer Änderung */
+    public record EditStats(IncrementalParser.EditInfo parse, int statements, int analyzed,
+                            long parseNanos, long analyzeNanos) {}
+
+    // Ergebnis eines Statements + wovon es abhängt
+    private static final class Unit {
+        final Stmt stmt;
+        final List<Diagnostic> pass1, pass2, types;
+        final int[] refs;                    // nachgeschlagene globale Names-IDs (sortiert)
+        final Symbol[] atPosition, atEnd;    // was sie an der Position bzw. am Ende lieferten
+        final long suppressed, repeated;
+
+        Unit(Stmt stmt, List<Diagnostic> pass1, List<Diagnostic> pass2, List<Diagnostic> types, int[] refs,
+             Symbol[] atPosition, Symbol[] atEnd, long suppressed, long repeated) {
+            this.stmt = stmt;
+            this.pass1 = pass1;
+            this.pass2 = pass2;
+            this.types = types;
+            this.refs = refs;
+            this.atPosition = atPosition;
+            this.atEnd = atEnd;
+            this.suppressed = suppressed;
+            this.repeated = repeated;
+        }
+
+        boolean valid(SymbolTable.GlobalScope globals, int position) {
+            for (int i = 0; i < refs.length; i++) {
+                if (globals.resolve(refs[i], position) != atPosition[i]) return false;
+                if (globals.resolve(refs[i], Integer.MAX_VALUE) != atEnd[i]) return false;
+            }
+            return true;
+        }
+
+        boolean hasDiagnostics() {
+            return !pass1.isEmpty() || !pass2.isEmpty() || !types.isEmpty();
+        }
+    }
+
+    // sammelt die Names-IDs der globalen Nachschläge eines Statements
+    private static final class Refs implements IntConsumer {
+        int[] ids = new int[16];
+        int size = 0;
+
+        @Override
+        public void accept(int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        int[] distinct() {
+            int[] a = Arrays.copyOf(ids, size);
+            Arrays.sort(a);
+            int n = 0;
+            for (int i = 0; i < a.length; i++) if (n == 0 || a[n - 1] != a[i]) a[n++] = a[i];
+            return Arrays.copyOf(a, n);
+        }
+    }
+
+    private final Names.Session names = Names.session();    // vor dem ersten Parsen
+    private final IncrementalParser parser;
+    private final NodeFacts facts = new NodeFacts();
+    private final int limit;
+
+    // pro nodeId eines Top-Level-Statements: Ergebnis, im Programm?, Duplikat?, Prüf-Markierung (= epoch)
+    private Unit[] units = new Unit[64];
+    private boolean[] live = new boolean[64];
+    private boolean[] duplicate = new boolean[64];
+    private int[] recheck = new int[64];
+    private int epoch = 0;
+
+    // pro Names-ID: Symbol der gültigen (ersten) Deklaration, ihr Statement und dessen Position
+    // (-1 = nicht deklariert), alle deklarierenden Statements, Runde der letzten Änderung
+    private Symbol[] symbols = new Symbol[64];
+    private Stmt[] declaration = new Stmt[64];
+    private int[] declaredAt = new int[64];
+    private Stmt[][] declarers = new Stmt[64][];
+    private int[] declarerCount = new int[64];
+    private int[] changedIn = new int[64];
+
+    // umgekehrter Index: Names-ID -> nodeIds der Statements, die sie global nachgeschlagen haben
+    // (kann veraltete Einträge enthalten, wird beim Wachsen bereinigt)
+    private int[][] dependents = new int[64][];
+    private int[] dependentCount = new int[64];
+
+    // Statements mit Meldungen (oder Duplikat) nach Position; Summen über alle im Programm
+    private final TreeSet<Stmt> flagged;
+    private long suppressed = 0, repeated = 0;
+    private FileDiagnostics diagnostics;            // null = neu zusammensetzen
+
+    public IncrementalCompiler(String source) {
+        this(source, FileDiagnostics.DEFAULT_LIMIT);
+    }
+
+    public IncrementalCompiler(String source, int limit) {
+        this.limit = limit;
+        this.parser = new IncrementalParser(source);
+        this.flagged = new TreeSet<>(Comparator.comparingInt(parser::order));
+        Arrays.fill(declaredAt, -1);
+        analyze(List.of(), parser.program(), List.of(), false);
+    }
+
+    /** ersetzt removed Zeichen ab offset durch inserted, parst und analysiert nach */
+    public EditStats edit(int offset, int removed, String inserted) {
+        long t0 = System.nanoTime();
+        IncrementalParser.EditInfo info = parser.edit(offset, removed, inserted);
+        long t1 = System.nanoTime();
+        int analyzed = analyze(info.removed(), info.added(), info.discarded(), info.relabeled());
+        long t2 = System.nanoTime();
+        return new EditStats(info, parser.statementCount(), analyzed, t1 - t0, t2 - t1);
+    }
+
+    /** Editor geschlossen: Namen-IDs freigeben, danach keine Aufrufe mehr */
+    @Override
+    public void close() { names.close(); }
+
+    public String text() { return parser.text(); }
+
+    public List<Stmt> program() { return parser.program(); }
+
+    public List<String> syntaxErrors() { return parser.syntaxErrors(); }
+
+    /**
+     * semantische Meldungen des aktuellen Stands (nur der fehlerfrei geparsten Statements);
+     * Positionen beziehen sich auf den Text bis zur nächsten Änderung
+     */
+    public FileDiagnostics diagnostics() {
+        if (diagnostics == null) {
+            FileDiagnostics d = new FileDiagnostics(limit);
+            d.setLines(new LineMap(parser::text));
+            int[] shift = new int[flagged.size()];
+            int k = 0;
+            for (Stmt s : flagged) {
+                shift[k] = parser.spanShift(s);
+                if (duplicate[s.nodeId]) {
+                    d.report(s instanceof VarDecl ? DiagCode.DUPLICATE_VARIABLE : DiagCode.DUPLICATE_FUNCTION,
+                            s.nodeId, AST.shift(s.span(), shift[k]), s instanceof VarDecl vd ? vd.name : ((FnDecl) s).name);
+                }
+                report(d, units[s.nodeId].pass1, shift[k++]);
+            }
+            k = 0;
+            for (Stmt s : flagged) report(d, units[s.nodeId].pass2, shift[k++]);
+            k = 0;
+            for (Stmt s : flagged) report(d, units[s.nodeId].types, shift[k++]);
+            d.addDropped(suppressed, repeated);
+            diagnostics = d;
+        }
+        return diagnostics;
+    }
+
+    public NodeFacts getFacts() { return facts; }
+
+    // liefert die Anzahl neu analysierter Statements
+    private int analyze(List<Stmt> removed, List<Stmt> added, List<Stmt> discarded, boolean relabeled) {
+        epoch++;
+        diagnostics = null;
+        facts.ensureCapacity(parser.nodeCount());
+        if (parser.nodeCount() > units.length) {
+            int n = Math.max(parser.nodeCount(), units.length * 2);
+            units = Arrays.copyOf(units, n);
+            live = Arrays.copyOf(live, n);
+            duplicate = Arrays.copyOf(duplicate, n);
+            recheck = Arrays.copyOf(recheck, n);
+        }
+
+        // 1. globale Deklarationen der entfernten/neuen Statements
+        List<Integer> changed = new ArrayList<>();
+        for (Stmt s : removed) {
+            setLive(s, false);
+            int id = declaredId(s);
+            if (id < 0) continue;
+            Stmt[] ds = declarers[id];
+            int n = declarerCount[id];
+            for (int i = 0; i < n; i++) {
+                if (ds[i] == s) {
+                    ds[i] = ds[--n];
+                    ds[n] = null;
+                    break;
+                }
+            }
+            declarerCount[id] = n;
+            markChanged(id, changed);
+        }
+        for (Stmt s : added) {
+            int id = declaredId(s);
+            if (id >= 0) {
+                growNames(id);
+                if (declarers[id] == null) declarers[id] = new Stmt[1];
+                else if (declarerCount[id] == declarers[id].length) declarers[id] = Arrays.copyOf(declarers[id], declarerCount[id] * 2);
+                declarers[id][declarerCount[id]++] = s;
+                markChanged(id, changed);
+            }
+            setLive(s, true);
+        }
+        for (int id : changed) {
+            Stmt first = null;
+            for (int i = 0; i < declarerCount[id]; i++) {
+                Stmt s = declarers[id][i];
+                if (first == null || parser.order(s) < parser.order(first)) first = s;
+            }
+            for (int i = 0; i < declarerCount[id]; i++) setDuplicate(declarers[id][i], declarers[id][i] != first);
+            if (first == null) {
+                declaredAt[id] = -1;
+                continue;
+            }
+            declaredAt[id] = parser.order(first);
+            if (declaration[id] != first) {
+                Symbol sym = declare(first, symbols[id]);
+                symbols[id] = sym;
+                declaration[id] = first;
+                facts.setScope(first, 0);
+                facts.setSymbol(first, sym);
+            }
+        }
+        if (relabeled) {
+            for (int id = 0; id < declaredAt.length; id++) {
+                if (declaredAt[id] >= 0) declaredAt[id] = parser.order(declaration[id]);
+            }
+        }
+        SymbolTable.GlobalScope globals = new SymbolTable.GlobalScope(symbols, declaredAt);
+        SymbolTable local = new SymbolTable(facts, globals);
+
+        // 2. neue Statements und Abhängige jedes geänderten Namens prüfen (erst sammeln, die
+        //    Analyse trägt neue Abhängige ein)
+        List<Stmt> pending = new ArrayList<>(added);
+        for (int id : changed) {
+            int[] deps = dependents[id];
+            for (int i = 0; i < dependentCount[id]; i++) {
+                if (live[deps[i]]) pending.add(units[deps[i]].stmt);
+            }
+        }
+        int analyzed = 0;
+        for (Stmt s : pending) {
+            if (recheck[s.nodeId] == epoch) continue;
+            recheck[s.nodeId] = epoch;
+            if (units[s.nodeId] == null) facts.setScope(s, 0);
+            analyzed += check(s, local, globals);
+        }
+
+        // Ergebnisse entfernter Statements bleiben, bis der Parser sie endgültig aufgibt
+        for (Stmt s : discarded) units[s.nodeId] = null;
+        if (relabeled) {    // Schlüssel haben sich geändert: Sortierung neu aufbauen
+            flagged.clear();
+            for (Stmt s : parser.program()) if (flags(s)) flagged.add(s);
+        }
+        return analyzed;
+    }
+
+    // vorhandenes Ergebnis prüfen bzw. neu analysieren; liefert 1, wenn analysiert wurde
+    private int check(Stmt s, SymbolTable local, SymbolTable.GlobalScope globals) {
+        int position = parser.order(s);
+        Unit u = units[s.nodeId];
+        if (u != null && u.valid(globals, position)) return 0;
+        if (u != null) count(u, -1);
+        u = analyzeStatement(s, position, local, globals);
+        units[s.nodeId] = u;
+        count(u, 1);
+        for (int id : u.refs) addDependent(id, s.nodeId);
+        refresh(s);
+        return 1;
+    }
+
+    private void setLive(Stmt s, boolean in) {
+        live[s.nodeId] = in;
+        Unit u = units[s.nodeId];
+        if (u != null) count(u, in ? 1 : -1);
+        if (!in) duplicate[s.nodeId] = false;
+        refresh(s);
+    }
+
+    private void setDuplicate(Stmt s, boolean dup) {
+        if (duplicate[s.nodeId] == dup) return;
+        duplicate[s.nodeId] = dup;
+        refresh(s);
+    }
+
+    private void count(Unit u, int sign) {
+        suppressed += sign * u.suppressed;
+        repeated += sign * u.repeated;
+    }
+
+    private boolean flags(Stmt s) {
+        Unit u = units[s.nodeId];
+        return live[s.nodeId] && u != null && (duplicate[s.nodeId] || u.hasDiagnostics());
+    }
+
+    // Mitgliedschaft in flagged nachführen (nach relabeled am Ende von analyze neu aufgebaut)
+    private void refresh(Stmt s) {
+        if (flags(s)) flagged.add(s);
+        else flagged.remove(s);
+    }
+
+    private void markChanged(int id, List<Integer> changed) {
+        if (changedIn[id] == epoch) return;
+        changedIn[id] = epoch;
+        changed.add(id);
+    }
+
+    private static void report(FileDiagnostics d, List<Diagnostic> list, int shift) {
+        for (int i = 0; i < list.size(); i++) {
+            Diagnostic m = list.get(i);
+            d.report(m.code(), m.nodeId(), AST.shift(m.span(), shift), m.args());
+        }
+    }
+
+    private static int declaredId(Stmt s) {
+        if (s instanceof VarDecl vd) return vd.id;
+        if (s instanceof FnDecl fd) return fd.id;
+        return -1;
+    }
+
+    private void growNames(int id) {
+        if (id < symbols.length) return;
+        int old = symbols.length, n = Math.max(id + 1, old * 2);
+        symbols = Arrays.copyOf(symbols, n);
+        declaration = Arrays.copyOf(declaration, n);
+        declaredAt = Arrays.copyOf(declaredAt, n);
+        Arrays.fill(declaredAt, old, n, -1);
+        declarers = Arrays.copyOf(declarers, n);
+        declarerCount = Arrays.copyOf(declarerCount, n);
+        changedIn = Arrays.copyOf(changedIn, n);
+        dependents = Arrays.copyOf(dependents, n);
+        dependentCount = Arrays.copyOf(dependentCount, n);
+    }
+
+    private void addDependent(int id, int nodeId) {
+        growNames(id);
+        int[] deps = dependents[id];
+        int n = dependentCount[id];
+        if (deps == null) {
+            dependents[id] = deps = new int[4];
+        } else if (n == deps.length) {
+            // erst bereinigen: entfernte Statements und Doppelte raus
+            Arrays.sort(deps, 0, n);
+            int m = 0;
+            for (int i = 0; i < n; i++) {
+                if (units[deps[i]] != null && (m == 0 || deps[m - 1] != deps[i])) deps[m++] = deps[i];
+            }
+            n = m;
+            if (n > deps.length / 2) dependents[id] = deps = Arrays.copyOf(deps, deps.length * 2);
+        }
+        deps[n] = nodeId;
+        dependentCount[id] = n + 1;
+    }
+
+    // gleiche Deklaration wie beim letzten Mal -> altes Symbol
+    private static Symbol declare(Stmt s, Symbol prev) {
+        if (s instanceof VarDecl vd) {
+            return prev instanceof VarSymbol v && v.type == vd.type ? prev : new VarSymbol(vd.name, vd.type);
+        }
+        FnDecl fd = (FnDecl) s;
+        if (prev instanceof FnSymbol f && f.returnType == fd.returnType && f.params.size() == fd.params.size()) {
+            boolean same = true;
+            for (int i = 0; i < fd.params.size() && same; i++) {
+                Param a = f.params.get(i), b = fd.params.get(i);
+                same = a.type == b.type && a.id == b.id;
+            }
+            if (same) return prev;
+        }
+        return new FnSymbol(fd.name, fd.returnType, fd.params);
+    }
+
+    // wie ein Blatt von runParallel, für genau ein Statement
+    private Unit analyzeStatement(Stmt s, int position, SymbolTable table, SymbolTable.GlobalScope globals) {
+        Refs refs = new Refs();
+        table.recordGlobalRefs(refs);
+        FileDiagnostics errors = new FileDiagnostics(limit);
+        SemanticAnalyzer unit = new SemanticAnalyzer(table, errors);
+        try {
+            table.setGlobalPosition(position);
+            unit.visitTopLevelPass1(s);
+            int n1 = errors.size();
+            table.setGlobalPosition(Integer.MAX_VALUE);
+            unit.runPass2(null);
+            int n2 = errors.size();
+            new TypeChecker(facts, errors).check(List.of(s));
+
+            int[] ids = refs.distinct();
+            Symbol[] atPosition = new Symbol[ids.length], atEnd = new Symbol[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                atPosition[i] = globals.resolve(ids[i], position);
+                atEnd[i] = globals.resolve(ids[i], Integer.MAX_VALUE);
+            }
+            List<Diagnostic> all = errors.getDiagnostics();
+            return new Unit(s, all.subList(0, n1), all.subList(n1, n2), all.subList(n2, all.size()),
+                    ids, atPosition, atEnd, errors.suppressed(), errors.repeated());
+        } finally {
+            table.recordGlobalRefs(null);
+        }
+    }
+}
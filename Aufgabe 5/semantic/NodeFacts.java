@@ -0,0 +1,87 @@
+package Aufgabe;
+
+import java.util.Arrays;
+import ast.AST;
+
+/**
+ * NodeFacts: semantische Ergebnisse pro AST-Knoten in parallelen Arrays, Index ist
+ * ASTNode.nodeId. Ein Pass legt Fakten mit einem Array-Store ab, spätere Pässe lesen
+ * sie ohne Hashing; ersetzt die IdentityHashMap nodeToSymbol.
+ *
+ *  - symbol:   Deklaration bzw. aufgelöster Bezug (VarDecl, FnDecl, Variable, Assign, Call)
+ *  - type:     Typ eines Ausdrucks/einer Deklaration (null = unbekannt)
+ *  - constant: Wert eines konstanten Ausdrucks (Integer, Boolean, String; null = nicht konstant)
+ *  - scope:    Scope-Tiefe, in der der Knoten steht (0 = global, -1 = nicht besucht)
+ */
+public class NodeFacts {
+    private Symbol[] symbol;
+    private AST.PrimType[] type;
+    private Object[] constant;
+    private int[] scope;
+
+    public NodeFacts() {
+        this(AST.nodeCount());
+    }
+
+    /** capacity: erwartete Knotenzahl (z.B. AST.nodeCount() nach dem Parsen), wächst bei Bedarf */
+    public NodeFacts(int capacity) {
+        int n = Math.max(16, capacity);
+        symbol = new Symbol[n];
+        type = new AST.PrimType[n];
+        constant = new Object[n];
+        scope = new int[n];
+        Arrays.fill(scope, -1);
+    }
+
+    /** Platz für Knoten-IDs < n schaffen (vor parallelem Schreiben, dann wächst nichts mehr) */
+    public void ensureCapacity(int n) {
+        if (n > 0) ensure(n - 1);
+    }
+
+    private void ensure(int id) {
+        if (id < symbol.length) return;
+        int old = symbol.length;
+        int n = Math.max(id + 1, old * 2);
+        symbol = Arrays.copyOf(symbol, n);
+        type = Arrays.copyOf(type, n);
+        constant = Arrays.copyOf(constant, n);
+        scope = Arrays.copyOf(scope, n);
+        Arrays.fill(scope, old, n, -1);
+    }
+
+    public void setSymbol(AST.ASTNode node, Symbol sym) {
+        ensure(node.nodeId);
+        symbol[node.nodeId] = sym;
+    }
+
+    public Symbol symbol(AST.ASTNode node) {
+        return node.nodeId < symbol.length ? symbol[node.nodeId] : null;
+    }
+
+    public void setType(AST.ASTNode node, AST.PrimType t) {
+        ensure(node.nodeId);
+        type[node.nodeId] = t;
+    }
+
+    public AST.PrimType type(AST.ASTNode node) {
+        return node.nodeId < type.length ? type[node.nodeId] : null;
+    }
+
+    public void setConstant(AST.ASTNode node, Object value) {
+        ensure(node.nodeId);
+        constant[node.nodeId] = value;
+    }
+
+    public Object constant(AST.ASTNode node) {
+        return node.nodeId < constant.length ? constant[node.nodeId] : null;
+    }
+
+    public void setScope(AST.ASTNode node, int depth) {
+        ensure(node.nodeId);
+        scope[node.nodeId] = depth;
+    }
+
+    public int scope(AST.ASTNode node) {
+        return node.nodeId < scope.length ? scope[node.nodeId] : -1;
+    }
+}
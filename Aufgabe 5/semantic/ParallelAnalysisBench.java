@@ -0,0 +1,73 @@
+package Aufgabe;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.*;
+import ast.AST.Stmt;
+import ast.MiniCCorpus;
+import ast.MiniCFrontend;
+
+/**
+ * Vergleicht sequentielle (runPass1/runPass2/runTypeCheck) und parallele Analyse (runParallel)
+ * auf einem großen generierten Programm mit eingestreuten Fehlern: die Meldungen müssen
+ * identisch sein (Inhalt und Reihenfolge), gemessen wird die Zeit pro Thread-Anzahl.
+ * Usage: java semantic.ParallelAnalysisBench [functions] [maxThreads]
+ */
+public class ParallelAnalysisBench {
+    public static void main(String[] args) {
+        int functions = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        String src = injectErrors(MiniCCorpus.generate(functions, 42), 7);
+        List<Stmt> program = new MiniCFrontend().parseDirect(src);
+        System.out.printf("%,d Top-Level-Statements, %,d Zeichen%n", program.size(), src.length());
+
+        List<String> expected = null;
+        long seqBest = Long.MAX_VALUE;
+        for (int rep = 0; rep < 5; rep++) {
+            long t0 = System.nanoTime();
+            SemanticAnalyzer sa = new SemanticAnalyzer(new FileDiagnostics(Integer.MAX_VALUE));
+            sa.runPass1(program);
+            sa.runPass2(program);
+            sa.runTypeCheck(program);
+            seqBest = Math.min(seqBest, System.nanoTime() - t0);
+            expected = sa.getDiagnostics().getErrors();
+        }
+        System.out.printf("sequentiell: %d Meldungen, %.1f ms%n", expected.size(), seqBest / 1e6);
+
+        for (int n = 1; ; n = Math.min(n * 2, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(n);
+            long best = Long.MAX_VALUE;
+            for (int rep = 0; rep < 5; rep++) {
+                long t0 = System.nanoTime();
+                SemanticAnalyzer sa = new SemanticAnalyzer(new FileDiagnostics(Integer.MAX_VALUE));
+                sa.runParallel(program, pool);
+                best = Math.min(best, System.nanoTime() - t0);
+                if (!sa.getDiagnostics().getErrors().equals(expected)) {
+                    throw new IllegalStateException(n + " Threads: Meldungen weichen von der sequentiellen Analyse ab");
+                }
+            }
+            pool.shutdown();
+            System.out.printf("parallel, %2d Threads: %.1f ms (%.2fx)%n", n, best / 1e6, (double) seqBest / best);
+            if (n == maxThreads) break;
+        }
+        System.out.println("OK");
+    }
+
+    // deterministische Fehler: unbekannte Variablen/Funktionen und Typfehler
+    private static String injectErrors(String src, long seed) {
+        Random rnd = new Random(seed);
+        Matcher m = Pattern.compile("\\b(v|f)(\\d+)\\b|= (\\d+);").matcher(src);
+        StringBuilder out = new StringBuilder();
+        while (m.find()) {
+            String repl = m.group();
+            if (rnd.nextInt(40) == 0) {
+                if (m.group(1) != null) repl = (m.group(1).equals("v") ? "w" : "g") + m.group(2);
+                else repl = "= \"x\";";
+            }
+            m.appendReplacement(out, Matcher.quoteReplacement(repl));
+        }
+        m.appendTail(out);
+        return out.toString();
+    }
+}
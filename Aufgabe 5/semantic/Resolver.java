@@ -0,0 +1,240 @@
+package Aufgabe;
+
+import java.util.*;
+import ast.AST;
+import ast.AST.*;
+
+/**
+ * Resolver (Pass 3): lexikalische Adressen für Variablen- und Funktionsbezüge.
+ *
+ * Für jedes Variable-, Assign- und VarDecl-Knoten: Frame-Tiefe (0 = eigener Frame,
+ * 1 = umschließende Funktion, ...), Slot im Frame und Index der Funktion, der der Frame
+ * gehört (-1 = globaler Frame). Für jeden Call: Tiefe und Index der aufgerufenen Funktion.
+ * Jede Funktion bekommt ihre genaue Slot-Anzahl (Parameter + Locals, Block-Locals teilen
+ * sich Slots, sobald der Block verlassen ist), damit ein Interpreter/Codegen den Frame
+ * vorab anlegen kann.
+ *
+ * Setzt ein fehlerfreies Pass 1/2 voraus; nicht auflösbare Namen bleiben ohne Adresse.
+ * Sichtbarkeit wie in Pass 1: Variablen und Funktionen ab ihrer Deklaration, eine Variable
+ * sieht also nie eine erst später im Block deklarierte Funktion. Calls wie in runSinglePass:
+ * ist der Name schon als Funktion sichtbar, wird sofort gebunden, sonst bleibt der Call im
+ * Scope offen und wird gebunden, sobald dort (oder in einem umschließenden Scope) eine
+ * gleichnamige Funktion deklariert wird (Aufruf vor Definition erlaubt).
+ */
+public final class Resolver {
+
+    /** Aufgelöster Bezug; slot = -1 bei Funktionen, function = Besitzer des Frames bzw. Ziel des Calls */
+    public record Address(Symbol symbol, int depth, int slot, int function) {
+        public boolean isGlobal() { return function < 0 && slot >= 0; }
+    }
+
+    /** Ergebnis des Resolvers; Adressen und Funktionsindizes als Arrays über nodeId */
+    public static final class Resolution {
+        private Address[] addresses = new Address[Math.max(16, AST.nodeCount())];
+        private int[] functionIndex = new int[0];
+        private final List<FnDecl> functions = new ArrayList<>();
+        private int[] frameSizes = new int[16];
+        private int globalSlots = 0;
+
+        /** Adresse eines Variable/Assign/VarDecl/Call-Knotens (null = nicht aufgelöst) */
+        public Address address(ASTNode node) {
+            return node.nodeId < addresses.length ? addresses[node.nodeId] : null;
+        }
+
+        private void put(ASTNode node, Address a) {
+            if (node.nodeId >= addresses.length) addresses = Arrays.copyOf(addresses, Math.max(node.nodeId + 1, addresses.length * 2));
+            addresses[node.nodeId] = a;
+        }
+
+        public int functionCount() { return functions.size(); }
+
+        public FnDecl function(int index) { return functions.get(index); }
+
+        public int functionIndex(FnDecl fd) {
+            return fd.nodeId < functionIndex.length ? functionIndex[fd.nodeId] : -1;
+        }
+
+        private void setFunctionIndex(FnDecl fd, int index) {
+            if (fd.nodeId >= functionIndex.length) {
+                int old = functionIndex.length;
+                functionIndex = Arrays.copyOf(functionIndex, Math.max(fd.nodeId + 1, Math.max(16, old * 2)));
+                Arrays.fill(functionIndex, old, functionIndex.length, -1);
+            }
+            functionIndex[fd.nodeId] = index;
+        }
+
+        /** Slots (Parameter + Locals) im Frame der Funktion */
+        public int frameSize(int function) { return frameSizes[function]; }
+
+        public int globalSlots() { return globalSlots; }
+
+        public void printFrames() {
+            System.out.println("global: " + globalSlots + " slots");
+            for (int i = 0; i < functions.size(); i++) {
+                System.out.println("fn #" + i + " " + functions.get(i).name + ": " + frameSizes[i] + " slots");
+            }
+        }
+    }
+
+    // Frame einer Funktion (bzw. der globale Frame) während des Durchlaufs
+    private static final class Frame {
+        final int function;
+        int next = 0, max = 0;
+        Frame(int function) { this.function = function; }
+    }
+
+    // Call vor der Deklaration seiner Funktion + Frame-Ebene an der Aufrufstelle
+    private record PendingCall(Call call, int frame) {}
+
+    private final SymbolTable scopes = new SymbolTable();
+    private final Map<Symbol, int[]> where = new IdentityHashMap<>();   // Symbol -> {Frame-Ebene, Slot, Funktion}
+    private final ArrayList<Frame> frames = new ArrayList<>();
+    private final ArrayList<Map<Integer, List<PendingCall>>> pending = new ArrayList<>();  // pro Scope-Tiefe
+    private final Resolution result = new Resolution();
+
+    private Resolver() {}
+
+    public static Resolution resolve(List<Stmt> program) {
+        Resolver r = new Resolver();
+        r.frames.add(new Frame(-1));
+        for (Stmt s : program) r.visitStmt(s);
+        r.result.globalSlots = r.frames.get(0).max;
+        return r.result;
+    }
+
+    private Frame frame() { return frames.get(frames.size() - 1); }
+
+    // Funktion an ihrer Deklaration bekannt machen und offene Calls dieses Scopes binden
+    private int declareFunction(FnDecl fd) {
+        int index = result.functions.size();
+        result.functions.add(fd);
+        result.setFunctionIndex(fd, index);
+        FnSymbol sym = new FnSymbol(fd.name, fd.returnType, fd.params);
+        if (!scopes.defineInCurrentScope(sym)) return index;   // Duplikat, schon von Pass 1 gemeldet
+        int level = frames.size() - 1;
+        where.put(sym, new int[]{level, -1, index});
+        int depth = scopes.scopeDepth();
+        List<PendingCall> calls = depth < pending.size() && pending.get(depth) != null ? pending.get(depth).remove(fd.id) : null;
+        if (calls != null) {
+            for (PendingCall pc : calls) result.put(pc.call(), new Address(sym, pc.frame() - level, -1, index));
+        }
+        return index;
+    }
+
+    private void exitScope() {
+        // offene Calls wandern in den umschließenden Scope, dort kann die Funktion noch kommen
+        int depth = scopes.scopeDepth();
+        Map<Integer, List<PendingCall>> open = depth < pending.size() ? pending.set(depth, null) : null;
+        if (open != null && depth > 0) {
+            for (Map.Entry<Integer, List<PendingCall>> e : open.entrySet()) {
+                pendingAt(depth - 1).computeIfAbsent(e.getKey(), k -> new ArrayList<>()).addAll(e.getValue());
+            }
+        }
+        scopes.exitScope();
+    }
+
+    private Map<Integer, List<PendingCall>> pendingAt(int depth) {
+        while (pending.size() <= depth) pending.add(null);
+        Map<Integer, List<PendingCall>> m = pending.get(depth);
+        if (m == null) pending.set(depth, m = new HashMap<>());
+        return m;
+    }
+
+    private void defineVar(ASTNode decl, String name, PrimType type) {
+        Frame f = frame();
+        VarSymbol sym = new VarSymbol(name, type);
+        if (!scopes.defineInCurrentScope(sym)) return;      // Duplikat, schon von Pass 1 gemeldet
+        int slot = f.next++;
+        f.max = Math.max(f.max, f.next);
+        where.put(sym, new int[]{frames.size() - 1, slot, f.function});
+        if (decl != null) result.put(decl, new Address(sym, 0, slot, f.function));
+    }
+
+    private Address lookup(int id) {
+        Symbol sym = scopes.resolve(id);
+        if (sym == null) return null;
+        int[] w = where.get(sym);
+        return new Address(sym, frames.size() - 1 - w[0], w[1], w[2]);
+    }
+
+    private void visitStmt(Stmt s) {
+        if (s instanceof VarDecl vd) {
+            // wie Pass 1: erst definieren, dann den Initialisierer
+            defineVar(vd, vd.name, vd.type);
+            if (vd.initializer != null) visitExpr(vd.initializer);
+        }
+        else if (s instanceof Assign asg) {
+            Address a = lookup(asg.id);
+            if (a != null) result.put(asg, a);
+            visitExpr(asg.value);
+        }
+        else if (s instanceof FnDecl fd) {
+            int index = declareFunction(fd);    // vor dem Rumpf: Rekursion
+            frames.add(new Frame(index));
+            scopes.enterScope();
+            for (Param p : fd.params) defineVar(null, p.name, p.type);   // Slots 0..n-1
+            // Rumpf im selben Scope wie die Parameter (wie Pass 1)
+            for (Stmt b : fd.body.statements) visitStmt(b);
+            exitScope();
+            Frame f = frames.remove(frames.size() - 1);
+            if (index >= result.frameSizes.length) result.frameSizes = Arrays.copyOf(result.frameSizes, Math.max(index + 1, result.frameSizes.length * 2));
+            result.frameSizes[index] = f.max;
+        }
+        else if (s instanceof ReturnStmt rs) {
+            visitExpr(rs.value);
+        }
+        else if (s instanceof ExprStmt es) {
+            visitExpr(es.expr);
+        }
+        else if (s instanceof Block b) {
+            visitBlock(b);
+        }
+        else if (s instanceof WhileStmt w) {
+            visitExpr(w.condition);
+            visitBlock(w.body);
+        }
+        else if (s instanceof IfStmt iff) {
+            visitExpr(iff.condition);
+            visitBlock(iff.thenBranch);
+            visitBlock(iff.elseBranch);
+        }
+        else {
+            throw new RuntimeException("Unknown Stmt in resolver: " + s);
+        }
+    }
+
+    private void visitBlock(Block b) {
+        Frame f = frame();
+        int saved = f.next;     // Slots des Blocks danach wieder frei
+        scopes.enterScope();
+        for (Stmt s : b.statements) visitStmt(s);
+        exitScope();
+        f.next = saved;
+    }
+
+    // iterativ (lange Binary-Ketten), wie Pass 1
+    private void visitExpr(Expr root) {
+        Deque<Expr> work = new ArrayDeque<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            Expr e = work.pop();
+            if (e instanceof Variable v) {
+                Address a = lookup(v.id);
+                if (a != null && a.symbol() instanceof VarSymbol) result.put(v, a);
+            }
+            else if (e instanceof Binary b) {
+                work.push(b.right);
+                work.push(b.left);
+            }
+            else if (e instanceof Call c) {
+                Address a = lookup(c.id);
+                if (a != null && a.symbol() instanceof FnSymbol) result.put(c, a);
+                else if (a == null) {
+                    pendingAt(scopes.scopeDepth()).computeIfAbsent(c.id, k -> new ArrayList<>())
+                            .add(new PendingCall(c, frames.size() - 1));
+                }
+                for (int i = c.args.size() - 1; i >= 0; i--) work.push(c.args.get(i));
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package Aufgabe;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import ast.AST;
 import ast.AST.*;
 import static ast.AST.PrimType;
@@ -11,21 +13,43 @@ import static ast.AST.Operator;
  *  - pass1: Scopes/Definitionen (Variablen, Funktionen), Prüfung: mehrfache Definition im Scope,
  *           Variablenverwendung muss vorher deklariert sein, Variablen dürfen nicht als Funktionen benutzt werden.
  *  - pass2: Prüfung von Funktionsaufrufen: Existenz/Sichtbarkeit und Argumentanzahl
+ *  - runTypeCheck: Typen aller Ausdrücke (TypeChecker), benutzt die in Pass 1/2 verknüpften Symbole
  *
  * Hinweise:
  *  - Funktionen dürfen vor Aufruf deklariert werden (also call-before-def ist erlaubt). Deshalb
  *    überprüfen wir in Pass1 nicht das Vorhandensein einer Funktion; stattdessen sammeln wir Calls
  *    und prüfen sie in Pass2 gegen die komplette Symboltabelle.
+ *  - runSinglePass: Pass 1 und Call-Prüfung in einem Durchlauf (Vorwärtsbezüge per Backpatching)
+ *  - runParallel: dieselben Prüfungen (Pass 1, Pass 2, Typprüfung), aber Funktionsrümpfe
+ *    parallel; Meldungen in derselben Reihenfolge wie sequentiell.
  */
 public class SemanticAnalyzer {
 
-    private final SymbolTable symbols = new SymbolTable();
-    private final ErrorReporter errors = new ErrorReporter();
+    private final SymbolTable symbols;
+    private final FileDiagnostics errors;
 
     // Gesammelte Funktionsaufrufe zum Prüfen in Pass2
     private final List<Call> callSites = new ArrayList<>();
 
-    public ErrorReporter getErrorReporter() { return errors; }
+    // nur runSinglePass: offene Calls pro Scope-Tiefe (Names-ID -> Calls, null = keine)
+    // und alle je offenen Calls in Quellreihenfolge (für die Meldungen am Ende)
+    private ArrayList<Map<Integer, List<Call>>> pending = null;
+    private final List<Call> unresolved = new ArrayList<>();
+
+    public SemanticAnalyzer() {
+        this(DiagnosticSink.stderr().file(null));
+    }
+
+    public SemanticAnalyzer(FileDiagnostics errors) {
+        this(new SymbolTable(), errors);
+    }
+
+    SemanticAnalyzer(SymbolTable symbols, FileDiagnostics errors) {
+        this.symbols = symbols;
+        this.errors = errors;
+    }
+
+    public FileDiagnostics getDiagnostics() { return errors; }
     public SymbolTable getSymbolTable() { return symbols; }
 
     /* ------------------ PASS 1 ------------------ */
@@ -36,14 +60,20 @@ public class SemanticAnalyzer {
         }
     }
 
+    /** Pass 1 für ein einzelnes Top-Level-Statement (Streaming: Statement für Statement). */
+    public void runPass1(Stmt s) {
+        visitStmtPass1(s);
+    }
+
     private void visitStmtPass1(Stmt s) {
+        symbols.getFacts().setScope(s, symbols.scopeDepth());
         if (s instanceof VarDecl vd) {
             // variable must not be already defined in current scope
             if (!symbols.defineInCurrentScope(new VarSymbol(vd.name, vd.type))) {
-                errors.error("Duplicate variable declaration in same scope: " + vd.name);
+                errors.report(DiagCode.DUPLICATE_VARIABLE, vd, vd.name);
             } else {
                 // link VarDecl AST node -> VarSymbol (Querverbindung)
-                Symbol sym = symbols.resolveInCurrentScope(vd.name);
+                Symbol sym = symbols.resolveInCurrentScope(vd.id);
                 symbols.link(vd, sym);
             }
             // initializer: evaluate expressions now (variable must be visible if used)
@@ -51,42 +81,26 @@ public class SemanticAnalyzer {
         }
         else if (s instanceof Assign asg) {
             // variable must be defined (visible) at assignment time
-            Symbol sym = symbols.resolve(asg.name);
+            Symbol sym = symbols.resolve(asg.id);
             if (sym == null) {
-                errors.error("Assignment to undefined variable: " + asg.name);
+                errors.report(DiagCode.ASSIGN_UNDEFINED, asg, asg.name);
             } else if (sym instanceof FnSymbol) {
-                errors.error("Assignment target is a function name (not a variable): " + asg.name);
+                errors.report(DiagCode.ASSIGN_TO_FUNCTION, asg, asg.name);
+            } else {
+                symbols.link(asg, sym);
             }
             visitExprPass1(asg.value);
         }
         else if (s instanceof FnDecl fd) {
             // functions cannot be multiply defined in same scope
             if (!symbols.defineInCurrentScope(new FnSymbol(fd.name, fd.returnType, fd.params))) {
-                errors.error("Duplicate function declaration in same scope: " + fd.name);
+                errors.report(DiagCode.DUPLICATE_FUNCTION, fd, fd.name);
             } else {
-                Symbol sym = symbols.resolveInCurrentScope(fd.name);
+                Symbol sym = symbols.resolveInCurrentScope(fd.id);
                 symbols.link(fd, sym);
+                if (pending != null) patchCalls((FnSymbol) sym);
             }
-            // Enter function scope, add parameters as variable symbols (in order)
-            symbols.enterScope();
-            Set<String> paramNames = new HashSet<>();
-            for (Param p : fd.params) {
-                if (paramNames.contains(p.name)) {
-                    errors.error("Duplicate parameter name in function " + fd.name + ": " + p.name);
-                } else {
-                    // parameters can't collide inside the function's parameter list
-                    paramNames.add(p.name);
-                    if (!symbols.defineInCurrentScope(new VarSymbol(p.name, p.type))) {
-                        errors.error("Parameter name shadows another symbol already in function scope: " + p.name);
-                    } else {
-                        // link parameter declaration AST node is not a Stmt, so we don't have a direct node to attach.
-                        // If desired, one could create Param AST nodes as separate AST nodes for linking.
-                    }
-                }
-            }
-            // traverse body statements (variables must be defined before use here)
-            visitBlockPass1(fd.body);
-            symbols.exitScope();
+            visitFnBodyPass1(fd);
         }
         else if (s instanceof ReturnStmt rs) {
             visitExprPass1(rs.value);
@@ -95,67 +109,176 @@ public class SemanticAnalyzer {
             visitExprPass1(es.expr);
         }
         else if (s instanceof Block b) {
-            symbols.enterScope();
+            enterScope();
             visitBlockPass1(b);
-            symbols.exitScope();
+            exitScope();
         }
         else if (s instanceof WhileStmt w) {
             visitExprPass1(w.condition);
-            symbols.enterScope();
+            enterScope();
             visitBlockPass1(w.body);
-            symbols.exitScope();
+            exitScope();
         }
         else if (s instanceof IfStmt iff) {
             visitExprPass1(iff.condition);
-            symbols.enterScope();
+            enterScope();
             visitBlockPass1(iff.thenBranch);
-            symbols.exitScope();
-            symbols.enterScope();
+            exitScope();
+            enterScope();
             visitBlockPass1(iff.elseBranch);
-            symbols.exitScope();
+            exitScope();
         }
         else {
             throw new RuntimeException("Unknown Stmt in pass1: " + s);
         }
     }
 
+    private void visitFnBodyPass1(FnDecl fd) {
+        // Enter function scope, add parameters as variable symbols (in order)
+        enterScope();
+        Set<Integer> paramNames = new HashSet<>();
+        for (Param p : fd.params) {
+            if (paramNames.contains(p.id)) {
+                errors.report(DiagCode.DUPLICATE_PARAMETER, fd, fd.name, p.name);
+            } else {
+                // parameters can't collide inside the function's parameter list
+                paramNames.add(p.id);
+                if (!symbols.defineInCurrentScope(new VarSymbol(p.name, p.type))) {
+                    errors.report(DiagCode.PARAMETER_SHADOWS, fd, p.name);
+                } else {
+                    // link parameter declaration AST node is not a Stmt, so we don't have a direct node to attach.
+                    // If desired, one could create Param AST nodes as separate AST nodes for linking.
+                }
+            }
+        }
+        // traverse body statements (variables must be defined before use here)
+        visitBlockPass1(fd.body);
+        exitScope();
+    }
+
     private void visitBlockPass1(Block b) {
         for (Stmt s : b.statements) visitStmtPass1(s);
     }
 
-    private void visitExprPass1(Expr e) {
-        if (e instanceof IntLiteral || e instanceof StringLiteral || e instanceof BoolLiteral) {
-            // nothing to do
-        }
-        else if (e instanceof Variable v) {
-            Symbol sym = symbols.resolve(v.name);
-            if (sym == null) {
-                errors.error("Use of undefined variable: " + v.name);
-            } else if (sym instanceof FnSymbol) {
-                // variable cannot be used as variable if it's a function
-                errors.error("Function name used where variable expected: " + v.name);
+    // iterativ mit explizitem Stack (Binary-Ketten können 50k+ Ebenen tief sein);
+    // Reihenfolge wie bei rekursivem Abstieg: links vor rechts, Argumente von links nach rechts
+    private void visitExprPass1(Expr root) {
+        Deque<Expr> work = new ArrayDeque<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            Expr e = work.pop();
+            if (e instanceof IntLiteral lit) {
+                symbols.getFacts().setConstant(e, lit.value);
+            }
+            else if (e instanceof StringLiteral lit) {
+                symbols.getFacts().setConstant(e, lit.value);
+            }
+            else if (e instanceof BoolLiteral lit) {
+                symbols.getFacts().setConstant(e, lit.value);
+            }
+            else if (e instanceof Variable v) {
+                Symbol sym = symbols.resolve(v.id);
+                if (sym == null) {
+                    errors.report(DiagCode.UNDEFINED_VARIABLE, v, v.name);
+                } else if (sym instanceof FnSymbol) {
+                    // variable cannot be used as variable if it's a function
+                    errors.report(DiagCode.FUNCTION_AS_VARIABLE, v, v.name);
+                } else {
+                    symbols.link(v, sym);
+                }
+            }
+            else if (e instanceof Binary b) {
+                work.push(b.right);
+                work.push(b.left);
+                // Typprüfung der Operanden: TypeChecker (runTypeCheck)
+            }
+            else if (e instanceof Call c) {
+                // If the name resolves to a variable -> error (variable used as function).
+                Symbol sym = symbols.resolve(c.id);
+                if (sym instanceof VarSymbol) {
+                    errors.report(DiagCode.CALL_ON_VARIABLE, c, c.name);
+                }
+                // we do NOT error if function is not yet defined (calls before defs permitted).
+                // Instead: collect call site to check in pass2.
+                if (pending == null) callSites.add(c);
+                else if (sym instanceof FnSymbol fn) bindCall(c, fn);
+                else if (sym == null) addPending(c);
+                // visit arguments
+                for (int i = c.args.size() - 1; i >= 0; i--) work.push(c.args.get(i));
+            }
+            else {
+                throw new RuntimeException("Unknown Expr in pass1: " + e);
             }
-            // else OK
-        }
-        else if (e instanceof Binary b) {
-            visitExprPass1(b.left);
-            visitExprPass1(b.right);
-            // type checks will come later (not required in A5.2/A5.3) — could be added here or a later pass
         }
-        else if (e instanceof Call c) {
-            // If the name resolves to a variable -> error (variable used as function).
-            Symbol sym = symbols.resolve(c.name);
-            if (sym instanceof VarSymbol) {
-                errors.error("Attempt to call a variable as function: " + c.name);
+    }
+
+    private void enterScope() {
+        symbols.enterScope();
+    }
+
+    private void exitScope() {
+        if (pending != null) {
+            // offene Calls wandern in den umschließenden Scope, dort kann f noch deklariert werden
+            int depth = symbols.scopeDepth();
+            Map<Integer, List<Call>> open = depth < pending.size() ? pending.set(depth, null) : null;
+            if (open != null) {
+                for (Map.Entry<Integer, List<Call>> e : open.entrySet()) {
+                    pendingAt(depth - 1).computeIfAbsent(e.getKey(), k -> new ArrayList<>()).addAll(e.getValue());
+                }
             }
-            // we do NOT error if function is not yet defined (calls before defs permitted).
-            // Instead: collect call site to check in pass2.
-            callSites.add(c);
-            // visit arguments
-            for (Expr arg : c.args) visitExprPass1(arg);
         }
-        else {
-            throw new RuntimeException("Unknown Expr in pass1: " + e);
+        symbols.exitScope();
+    }
+
+    /* ------------------ EIN DURCHLAUF ------------------ */
+
+    /**
+     * Pass 1 und Pass 2 in einem einzigen Durchlauf (statt runPass1 + runPass2).
+     *
+     * Ein Call, dessen Name schon als Funktion sichtbar ist, wird sofort gebunden und geprüft.
+     * Sonst bleibt er im aktuellen Scope offen; wird dort später eine gleichnamige Funktion
+     * deklariert, wird der Call nachträglich gebunden (Backpatching). Beim Verlassen eines
+     * Scopes wandern die offenen Calls in den umschließenden Scope, was am Ende im globalen
+     * Scope übrig ist, wird gemeldet. Damit sehen Calls in inneren Scopes auch die dort
+     * deklarierten Funktionen (runPass2 prüft nur noch gegen den globalen Scope).
+     */
+    public void runSinglePass(List<Stmt> program) {
+        pending = new ArrayList<>();
+        for (Stmt s : program) visitStmtPass1(s);
+
+        for (Call call : unresolved) {
+            if (symbols.getLinked(call) != null) continue;
+            if (symbols.resolve(call.id) instanceof VarSymbol) errors.report(DiagCode.NOT_A_FUNCTION, call, call.name);
+            else errors.report(DiagCode.UNDEFINED_FUNCTION, call, call.name);
+        }
+        pending = null;
+        unresolved.clear();
+    }
+
+    private Map<Integer, List<Call>> pendingAt(int depth) {
+        while (pending.size() <= depth) pending.add(null);
+        Map<Integer, List<Call>> m = pending.get(depth);
+        if (m == null) pending.set(depth, m = new HashMap<>());
+        return m;
+    }
+
+    private void addPending(Call c) {
+        pendingAt(symbols.scopeDepth()).computeIfAbsent(c.id, k -> new ArrayList<>()).add(c);
+        unresolved.add(c);
+    }
+
+    // Funktion im aktuellen Scope deklariert: offene Calls dieses Scopes nachträglich binden
+    private void patchCalls(FnSymbol fn) {
+        int depth = symbols.scopeDepth();
+        if (depth >= pending.size() || pending.get(depth) == null) return;
+        List<Call> calls = pending.get(depth).remove(fn.id);
+        if (calls != null) for (Call c : calls) bindCall(c, fn);
+    }
+
+    private void bindCall(Call call, FnSymbol fn) {
+        symbols.link(call, fn);
+        if (fn.params.size() != call.args.size()) {
+            errors.report(DiagCode.ARGUMENT_COUNT, call, call.name, fn.params.size(), call.args.size());
         }
     }
 
@@ -164,22 +287,183 @@ public class SemanticAnalyzer {
         // For pass2 we use the symbol table as built in pass1 (it contains all definitions found).
         // Check each collected call site for existence, kind (must be FnSymbol), and param count.
         for (Call call : callSites) {
-            Symbol sym = symbols.resolve(call.name);
+            Symbol sym = symbols.resolve(call.id);
             if (sym == null) {
-                errors.error("Call to undefined function: " + call.name);
+                errors.report(DiagCode.UNDEFINED_FUNCTION, call, call.name);
                 continue;
             }
             if (!(sym instanceof FnSymbol fn)) {
-                errors.error("Call target is not a function: " + call.name);
+                errors.report(DiagCode.NOT_A_FUNCTION, call, call.name);
+                continue;
+            }
+            // verknüpfen + Anzahl der Argumente prüfen
+            bindCall(call, fn);
+            // Argumenttypen prüft der TypeChecker (runTypeCheck)
+        }
+    }
+
+    /* ------------------ TYPPRÜFUNG ------------------ */
+    /** nach runPass2: Typen aller Ausdrücke bestimmen (NodeFacts.type) und prüfen */
+    public void runTypeCheck(List<Stmt> program) {
+        new TypeChecker(symbols.getFacts(), errors).check(program);
+    }
+
+    /* ------------------ PARALLEL ------------------ */
+
+    // mindestens so viele Top-Level-Statements pro Blatt-Task
+    private static final int MIN_GRAIN = 32;
+
+    /**
+     * Pass 1, Pass 2 und Typprüfung mit parallelen Funktionsrümpfen (statt runPass1/runPass2/runTypeCheck).
+     *
+     *  1. sequentiell: alle globalen VarDecl/FnDecl in die Symboltabelle dieses Analyzers,
+     *     jeweils mit ihrer Top-Level-Position -> unveränderliche GlobalScope
+     *  2. parallel (ForkJoinPool): zusammenhängende Bereiche von Top-Level-Statements, jedes
+     *     Blatt mit eigener SymbolTable (Scope-Stack) über der GlobalScope; ein Statement an
+     *     Position k sieht nur globale Deklarationen bis k, Pass 2 sieht alle
+     *  3. Meldungen zusammenführen: erst alle Pass-1-, dann alle Pass-2-, dann alle
+     *     Typ-Meldungen, jeweils in Quellreihenfolge -- identisch zum sequentiellen Lauf
+     *
+     * Die Knoten-Fakten (NodeFacts) werden vorab groß genug angelegt; die Blätter schreiben
+     * nur an die IDs ihrer eigenen Knoten.
+     */
+    public void runParallel(List<Stmt> program, ForkJoinPool pool) {
+        // Kinder werden vor den Eltern konstruiert -> die größte nodeId hat ein Top-Level-Statement,
+        // bei verzögert geparsten Rümpfen (HandParser.parseLazy) ein Statement eines Rumpfs;
+        // der Zugriff parst sie hier sequentiell, bevor die Blätter parallel lesen
+        int maxId = -1;
+        for (Stmt s : program) {
+            maxId = Math.max(maxId, s.nodeId);
+            if (s instanceof FnDecl fd) for (Stmt b : fd.body.statements) maxId = Math.max(maxId, b.nodeId);
+        }
+        symbols.getFacts().ensureCapacity(maxId + 1);
+
+        // Phase 1: globale Deklarationen
+        DiagCode[] duplicate = new DiagCode[program.size()];
+        int[] declaredAt = new int[64];
+        Symbol[] byId = new Symbol[64];
+        for (int k = 0; k < program.size(); k++) {
+            Stmt s = program.get(k);
+            symbols.getFacts().setScope(s, 0);
+            Symbol sym;
+            if (s instanceof VarDecl vd) sym = new VarSymbol(vd.name, vd.type);
+            else if (s instanceof FnDecl fd) sym = new FnSymbol(fd.name, fd.returnType, fd.params);
+            else continue;
+            if (!symbols.defineInCurrentScope(sym)) {
+                duplicate[k] = s instanceof VarDecl ? DiagCode.DUPLICATE_VARIABLE : DiagCode.DUPLICATE_FUNCTION;
                 continue;
             }
-            // Num args match?
-            if (fn.params.size() != call.args.size()) {
-                errors.error(String.format("Argument count mismatch in call to %s: expected %d, got %d",
-                        call.name, fn.params.size(), call.args.size()));
+            symbols.link(s, sym);
+            if (sym.id >= declaredAt.length) {
+                declaredAt = Arrays.copyOf(declaredAt, Math.max(sym.id + 1, declaredAt.length * 2));
+                byId = Arrays.copyOf(byId, declaredAt.length);
+            }
+            declaredAt[sym.id] = k;
+            byId[sym.id] = sym;
+        }
+        SymbolTable.GlobalScope globals = new SymbolTable.GlobalScope(byId, declaredAt);
+
+        // Phase 2 + 3; eine SymbolTable pro Worker-Thread, nach jedem Top-Level-Statement ist
+        // sie wieder leer (alle lokalen Bindungen zurückgenommen) und kann weiterbenutzt werden
+        NodeFacts facts = symbols.getFacts();
+        ThreadLocal<SymbolTable> tables = ThreadLocal.withInitial(() -> new SymbolTable(facts, globals));
+        // ca. 8 Blätter pro Thread: genug zum Stehlen, wenig Overhead pro Blatt
+        int grain = Math.max(MIN_GRAIN, program.size() / (8 * pool.getParallelism()));
+        UnitDiagnostics d = pool.invoke(new UnitTask(program, 0, program.size(), grain, duplicate, tables, facts, errors.limit()));
+        for (Diagnostic m : d.pass1) errors.report(m.code(), m.nodeId(), m.span(), m.args());
+        for (Diagnostic m : d.pass2) errors.report(m.code(), m.nodeId(), m.span(), m.args());
+        for (Diagnostic m : d.types) errors.report(m.code(), m.nodeId(), m.span(), m.args());
+        errors.addDropped(d.suppressed, d.repeated);
+    }
+
+    public void runParallel(List<Stmt> program) {
+        runParallel(program, ForkJoinPool.commonPool());
+    }
+
+    // Pass 1 für ein Top-Level-Statement, dessen globale Deklaration schon in Phase 1 stattfand
+    void visitTopLevelPass1(Stmt s) {
+        if (s instanceof VarDecl vd) {
+            if (vd.initializer != null) visitExprPass1(vd.initializer);
+        } else if (s instanceof FnDecl fd) {
+            visitFnBodyPass1(fd);
+        } else {
+            visitStmtPass1(s);
+        }
+    }
+
+    // Meldungen eines Bereichs, getrennt nach Phase
+    // plus die im Blatt schon verworfenen Meldungen (Limit/Wiederholung)
+    private static final class UnitDiagnostics {
+        final List<Diagnostic> pass1, pass2, types;
+        long suppressed, repeated;
+
+        UnitDiagnostics(List<Diagnostic> pass1, List<Diagnostic> pass2, List<Diagnostic> types, long suppressed, long repeated) {
+            this.pass1 = pass1;
+            this.pass2 = pass2;
+            this.types = types;
+            this.suppressed = suppressed;
+            this.repeated = repeated;
+        }
+
+        UnitDiagnostics append(UnitDiagnostics right) {
+            suppressed += right.suppressed;
+            repeated += right.repeated;
+            pass1.addAll(right.pass1);
+            pass2.addAll(right.pass2);
+            types.addAll(right.types);
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")     // lebt nur im Pool, wird nie serialisiert
+    private static final class UnitTask extends RecursiveTask<UnitDiagnostics> {
+        private final List<Stmt> program;
+        private final int lo, hi, grain, limit;
+        private final DiagCode[] duplicate;
+        private final ThreadLocal<SymbolTable> tables;
+        private final NodeFacts facts;
+
+        UnitTask(List<Stmt> program, int lo, int hi, int grain, DiagCode[] duplicate, ThreadLocal<SymbolTable> tables, NodeFacts facts, int limit) {
+            this.program = program;
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+            this.duplicate = duplicate;
+            this.tables = tables;
+            this.facts = facts;
+            this.limit = limit;
+        }
+
+        @Override
+        protected UnitDiagnostics compute() {
+            if (hi - lo > grain) {
+                int mid = (lo + hi) >>> 1;
+                UnitTask left = new UnitTask(program, lo, mid, grain, duplicate, tables, facts, limit);
+                UnitTask right = new UnitTask(program, mid, hi, grain, duplicate, tables, facts, limit);
+                left.fork();
+                UnitDiagnostics r = right.compute();
+                return left.join().append(r);
+            }
+            SymbolTable table = tables.get();
+            // ein Blatt meldet nie mehr als die Datei insgesamt aufnimmt
+            FileDiagnostics unitErrors = new FileDiagnostics(limit);
+            SemanticAnalyzer unit = new SemanticAnalyzer(table, unitErrors);
+            for (int k = lo; k < hi; k++) {
+                table.setGlobalPosition(k);
+                Stmt s = program.get(k);
+                if (duplicate[k] != null) unitErrors.report(duplicate[k], s, s instanceof VarDecl vd ? vd.name : ((FnDecl) s).name);
+                unit.visitTopLevelPass1(s);
             }
-            // Optional: check arg types match param types — task A5.3 did not strictly demand type-checking of args,
-            // but you can add it here by inferring expression types (would need a type inference/evaluation pass).
+            int n1 = unitErrors.size();
+            table.setGlobalPosition(Integer.MAX_VALUE);
+            unit.runPass2(null);
+            int n2 = unitErrors.size();
+            new TypeChecker(facts, unitErrors).check(program.subList(lo, hi));
+
+            List<Diagnostic> all = unitErrors.getDiagnostics();
+            return new UnitDiagnostics(new ArrayList<>(all.subList(0, n1)), new ArrayList<>(all.subList(n1, n2)),
+                    new ArrayList<>(all.subList(n2, all.size())),
+                    unitErrors.suppressed(), unitErrors.repeated());
         }
     }
 }
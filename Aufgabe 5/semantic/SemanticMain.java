@@ -1,5 +1,7 @@
 package Aufgabe;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
 import java.util.*;
 import org.antlr.v4.runtime.*;
@@ -7,35 +9,29 @@ import org.antlr.v4.runtime.tree.*;
 import parser.*;   // passe ggf. an dein ANTLR-Package an
 import ast.AST;
 import ast.AST.Stmt;
-import ast.ASTBuilder;
+import ast.LineMap;
+import ast.MiniCFrontend;
+import ast.StreamingFrontend;
 
 public class SemanticMain {
     public static void main(String[] args) throws Exception {
-        if (args.length == 0) {
-            System.err.println("Usage: java semantic.SemanticMain <source.minic>");
+        boolean stream = args.length > 0 && args[0].equals("--stream");
+        boolean parallel = args.length > 0 && args[0].equals("--parallel");
+        boolean singlePass = args.length > 0 && args[0].equals("--single-pass");
+        boolean option = stream || parallel || singlePass;
+        if (args.length == (option ? 1 : 0)) {
+            System.err.println("Usage: java semantic.SemanticMain [--stream | --parallel | --single-pass] <source.minic>");
             System.exit(1);
         }
-        String src = Files.readString(Path.of(args[0]));
-
-        // ANTLR parsing
-        CharStream cs = CharStreams.fromString(src);
-        MiniCLexer lexer = new MiniCLexer(cs);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        MiniCParser parser = new MiniCParser(tokens);
-
-        parser.removeErrorListeners();
-        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
-
-        MiniCParser.ProgramContext tree = parser.program();
-
-        // Build AST
-        ASTBuilder builder = new ASTBuilder();
-        List<Stmt> program = new ArrayList<>();
-        for (MiniCParser.StmtContext sctx : tree.stmt()) {
-            AST.ASTNode node = builder.visit(sctx);
-            if (node instanceof Stmt) program.add((Stmt) node);
-            else throw new RuntimeException("Top-level produced non-stmt: " + node);
+        if (stream) {
+            runStreaming(args[1]);
+            return;
         }
+        String src = Files.readString(Path.of(args[option ? 1 : 0]));
+
+        // ANTLR parsing (SLL, bei Bedarf LL) + Build AST
+        MiniCFrontend frontend = new MiniCFrontend();
+        List<Stmt> program = frontend.parse(src);
 
         // Print AST (optional)
         System.out.println("=== AST ===");
@@ -43,10 +39,61 @@ public class SemanticMain {
 
         // Semantic analysis
         SemanticAnalyzer sa = new SemanticAnalyzer();
-        sa.runPass1(program);
+        sa.getDiagnostics().setLines(new LineMap(src));
+        if (parallel) {
+            // Funktionsrümpfe parallel, gleiche Meldungen wie sequentiell
+            sa.runParallel(program);
+        } else if (singlePass) {
+            // Namensauflösung inkl. Calls in einem Durchlauf
+            sa.runSinglePass(program);
+            sa.runTypeCheck(program);
+        } else {
+            sa.runPass1(program);
+            sa.runPass2(program);
+            sa.runTypeCheck(program);
+        }
+
+        sa.getDiagnostics().flush();
+        System.out.println("\n=== Semantic Summary ===");
+        sa.getDiagnostics().printSummary();
+        frontend.printStats();
+
+        // Pass 3: lexikalische Adressen / Frame-Größen (nur für fehlerfreie Programme)
+        if (!sa.getDiagnostics().hasErrors()) {
+            System.out.println("\n=== Frames ===");
+            Resolver.resolve(program).printFrames();
+        }
+    }
+
+    /*
+     * Streaming: jedes Top-Level-Statement wird direkt nach dem Parsen ausgegeben und
+     * durch Pass 1 geschickt; danach hängt nichts mehr an seinen Tokens/Kontexten.
+     * Pass 2 läuft am Ende über die gesammelten Call-Sites, danach die Typprüfung über die
+     * gesammelten Statements (sie braucht die erst in Pass 2 gebundenen Calls). Gehalten
+     * wird also nur der AST, wie in den anderen Modi.
+     */
+    private static void runStreaming(String path) throws Exception {
+        SemanticAnalyzer sa = new SemanticAnalyzer();
+        // Zeilentabelle erst, wenn eine Meldung ausgegeben wird (Datei dann erneut lesen)
+        sa.getDiagnostics().setLines(new LineMap(() -> {
+            try {
+                return Files.readString(Path.of(path));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        System.out.println("=== AST ===");
+        List<Stmt> program = new ArrayList<>();
+        new StreamingFrontend().parse(path, stmt -> {
+            AST.printProgram(List.of(stmt));
+            sa.runPass1(stmt);
+            program.add(stmt);
+        });
         sa.runPass2(program);
+        sa.runTypeCheck(program);
 
+        sa.getDiagnostics().flush();
         System.out.println("\n=== Semantic Summary ===");
-        sa.getErrorReporter().printSummary();
+        sa.getDiagnostics().printSummary();
     }
 }
@@ -1,63 +1,172 @@
 package Aufgabe;
 
 import java.util.*;
+import java.util.function.IntConsumer;
 import ast.AST;
+import ast.Names;
 
 /**
- * SymbolTable mit Stack von Scopes. Jeder Scope ist Map<String,Symbol>.
- * Zusätzlich Map<ASTNode,Symbol> nodeToSymbol für Querverbindungen.
+ * SymbolTable als Binding-Stack: zu jeder Names-ID zeigt head[id] auf die innerste
+ * sichtbare Bindung, jede Bindung merkt sich die von ihr verschattete (prev).
+ *
+ *  - resolve(id): ein Array-Zugriff, unabhängig von der Schachtelungstiefe
+ *  - enterScope(): merkt sich nur die aktuelle Länge des Undo-Logs (keine Allokation)
+ *  - exitScope(): nimmt die Bindungen des Scopes vom Log und stellt head[] zurück
+ *
+ * Das Undo-Log ist zugleich der Bindungsspeicher (parallele Arrays, Index = Bindung).
+ * Eine Bindung gehört zum aktuellen Scope, wenn ihr Index >= Scope-Anfang ist.
+ * Querverbindungen Knoten -> Symbol liegen in NodeFacts (Arrays über nodeId).
+ *
+ * Für die parallele Analyse kann eine Tabelle über einer unveränderlichen GlobalScope
+ * liegen: was lokal nicht gebunden ist, wird dort gesucht, sichtbar sind nur globale
+ * Deklarationen bis zur aktuellen Top-Level-Position (wie beim sequentiellen Pass 1).
  */
 public class SymbolTable {
-    private final Deque<Map<String, Symbol>> scopes = new ArrayDeque<>();
-    private final Map<AST.ASTNode, Symbol> nodeToSymbol = new IdentityHashMap<>();
+    private int[] head = new int[64];   // ID -> Bindung oder -1, wächst mit der größten definierten ID
+    {
+        Arrays.fill(head, -1);
+    }
+
+    // Undo-Log / Bindungen
+    private int[] logId = new int[64];
+    private int[] logPrev = new int[64];
+    private Symbol[] logSym = new Symbol[64];
+    private int logSize = 0;
+
+    // Scope-Anfänge im Log
+    private int[] scopeStart = new int[16];
+    private int depth = 0;
+
+    private final NodeFacts facts;
+
+    // optionale globale Ebene darunter (parallele Analyse)
+    private final GlobalScope globals;
+    private int position = Integer.MAX_VALUE;
+    private IntConsumer globalRefs = null;      // bekommt jede an globals weitergereichte Names-ID
 
     public SymbolTable() {
-        enterScope(); // global scope
+        this(new NodeFacts(), null);
+    }
+
+    public SymbolTable(NodeFacts facts, GlobalScope globals) {
+        this.facts = facts;
+        this.globals = globals;
+        enterScope(); // global scope (bzw. leere Top-Level-Ebene über globals)
     }
 
-    public void enterScope() { scopes.push(new HashMap<>()); }
+    /** Top-Level-Position, bis zu der globale Deklarationen sichtbar sind (MAX = alle) */
+    void setGlobalPosition(int position) { this.position = position; }
+
+    /** Names-IDs aller Nachschläge in der GlobalScope melden (inkrementelle Analyse), null = aus */
+    void recordGlobalRefs(IntConsumer refs) { this.globalRefs = refs; }
+
+    /** aktuelle Scope-Tiefe (0 = global) */
+    public int scopeDepth() { return depth - 1; }
+
+    public void enterScope() {
+        if (depth == scopeStart.length) scopeStart = Arrays.copyOf(scopeStart, depth * 2);
+        scopeStart[depth++] = logSize;
+    }
 
     public void exitScope() {
-        if (scopes.isEmpty()) throw new IllegalStateException("No scope to exit");
-        scopes.pop();
+        if (depth == 0) throw new IllegalStateException("No scope to exit");
+        int start = scopeStart[--depth];
+        while (logSize > start) {
+            logSize--;
+            head[logId[logSize]] = logPrev[logSize];
+            logSym[logSize] = null;
+        }
     }
 
     /** define in current scope; returns false if name already present in current scope */
     public boolean defineInCurrentScope(Symbol sym) {
-        Map<String, Symbol> cur = scopes.peek();
-        if (cur.containsKey(sym.name)) return false;
-        cur.put(sym.name, sym);
+        int id = sym.id;
+        if (id >= head.length) growHead(id);
+        int prev = head[id];
+        if (prev >= scopeStart[depth - 1]) return false;
+        if (logSize == logId.length) growLog();
+        logId[logSize] = id;
+        logPrev[logSize] = prev;
+        logSym[logSize] = sym;
+        head[id] = logSize++;
         return true;
     }
 
-    /** resolve name searching from innermost to outermost scope */
+    /** resolve name: innerste sichtbare Bindung */
+    public Symbol resolve(int id) {
+        int b = id >= 0 && id < head.length ? head[id] : -1;
+        if (b >= 0) return logSym[b];
+        if (globals == null || id < 0) return null;
+        if (globalRefs != null) globalRefs.accept(id);
+        return globals.resolve(id, position);
+    }
+
     public Symbol resolve(String name) {
-        for (Map<String, Symbol> s : scopes) {
-            if (s.containsKey(name)) return s.get(name);
-        }
-        return null;
+        return resolve(Names.lookup(name));
     }
 
     /** resolve only in current (innermost) scope */
+    public Symbol resolveInCurrentScope(int id) {
+        if (id < 0 || id >= head.length) return null;
+        int b = head[id];
+        return b >= scopeStart[depth - 1] ? logSym[b] : null;
+    }
+
     public Symbol resolveInCurrentScope(String name) {
-        Map<String, Symbol> cur = scopes.peek();
-        return cur.get(name);
+        return resolveInCurrentScope(Names.lookup(name));
     }
 
     /** attach symbol to AST node (Querverbindung) */
     public void link(AST.ASTNode node, Symbol sym) {
-        nodeToSymbol.put(node, sym);
+        facts.setSymbol(node, sym);
     }
 
     public Symbol getLinked(AST.ASTNode node) {
-        return nodeToSymbol.get(node);
+        return facts.symbol(node);
     }
 
+    /** alle Fakten pro Knoten (Symbol, Typ, Konstante, Scope) */
+    public NodeFacts getFacts() { return facts; }
+
     /** For debugging */
     public String dumpCurrentScope() {
         StringBuilder sb = new StringBuilder();
-        Map<String, Symbol> cur = scopes.peek();
-        for (Map.Entry<String, Symbol> e : cur.entrySet()) sb.append(e.getKey()).append(" -> ").append(e.getValue()).append("\n");
+        for (int b = scopeStart[depth - 1]; b < logSize; b++) sb.append(logSym[b].name).append(" -> ").append(logSym[b]).append("\n");
         return sb.toString();
     }
+
+    private void growHead(int id) {
+        int old = head.length;
+        head = Arrays.copyOf(head, Math.max(id + 1, old * 2));
+        Arrays.fill(head, old, head.length, -1);
+    }
+
+    private void growLog() {
+        int n = logId.length * 2;
+        logId = Arrays.copyOf(logId, n);
+        logPrev = Arrays.copyOf(logPrev, n);
+        logSym = Arrays.copyOf(logSym, n);
+    }
+
+    /**
+     * Unveränderliche globale Ebene: Symbol jeder global deklarierten Names-ID plus die
+     * Top-Level-Position ihrer Deklaration (< 0 = nicht deklariert). Nur lesend, daher von
+     * mehreren Threads gleichzeitig benutzbar.
+     */
+    public static final class GlobalScope {
+        private final Symbol[] symbols;     // Names-ID -> Symbol (null = keins)
+        private final int[] declaredAt;     // Names-ID -> Position des Top-Level-Statements
+
+        GlobalScope(Symbol[] symbols, int[] declaredAt) {
+            this.symbols = symbols;
+            this.declaredAt = declaredAt;
+        }
+
+        Symbol resolve(int id, int position) {
+            if (id >= symbols.length || id >= declaredAt.length) return null;
+            Symbol sym = symbols[id];
+            int at = declaredAt[id];
+            return sym != null && at >= 0 && at <= position ? sym : null;
+        }
+    }
 }
@@ -2,11 +2,13 @@ package Aufgabe;
 
 import java.util.*;
 import ast.AST;
+import ast.Names;
 
 /** Symbole: Basisklasse + VarSymbol + FnSymbol */
 public abstract class Symbol {
     public final String name;
-    public Symbol(String name) { this.name = name; }
+    public final int id;      // Names-ID, Schlüssel in der SymbolTable
+    public Symbol(String name) { this.id = Names.intern(name); this.name = Names.name(id); }
 }
 
 public class VarSymbol extends Symbol {
@@ -0,0 +1,153 @@
+package Aufgabe;
+
+import java.util.*;
+import ast.AST.*;
+
+/**
+ * TypeChecker (nach Pass 1/2): bestimmt für jeden Ausdruck den PrimType und legt ihn in
+ * NodeFacts ab (ein Array-Store pro Knoten), ein Codegen kann danach typspezialisierte
+ * Operationen ohne Laufzeit-Typtests erzeugen.
+ *
+ * Regeln:
+ *  - '+':           int + int -> int, string + string -> string
+ *  - '-' '*' '/':   int x int -> int
+ *  - '<' '>':       int x int -> bool
+ *  - '==' '!=':     gleiche Typen -> bool
+ *  - Initialisierer, Zuweisungen, return und Call-Argumente müssen zum deklarierten Typ passen,
+ *    Bedingungen von if/while müssen bool sein.
+ *
+ * Benutzt die in Pass 1/2 verknüpften Symbole (NodeFacts.symbol). Ist ein Teilausdruck schon
+ * fehlerhaft (Typ unbekannt), wird darauf aufbauend nichts mehr gemeldet (keine Folgefehler).
+ */
+public class TypeChecker {
+    private final NodeFacts facts;
+    private final FileDiagnostics errors;
+    // Rückgabetypen der umschließenden Funktionen (leer = Top-Level)
+    private final Deque<PrimType> returnTypes = new ArrayDeque<>();
+
+    public TypeChecker(NodeFacts facts, FileDiagnostics errors) {
+        this.facts = facts;
+        this.errors = errors;
+    }
+
+    public void check(List<Stmt> program) {
+        for (Stmt s : program) visitStmt(s);
+    }
+
+    private void visitStmt(Stmt s) {
+        if (s instanceof VarDecl vd) {
+            if (vd.initializer != null) {
+                PrimType t = typeOf(vd.initializer);
+                if (!fits(t, vd.type)) mismatch(vd.initializer, t, vd.type, "initializer of " + vd.name);
+            }
+            facts.setType(vd, vd.type);
+        }
+        else if (s instanceof Assign asg) {
+            PrimType value = typeOf(asg.value);
+            if (facts.symbol(asg) instanceof VarSymbol v && !fits(value, v.type)) mismatch(asg.value, value, v.type, "assignment to " + asg.name);
+        }
+        else if (s instanceof FnDecl fd) {
+            facts.setType(fd, fd.returnType);
+            returnTypes.push(fd.returnType);
+            visitBlock(fd.body);
+            returnTypes.pop();
+        }
+        else if (s instanceof ReturnStmt rs) {
+            PrimType value = typeOf(rs.value);
+            if (returnTypes.isEmpty()) errors.report(DiagCode.RETURN_OUTSIDE_FUNCTION, rs);
+            else if (!fits(value, returnTypes.peek())) mismatch(rs.value, value, returnTypes.peek(), "return value");
+        }
+        else if (s instanceof ExprStmt es) {
+            typeOf(es.expr);
+        }
+        else if (s instanceof Block b) {
+            visitBlock(b);
+        }
+        else if (s instanceof WhileStmt w) {
+            PrimType t = typeOf(w.condition);
+            if (!fits(t, PrimType.BOOL)) mismatch(w.condition, t, PrimType.BOOL, "while condition");
+            visitBlock(w.body);
+        }
+        else if (s instanceof IfStmt iff) {
+            PrimType t = typeOf(iff.condition);
+            if (!fits(t, PrimType.BOOL)) mismatch(iff.condition, t, PrimType.BOOL, "if condition");
+            visitBlock(iff.thenBranch);
+            visitBlock(iff.elseBranch);
+        }
+        else {
+            throw new RuntimeException("Unknown Stmt in type checker: " + s);
+        }
+    }
+
+    private void visitBlock(Block b) {
+        for (Stmt s : b.statements) visitStmt(s);
+    }
+
+    // unbekannter Typ (null) passt immer: Fehler wurde schon am Teilausdruck gemeldet
+    private static boolean fits(PrimType actual, PrimType expected) {
+        return actual == null || actual == expected;
+    }
+
+    // where erst im Fehlerfall zusammenbauen
+    private void mismatch(ASTNode at, PrimType actual, PrimType expected, String where) {
+        errors.report(DiagCode.TYPE_MISMATCH, at, where, expected, actual);
+    }
+
+    /**
+     * Typ des Ausdrucks (null = unbekannt, Fehler schon gemeldet). Iterativ: Kinder werden
+     * vor ihren Eltern getypt (umgekehrte Preorder), damit lange Binary-Ketten keinen
+     * tiefen Stack brauchen.
+     */
+    public PrimType typeOf(Expr root) {
+        List<Expr> pre = new ArrayList<>();
+        Deque<Expr> work = new ArrayDeque<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            Expr e = work.pop();
+            pre.add(e);
+            if (e instanceof Binary b) {
+                work.push(b.left);
+                work.push(b.right);
+            } else if (e instanceof Call c) {
+                for (Expr a : c.args) work.push(a);
+            }
+        }
+        for (int i = pre.size() - 1; i >= 0; i--) {
+            Expr e = pre.get(i);
+            facts.setType(e, infer(e));
+        }
+        return facts.type(root);
+    }
+
+    private PrimType infer(Expr e) {
+        if (e instanceof IntLiteral) return PrimType.INT;
+        if (e instanceof StringLiteral) return PrimType.STRING;
+        if (e instanceof BoolLiteral) return PrimType.BOOL;
+        if (e instanceof Variable v) {
+            return facts.symbol(v) instanceof VarSymbol sym ? sym.type : null;
+        }
+        if (e instanceof Binary b) {
+            PrimType l = facts.type(b.left), r = facts.type(b.right);
+            if (l == null || r == null) return null;
+            PrimType t = switch (b.op) {
+                case PLUS -> l == r && l != PrimType.BOOL ? l : null;
+                case MINUS, MUL, DIV -> l == PrimType.INT && r == PrimType.INT ? PrimType.INT : null;
+                case LT, GT -> l == PrimType.INT && r == PrimType.INT ? PrimType.BOOL : null;
+                case EQ, NEQ -> l == r ? PrimType.BOOL : null;
+            };
+            if (t == null) errors.report(DiagCode.OPERATOR_TYPES, b, b.op, l, r);
+            return t;
+        }
+        if (e instanceof Call c) {
+            if (!(facts.symbol(c) instanceof FnSymbol fn)) return null;
+            // Anzahl prüft schon Pass 2; hier nur die Typen der vorhandenen Argumente
+            int n = Math.min(fn.params.size(), c.args.size());
+            for (int i = 0; i < n; i++) {
+                PrimType t = facts.type(c.args.get(i)), expected = fn.params.get(i).type;
+                if (!fits(t, expected)) mismatch(c.args.get(i), t, expected, "argument " + (i + 1) + " of call to " + c.name);
+            }
+            return fn.returnType;
+        }
+        throw new RuntimeException("Unknown Expr in type checker: " + e);
+    }
+}
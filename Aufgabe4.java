@@ -14,11 +14,29 @@
 // Grammatik ist LL(1) weil es keine Linksrekursion gibt, alle First mengen disjunkt sind und es keine Überschneidungen mit follow gibt.
 
 // Aufgabe 2: Grammatik
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 
 public class Aufgabe4 {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--hashcons")) {
+            HashConsBuilder.reportSavings(LispCorpus.generate(20_000, 42));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--lexbench")) {
+            TableLexer.benchmark(LispCorpus.generate(50_000, 7), 20);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--recover")) {
+            recoveryDemo(LispCorpus.withErrors(LispCorpus.generate(50_000, 7), 1_000, 3));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--ll1")) {
+            TableParser.benchmark(LispCorpus.generate(50_000, 7), 20, 200_000);
+            return;
+        }
+
         String code = "(print (+ 1 2))";  // Beispielcode
         Lexer lexer = new Lexer(code);
         List<Token> tokens = lexer.tokenize();
@@ -33,6 +51,24 @@ public class Aufgabe4 {
         Node program = parser.parseProgram();
         program.prettyPrint(0);
     }
+
+    // Lexer + Parser im Recovery-Modus: ein Durchlauf meldet alle Fehler
+    static void recoveryDemo(String code) {
+        long t0 = System.nanoTime();
+        Diagnostics lexErrors = new Diagnostics();
+        List<Token> tokens = new Lexer(code, lexErrors).tokenize();
+        Diagnostics parseErrors = new Diagnostics();
+        Node program = new Parser(tokens, parseErrors).parseProgram();
+        long t1 = System.nanoTime();
+
+        System.out.println("== Recovery (" + code.length() / 1024 + " KiB, " + tokens.size() + " Tokens, "
+                + program.children.size() + " Formen, " + (t1 - t0) / 1_000_000 + " ms) ==");
+        LineIndex lines = new LineIndex(code);
+        System.out.print("Lexer: ");
+        lexErrors.printSummary(5, lines);
+        System.out.print("Parser: ");
+        parseErrors.printSummary(5, lines);
+    }
 }
 
 // =========================================
@@ -51,13 +87,22 @@ enum TokenType {
 // =========================================
 // Token-Datenstruktur
 // =========================================
+// offset = Zeichenposition im Quelltext (-1 = unbekannt). Zeile/Spalte werden
+// erst bei Bedarf über LineIndex berechnet; mit compressed oops passt das int
+// in das Padding des Objekts, ein Token bleibt 24 Byte groß.
 class Token {
     public final TokenType type;
     public final String value;
+    public final int offset;
 
     public Token(TokenType type, String value) {
+        this(type, value, -1);
+    }
+
+    public Token(TokenType type, String value, int offset) {
         this.type = type;
         this.value = value;
+        this.offset = offset;
     }
 
     @Override
@@ -66,6 +111,99 @@ class Token {
     }
 }
 
+// =========================================
+// LineIndex – Offset -> Zeile/Spalte, Zeilenanfänge werden erst bei Bedarf ermittelt
+// =========================================
+class LineIndex {
+    private final String source;
+    private int[] lineStarts;   // lazy
+
+    LineIndex(String source) {
+        this.source = source;
+    }
+
+    private int[] lineStarts() {
+        if (lineStarts == null) {
+            int[] starts = new int[16];
+            int n = 0;
+            starts[n++] = 0;
+            for (int i = 0; i < source.length(); i++) {
+                if (source.charAt(i) == '\n') {
+                    if (n == starts.length) starts = Arrays.copyOf(starts, n * 2);
+                    starts[n++] = i + 1;
+                }
+            }
+            lineStarts = Arrays.copyOf(starts, n);
+        }
+        return lineStarts;
+    }
+
+    /** 1-basierte Zeile per binärer Suche */
+    int line(int offset) {
+        int i = Arrays.binarySearch(lineStarts(), offset);
+        return (i >= 0 ? i : -i - 2) + 1;
+    }
+
+    /** 1-basierte Spalte */
+    int column(int offset) {
+        return offset - lineStarts()[line(offset) - 1] + 1;
+    }
+
+    String format(int offset) {
+        return offset < 0 ? "?" : line(offset) + ":" + column(offset);
+    }
+}
+
+// =========================================
+// Diagnostics – kompakter Fehlerpuffer für den Recovery-Modus
+// =========================================
+// Speichert nur (Position, Code)-Paare in einem int-Array; Meldungstexte
+// werden erst beim Ausgeben erzeugt. Keine Exceptions, keine Stacktraces.
+class Diagnostics {
+    static final int UNEXPECTED_CHAR = 1;
+    static final int UNTERMINATED_STRING = 2;
+    static final int UNKNOWN_OPERATOR = 3;
+    static final int UNEXPECTED_TOKEN = 4;
+    static final int MISSING_RPAREN = 5;
+
+    private int[] buf = new int[64];   // [pos0, code0, pos1, code1, ...]
+    private int count = 0;
+
+    void report(int pos, int code) {
+        if (2 * count + 2 > buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+        buf[2 * count] = pos;
+        buf[2 * count + 1] = code;
+        count++;
+    }
+
+    int count() { return count; }
+
+    boolean hasErrors() { return count > 0; }
+
+    int position(int i) { return buf[2 * i]; }
+
+    int code(int i) { return buf[2 * i + 1]; }
+
+    static String message(int code) {
+        switch (code) {
+            case UNEXPECTED_CHAR: return "Unexpected character";
+            case UNTERMINATED_STRING: return "Unterminated string";
+            case UNKNOWN_OPERATOR: return "Unknown operator";
+            case UNEXPECTED_TOKEN: return "Parser error: unexpected token";
+            case MISSING_RPAREN: return "Parser error: expected RPAREN";
+            default: return "Error " + code;
+        }
+    }
+
+    void printSummary(int limit, LineIndex lines) {
+        System.out.println(count + " Fehler");
+        for (int i = 0; i < Math.min(count, limit); i++) {
+            System.out.println("  " + lines.format(position(i)) + ": " + message(code(i)));
+        }
+        if (count > limit) System.out.println("  ...");
+    }
+}
+
 // =========================================
 // Lexer – wandelt Code in Tokens um
 // =========================================
@@ -73,10 +211,18 @@ class Lexer {
     private final String input;
     private int pos = 0;
     private final int length;
+    private final Diagnostics diag;   // null -> erster Fehler wirft RuntimeException
+    private int tokenStart = 0;
 
     public Lexer(String input) {
+        this(input, null);
+    }
+
+    /** Recovery-Modus: Fehler landen in diag, danach wird am nächsten Whitespace/Klammer weitergemacht. */
+    public Lexer(String input, Diagnostics diag) {
         this.input = input;
         this.length = input.length();
+        this.diag = diag;
     }
 
     private char peek() {
@@ -96,6 +242,7 @@ class Lexer {
 
         while (!isAtEnd()) {
             char c = peek();
+            tokenStart = pos;
 
             if (Character.isWhitespace(c)) {
                 next();
@@ -107,8 +254,8 @@ class Lexer {
                 continue;
             }
 
-            if (c == '(') { tokens.add(new Token(TokenType.LPAREN, "(")); next(); continue; }
-            if (c == ')') { tokens.add(new Token(TokenType.RPAREN, ")")); next(); continue; }
+            if (c == '(') { tokens.add(token(TokenType.LPAREN, "(")); next(); continue; }
+            if (c == ')') { tokens.add(token(TokenType.RPAREN, ")")); next(); continue; }
 
             if (Character.isDigit(c)) {
                 tokens.add(readNumber());
@@ -121,7 +268,8 @@ class Lexer {
             }
 
             if ("+-*/=<>\0".indexOf(c) >= 0) {
-                tokens.add(readOperator());
+                Token op = readOperator();
+                if (op != null) tokens.add(op);
                 continue;
             }
 
@@ -130,39 +278,64 @@ class Lexer {
                 continue;
             }
 
-            throw new RuntimeException("Unexpected character: " + c);
+            if (diag == null) throw new RuntimeException("Unexpected character: " + c);
+            diag.report(pos, Diagnostics.UNEXPECTED_CHAR);
+            synchronize();
         }
 
-        tokens.add(new Token(TokenType.EOF, ""));
+        tokenStart = length;
+        tokens.add(token(TokenType.EOF, ""));
         return tokens;
     }
 
+    private Token token(TokenType type, String value) {
+        return new Token(type, value, tokenStart);
+    }
+
+    // überspringt bis zum nächsten Whitespace oder zur nächsten Klammer
+    private void synchronize() {
+        while (!isAtEnd()) {
+            char c = peek();
+            if (Character.isWhitespace(c) || c == '(' || c == ')') return;
+            next();
+        }
+    }
+
     private Token readNumber() {
         StringBuilder sb = new StringBuilder();
         while (Character.isDigit(peek())) sb.append(next());
-        return new Token(TokenType.INT, sb.toString());
+        return token(TokenType.INT, sb.toString());
     }
 
     private Token readString() {
+        int start = pos;
         StringBuilder sb = new StringBuilder();
         next(); // "
         while (peek() != '"' && !isAtEnd()) sb.append(next());
-        if (isAtEnd()) throw new RuntimeException("Unterminated string");
+        if (isAtEnd()) {
+            if (diag == null) throw new RuntimeException("Unterminated string");
+            diag.report(start, Diagnostics.UNTERMINATED_STRING);
+            return token(TokenType.STRING, sb.toString());
+        }
         next(); // "
-        return new Token(TokenType.STRING, sb.toString());
+        return token(TokenType.STRING, sb.toString());
     }
 
     private Token readOperator() {
         char c = next();
         switch (c) {
-            case '+': return new Token(TokenType.PLUS, "+");
-            case '-': return new Token(TokenType.MINUS, "-");
-            case '*': return new Token(TokenType.MUL, "*");
-            case '/': return new Token(TokenType.DIV, "/");
-            case '=': return new Token(TokenType.EQ, "=");
-            case '<': return new Token(TokenType.LT, "<");
-            case '>': return new Token(TokenType.GT, ">");
-            default: throw new RuntimeException("Unknown operator: " + c);
+            case '+': return token(TokenType.PLUS, "+");
+            case '-': return token(TokenType.MINUS, "-");
+            case '*': return token(TokenType.MUL, "*");
+            case '/': return token(TokenType.DIV, "/");
+            case '=': return token(TokenType.EQ, "=");
+            case '<': return token(TokenType.LT, "<");
+            case '>': return token(TokenType.GT, ">");
+            default:
+                if (diag == null) throw new RuntimeException("Unknown operator: " + c);
+                diag.report(pos - 1, Diagnostics.UNKNOWN_OPERATOR);
+                synchronize();
+                return null;
         }
     }
 
@@ -172,20 +345,485 @@ class Lexer {
         String word = sb.toString();
 
         switch (word) {
-            case "print": return new Token(TokenType.PRINT, word);
-            case "str":   return new Token(TokenType.STR, word);
-            case "if":    return new Token(TokenType.IF, word);
-            case "do":    return new Token(TokenType.DO, word);
-            case "def":   return new Token(TokenType.DEF, word);
-            case "defn":  return new Token(TokenType.DEFN, word);
-            case "let":   return new Token(TokenType.LET, word);
-            case "list":  return new Token(TokenType.LIST, word);
-            case "head":  return new Token(TokenType.HEAD, word);
-            case "tail":  return new Token(TokenType.TAIL, word);
-            case "nth":   return new Token(TokenType.NTH, word);
+            case "print": return token(TokenType.PRINT, word);
+            case "str":   return token(TokenType.STR, word);
+            case "if":    return token(TokenType.IF, word);
+            case "do":    return token(TokenType.DO, word);
+            case "def":   return token(TokenType.DEF, word);
+            case "defn":  return token(TokenType.DEFN, word);
+            case "let":   return token(TokenType.LET, word);
+            case "list":  return token(TokenType.LIST, word);
+            case "head":  return token(TokenType.HEAD, word);
+            case "tail":  return token(TokenType.TAIL, word);
+            case "nth":   return token(TokenType.NTH, word);
             case "true":
-            case "false": return new Token(TokenType.BOOLEAN, word);
-            default:      return new Token(TokenType.IDENT, word);
+            case "false": return token(TokenType.BOOLEAN, word);
+            default:      return token(TokenType.IDENT, word);
+        }
+    }
+}
+
+// =========================================
+// Lexer-Generator – Regex -> NFA -> DFA -> minimaler DFA -> Tabellen
+// =========================================
+// Token-Definition: Regex + TokenType (type == null -> überspringen, z.B. Whitespace).
+// Reihenfolge = Priorität bei gleich langem Match (Schlüsselwörter vor IDENT).
+class TokenSpec {
+    final TokenType type;
+    final String regex;
+
+    TokenSpec(TokenType type, String regex) {
+        this.type = type;
+        this.regex = regex;
+    }
+
+    static final List<TokenSpec> LISP = List.of(
+            new TokenSpec(null, "[ \t\r\n]+"),
+            new TokenSpec(null, ";;[^\n]*"),
+            new TokenSpec(TokenType.LPAREN, "\\("),
+            new TokenSpec(TokenType.RPAREN, "\\)"),
+            new TokenSpec(TokenType.PLUS, "\\+"),
+            new TokenSpec(TokenType.MINUS, "-"),
+            new TokenSpec(TokenType.MUL, "\\*"),
+            new TokenSpec(TokenType.DIV, "/"),
+            new TokenSpec(TokenType.EQ, "="),
+            new TokenSpec(TokenType.LT, "<"),
+            new TokenSpec(TokenType.GT, ">"),
+            new TokenSpec(TokenType.PRINT, "print"),
+            new TokenSpec(TokenType.STR, "str"),
+            new TokenSpec(TokenType.IF, "if"),
+            new TokenSpec(TokenType.DO, "do"),
+            new TokenSpec(TokenType.DEF, "def"),
+            new TokenSpec(TokenType.DEFN, "defn"),
+            new TokenSpec(TokenType.LET, "let"),
+            new TokenSpec(TokenType.LIST, "list"),
+            new TokenSpec(TokenType.HEAD, "head"),
+            new TokenSpec(TokenType.TAIL, "tail"),
+            new TokenSpec(TokenType.NTH, "nth"),
+            new TokenSpec(TokenType.BOOLEAN, "true|false"),
+            new TokenSpec(TokenType.INT, "[0-9]+"),
+            new TokenSpec(TokenType.STRING, "\"[^\"]*\""),
+            new TokenSpec(TokenType.IDENT, "[a-zA-Z][a-zA-Z0-9]*")
+    );
+}
+
+// Fertige Scanner-Tabellen: trans[(state << 7) | c] für ASCII, -1 = kein Übergang.
+// accept[state] = Index in specs oder -1.
+// literal[spec] = fester Tokenwert, wenn die Regex ein reines Literal ist (spart substring).
+class ScannerTables {
+    static final int ALPHABET = 128;
+
+    final int[] trans;
+    final int[] accept;
+    final int start;
+    final int stateCount;
+    final List<TokenSpec> specs;
+    final String[] literal;
+
+    ScannerTables(int[] trans, int[] accept, int start, List<TokenSpec> specs) {
+        this.trans = trans;
+        this.accept = accept;
+        this.start = start;
+        this.stateCount = accept.length;
+        this.specs = specs;
+        this.literal = new String[specs.size()];
+        for (int i = 0; i < literal.length; i++) literal[i] = literalOf(specs.get(i).regex);
+    }
+
+    private static String literalOf(String regex) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length()) sb.append(regex.charAt(++i));
+            else if ("()[]|*+?.".indexOf(c) >= 0) return null;
+            else sb.append(c);
+        }
+        return sb.toString();
+    }
+}
+
+class LexerGenerator {
+
+    /* ---------- NFA (Thompson-Konstruktion) ---------- */
+    private static final class NState {
+        final int id;
+        final List<NState> eps = new ArrayList<>(2);
+        BitSet chars;      // Zeichenübergang (null = keiner)
+        NState target;
+        int spec = -1;     // akzeptierender Zustand für specs[spec]
+
+        NState(int id) { this.id = id; }
+    }
+
+    private final List<NState> nstates = new ArrayList<>();
+    private final List<BitSet> charSets = new ArrayList<>();
+
+    private NState newState() {
+        NState s = new NState(nstates.size());
+        nstates.add(s);
+        return s;
+    }
+
+    private static final class Frag {
+        final NState start, end;
+        Frag(NState start, NState end) { this.start = start; this.end = end; }
+    }
+
+    /* ---------- Regex-Parser: alt := cat ('|' cat)*, cat := rep*, rep := atom ('*'|'+'|'?')* ---------- */
+    private String re;
+    private int rp;
+
+    private Frag parseRegex(String regex) {
+        re = regex;
+        rp = 0;
+        Frag f = parseAlt();
+        if (rp != re.length()) throw new RuntimeException("Regex error at " + rp + ": " + regex);
+        return f;
+    }
+
+    private Frag parseAlt() {
+        Frag left = parseCat();
+        while (rp < re.length() && re.charAt(rp) == '|') {
+            rp++;
+            Frag right = parseCat();
+            NState s = newState(), e = newState();
+            s.eps.add(left.start);
+            s.eps.add(right.start);
+            left.end.eps.add(e);
+            right.end.eps.add(e);
+            left = new Frag(s, e);
+        }
+        return left;
+    }
+
+    private Frag parseCat() {
+        Frag result = null;
+        while (rp < re.length() && re.charAt(rp) != '|' && re.charAt(rp) != ')') {
+            Frag f = parseRep();
+            if (result == null) result = f;
+            else {
+                result.end.eps.add(f.start);
+                result = new Frag(result.start, f.end);
+            }
+        }
+        if (result == null) {
+            NState s = newState();
+            result = new Frag(s, s);
+        }
+        return result;
+    }
+
+    private Frag parseRep() {
+        Frag f = parseAtom();
+        while (rp < re.length() && "*+?".indexOf(re.charAt(rp)) >= 0) {
+            char op = re.charAt(rp++);
+            NState s = newState(), e = newState();
+            s.eps.add(f.start);
+            f.end.eps.add(e);
+            if (op != '+') s.eps.add(e);        // * und ? erlauben 0 Wiederholungen
+            if (op != '?') f.end.eps.add(f.start); // * und + erlauben Wiederholung
+            f = new Frag(s, e);
+        }
+        return f;
+    }
+
+    private Frag parseAtom() {
+        char c = re.charAt(rp++);
+        if (c == '(') {
+            Frag f = parseAlt();
+            if (rp >= re.length() || re.charAt(rp++) != ')') throw new RuntimeException("Regex error: missing ) in " + re);
+            return f;
+        }
+        BitSet set = new BitSet(ScannerTables.ALPHABET);
+        if (c == '[') {
+            boolean negate = rp < re.length() && re.charAt(rp) == '^';
+            if (negate) rp++;
+            while (rp < re.length() && re.charAt(rp) != ']') {
+                char lo = classChar();
+                if (rp + 1 < re.length() && re.charAt(rp) == '-' && re.charAt(rp + 1) != ']') {
+                    rp++;
+                    char hi = classChar();
+                    set.set(lo, hi + 1);
+                } else set.set(lo);
+            }
+            if (rp >= re.length()) throw new RuntimeException("Regex error: missing ] in " + re);
+            rp++;
+            if (negate) set.flip(0, ScannerTables.ALPHABET);
+        } else if (c == '.') {
+            set.set(0, ScannerTables.ALPHABET);
+            set.clear('\n');
+        } else {
+            if (c == '\\') c = re.charAt(rp++);
+            set.set(c);
+        }
+        NState s = newState(), e = newState();
+        s.chars = set;
+        s.target = e;
+        charSets.add(set);
+        return new Frag(s, e);
+    }
+
+    private char classChar() {
+        char c = re.charAt(rp++);
+        return c == '\\' ? re.charAt(rp++) : c;
+    }
+
+    /* ---------- Generierung ---------- */
+    static ScannerTables generate(List<TokenSpec> specs) {
+        return new LexerGenerator().run(specs);
+    }
+
+    private ScannerTables run(List<TokenSpec> specs) {
+        NState start = newState();
+        for (int i = 0; i < specs.size(); i++) {
+            Frag f = parseRegex(specs.get(i).regex);
+            f.end.spec = i;
+            start.eps.add(f.start);
+        }
+
+        // Äquivalenzklassen: Zeichen, die in allen Zeichenmengen gleich behandelt werden
+        int[] classOf = new int[ScannerTables.ALPHABET];
+        Map<BitSet, Integer> signatures = new HashMap<>();
+        List<Integer> representative = new ArrayList<>();
+        for (int c = 0; c < ScannerTables.ALPHABET; c++) {
+            BitSet sig = new BitSet(charSets.size());
+            for (int i = 0; i < charSets.size(); i++) if (charSets.get(i).get(c)) sig.set(i);
+            Integer k = signatures.get(sig);
+            if (k == null) {
+                k = representative.size();
+                signatures.put(sig, k);
+                representative.add(c);
+            }
+            classOf[c] = k;
+        }
+        int classes = representative.size();
+
+        // Teilmengenkonstruktion; Zustand 0 ist der Fehlerzustand (leere Menge)
+        List<BitSet> dstates = new ArrayList<>();
+        Map<BitSet, Integer> index = new HashMap<>();
+        List<int[]> dtrans = new ArrayList<>();
+        BitSet dead = new BitSet();
+        dstates.add(dead);
+        index.put(dead, 0);
+        dtrans.add(new int[classes]);
+        BitSet init = closure(bits(start.id));
+        dstates.add(init);
+        index.put(init, 1);
+        dtrans.add(new int[classes]);
+        for (int d = 1; d < dstates.size(); d++) {
+            BitSet cur = dstates.get(d);
+            for (int k = 0; k < classes; k++) {
+                char rep = (char) (int) representative.get(k);
+                BitSet moved = new BitSet();
+                for (int q = cur.nextSetBit(0); q >= 0; q = cur.nextSetBit(q + 1)) {
+                    NState n = nstates.get(q);
+                    if (n.chars != null && n.chars.get(rep)) moved.set(n.target.id);
+                }
+                BitSet next = closure(moved);
+                Integer t = index.get(next);
+                if (t == null) {
+                    t = dstates.size();
+                    dstates.add(next);
+                    index.put(next, t);
+                    dtrans.add(new int[classes]);
+                }
+                dtrans.get(d)[k] = t;
+            }
+        }
+        int n = dstates.size();
+        int[] acc = new int[n];
+        for (int d = 0; d < n; d++) {
+            acc[d] = -1;
+            BitSet set = dstates.get(d);
+            for (int q = set.nextSetBit(0); q >= 0; q = set.nextSetBit(q + 1)) {
+                int sp = nstates.get(q).spec;
+                if (sp >= 0 && (acc[d] < 0 || sp < acc[d])) acc[d] = sp;
+            }
+        }
+
+        int[] block = hopcroft(n, classes, dtrans, acc);
+
+        // minimalen DFA als dichte Tabelle ausgeben; Block des Fehlerzustands -> -1
+        int blocks = 0;
+        for (int b : block) blocks = Math.max(blocks, b + 1);
+        int deadBlock = block[0];
+        int[] renum = new int[blocks];
+        int next = 0;
+        for (int b = 0; b < blocks; b++) renum[b] = b == deadBlock ? -1 : next++;
+        int[] trans = new int[next * ScannerTables.ALPHABET];
+        int[] accept = new int[next];
+        for (int d = 1; d < n; d++) {
+            int s = renum[block[d]];
+            accept[s] = acc[d];
+            for (int c = 0; c < ScannerTables.ALPHABET; c++) {
+                trans[(s << 7) | c] = renum[block[dtrans.get(d)[classOf[c]]]];
+            }
+        }
+        return new ScannerTables(trans, accept, renum[block[1]], specs);
+    }
+
+    private static BitSet bits(int i) {
+        BitSet b = new BitSet();
+        b.set(i);
+        return b;
+    }
+
+    private BitSet closure(BitSet set) {
+        BitSet result = (BitSet) set.clone();
+        Deque<Integer> work = new ArrayDeque<>();
+        for (int q = set.nextSetBit(0); q >= 0; q = set.nextSetBit(q + 1)) work.push(q);
+        while (!work.isEmpty()) {
+            for (NState e : nstates.get(work.pop()).eps) {
+                if (!result.get(e.id)) {
+                    result.set(e.id);
+                    work.push(e.id);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Hopcroft-Minimierung. Startpartition: Zustände nach akzeptiertem Token getrennt.
+     * Liefert für jeden DFA-Zustand die Nummer seines Blocks.
+     */
+    private static int[] hopcroft(int n, int classes, List<int[]> dtrans, int[] acc) {
+        // Umkehrkanten: pred[k][t] = Zustände q mit δ(q,k) = t
+        List<List<List<Integer>>> pred = new ArrayList<>();
+        for (int k = 0; k < classes; k++) {
+            List<List<Integer>> pk = new ArrayList<>();
+            for (int t = 0; t < n; t++) pk.add(new ArrayList<>());
+            for (int q = 0; q < n; q++) pk.get(dtrans.get(q)[k]).add(q);
+            pred.add(pk);
+        }
+
+        int[] block = new int[n];
+        List<Set<Integer>> blocks = new ArrayList<>();
+        Map<Integer, Integer> byAccept = new HashMap<>();
+        for (int q = 0; q < n; q++) {
+            Integer b = byAccept.get(acc[q]);
+            if (b == null) {
+                b = blocks.size();
+                byAccept.put(acc[q], b);
+                blocks.add(new HashSet<>());
+            }
+            blocks.get(b).add(q);
+            block[q] = b;
+        }
+
+        Deque<Integer> work = new ArrayDeque<>();
+        Set<Integer> inWork = new HashSet<>();
+        for (int b = 0; b < blocks.size(); b++) { work.add(b); inWork.add(b); }
+
+        while (!work.isEmpty()) {
+            int a = work.poll();
+            inWork.remove(a);
+            List<Integer> splitter = new ArrayList<>(blocks.get(a));
+            for (int k = 0; k < classes; k++) {
+                // X = Vorgänger von A unter k, gruppiert nach Block
+                Map<Integer, List<Integer>> hit = new HashMap<>();
+                for (int t : splitter) {
+                    for (int q : pred.get(k).get(t)) hit.computeIfAbsent(block[q], x -> new ArrayList<>()).add(q);
+                }
+                for (Map.Entry<Integer, List<Integer>> e : hit.entrySet()) {
+                    int y = e.getKey();
+                    Set<Integer> yset = blocks.get(y);
+                    if (e.getValue().size() == yset.size()) continue;   // Y ⊆ X, kein Split
+                    Set<Integer> y1 = new HashSet<>(e.getValue());
+                    yset.removeAll(y1);
+                    int nb = blocks.size();
+                    blocks.add(y1);
+                    for (int q : y1) block[q] = nb;
+                    if (inWork.contains(y) || y1.size() <= yset.size()) {
+                        work.add(nb);
+                        inWork.add(nb);
+                    } else {
+                        work.add(y);
+                        inWork.add(y);
+                    }
+                }
+            }
+        }
+        return block;
+    }
+}
+
+// =========================================
+// TableLexer – generischer, tabellengesteuerter Scanner (längster Match)
+// =========================================
+class TableLexer {
+    private static final ScannerTables LISP_TABLES = LexerGenerator.generate(TokenSpec.LISP);
+
+    private final ScannerTables tables;
+    private final String input;
+
+    public TableLexer(String input) {
+        this(LISP_TABLES, input);
+    }
+
+    public TableLexer(ScannerTables tables, String input) {
+        this.tables = tables;
+        this.input = input;
+    }
+
+    public List<Token> tokenize() {
+        final int[] trans = tables.trans;
+        final int[] accept = tables.accept;
+        final int length = input.length();
+        List<Token> tokens = new ArrayList<>();
+        int pos = 0;
+
+        while (pos < length) {
+            int state = tables.start;
+            int lastAccept = -1, lastEnd = pos;
+            for (int i = pos; i < length; i++) {
+                char c = input.charAt(i);
+                state = c < ScannerTables.ALPHABET ? trans[(state << 7) | c] : -1;
+                if (state < 0) break;
+                if (accept[state] >= 0) {
+                    lastAccept = accept[state];
+                    lastEnd = i + 1;
+                }
+            }
+            if (lastAccept < 0) throw new RuntimeException("Unexpected character: " + input.charAt(pos));
+
+            TokenType type = tables.specs.get(lastAccept).type;
+            if (type == TokenType.STRING) tokens.add(new Token(type, input.substring(pos + 1, lastEnd - 1), pos));
+            else if (type != null) {
+                String lit = tables.literal[lastAccept];
+                tokens.add(new Token(type, lit != null ? lit : input.substring(pos, lastEnd), pos));
+            }
+            pos = lastEnd;
+        }
+
+        tokens.add(new Token(TokenType.EOF, "", length));
+        return tokens;
+    }
+
+    /** Vergleicht generierten Scanner und handgeschriebenen Lexer auf einem Korpus. */
+    static void benchmark(String code, int rounds) {
+        List<Token> expected = new Lexer(code).tokenize();
+        List<Token> actual = new TableLexer(code).tokenize();
+        if (!expected.toString().equals(actual.toString())) {
+            throw new IllegalStateException("TableLexer liefert andere Tokens als Lexer");
+        }
+        System.out.println("== Lexer-Benchmark (" + code.length() / 1024 + " KiB, "
+                + expected.size() + " Tokens, " + LISP_TABLES.stateCount + " DFA-Zustände) ==");
+        for (int warm = 0; warm < 2; warm++) {
+            long hand = 0, table = 0;
+            for (int r = 0; r < rounds; r++) {
+                long t0 = System.nanoTime();
+                new Lexer(code).tokenize();
+                long t1 = System.nanoTime();
+                new TableLexer(code).tokenize();
+                long t2 = System.nanoTime();
+                hand += t1 - t0;
+                table += t2 - t1;
+            }
+            if (warm == 0) continue;
+            double mb = (double) code.length() * rounds / (1 << 20);
+            System.out.printf("Lexer (handgeschrieben): %8.1f ms  %6.1f MB/s%n", hand / 1e6, mb / (hand / 1e9));
+            System.out.printf("TableLexer (generiert):  %8.1f ms  %6.1f MB/s%n", table / 1e6, mb / (table / 1e9));
         }
     }
 }
@@ -195,12 +833,18 @@ class Lexer {
 // =========================================
 class Node {
     String value;
+    TokenType type;     // Token-Art bei Blättern aus einem Token, sonst null (Program/List)
     List<Node> children = new ArrayList<>();
 
     Node(String value) {
         this.value = value;
     }
 
+    Node(String value, TokenType type) {
+        this.value = value;
+        this.type = type;
+    }
+
     void addChild(Node n) {
         children.add(n);
     }
@@ -213,15 +857,238 @@ class Node {
     }
 }
 
+// =========================================
+// Hash-Consing – unveränderliche, geteilte Teilbäume (DAG)
+// =========================================
+// Strukturell gleiche Teilbäume werden nur einmal angelegt. Da die Kinder
+// selbst schon geteilt sind, reicht für equals ein Identitätsvergleich der
+// Kinder; gleiche Knoten (==) entsprechen damit gemeinsamen Teilausdrücken.
+// Zum Schlüssel gehört neben dem Text die Token-Art: der String "x" und der
+// Bezeichner x sind verschiedene Knoten.
+final class SharedNode {
+    final String value;
+    final TokenType kind;  // null bei inneren Knoten (Program/List)
+    private final SharedNode[] children;
+    final int id;          // eindeutig pro interniertem Knoten -> CSE-Schlüssel
+    private final int hash;
+
+    SharedNode(TokenType kind, String value, SharedNode[] children, int id) {
+        this.value = value;
+        this.kind = kind;
+        this.children = children;
+        this.id = id;
+        this.hash = hashOf(kind, value, children);
+    }
+
+    static int hashOf(TokenType kind, String value, SharedNode[] children) {
+        int h = 31 * Objects.hashCode(kind) + value.hashCode();
+        for (SharedNode c : children) h = 31 * h + System.identityHashCode(c);
+        return h;
+    }
+
+    int childCount() { return children.length; }
+
+    SharedNode child(int i) { return children[i]; }
+
+    boolean sameShape(TokenType kind, String value, SharedNode[] children) {
+        if (this.kind != kind || !this.value.equals(value) || this.children.length != children.length) return false;
+        for (int i = 0; i < children.length; i++) {
+            if (this.children[i] != children[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SharedNode)) return false;
+        SharedNode n = (SharedNode) o;
+        return hash == n.hash && sameShape(n.kind, n.value, n.children);
+    }
+
+    void prettyPrint(int indent) {
+        System.out.println("  ".repeat(indent) + value + " #" + id);
+        for (SharedNode c : children) {
+            c.prettyPrint(indent + 1);
+        }
+    }
+}
+
+class HashConsBuilder {
+    private static final SharedNode[] NO_CHILDREN = new SharedNode[0];
+
+    // schwache Internierungstabelle: nicht mehr referenzierte Teilbäume darf der GC entfernen
+    private final Map<SharedNode, WeakReference<SharedNode>> table = new WeakHashMap<>();
+    private int nextId = 0;
+    private long requested = 0;
+
+    SharedNode leaf(TokenType kind, String value) {
+        return intern(kind, value, NO_CHILDREN);
+    }
+
+    SharedNode list(String value, List<SharedNode> children) {
+        return intern(null, value, children.toArray(NO_CHILDREN));
+    }
+
+    /** Baut aus einem normalen Parse-Baum den geteilten DAG (bottom-up). */
+    SharedNode build(Node n) {
+        if (n.children.isEmpty()) return leaf(n.type, n.value);
+        List<SharedNode> kids = new ArrayList<>(n.children.size());
+        for (Node c : n.children) kids.add(build(c));
+        return list(n.value, kids);
+    }
+
+    private SharedNode intern(TokenType kind, String value, SharedNode[] children) {
+        requested++;
+        SharedNode probe = new SharedNode(kind, value, children, -1);
+        WeakReference<SharedNode> ref = table.get(probe);
+        SharedNode existing = ref == null ? null : ref.get();
+        if (existing != null) return existing;
+        SharedNode fresh = new SharedNode(kind, value, children, nextId++);
+        table.put(fresh, new WeakReference<>(fresh));
+        return fresh;
+    }
+
+    /** Anzahl angeforderter Knoten (= Größe des ungeteilten Baums) */
+    long requestedNodes() { return requested; }
+
+    /** Anzahl aktuell lebender, eindeutiger Knoten */
+    int uniqueNodes() { return table.size(); }
+
+    // Objektgrößen aus dem Feld-Layout von HotSpot (64 Bit, compressed oops und compressed
+    // class pointers, Standard bis 32 GB Heap): Header 12 Byte, Array-Header 16 Byte
+    // (inkl. Länge), Referenz/int 4 Byte, jedes Objekt auf 8 Byte aufgerundet.
+    // Die value-Strings gehören in beiden Fällen den Tokens und zählen nicht mit.
+    private static final int HEADER = 12, ARRAY_HEADER = 16, REF = 4;
+
+    private static long align(long bytes) { return (bytes + 7) & ~7L; }
+
+    // Node (value, type, children) + ArrayList (modCount, size, elementData) + Object[]
+    static long treeBytes(Node n) {
+        long bytes = align(HEADER + 3 * REF) + align(HEADER + 3 * REF);
+        int cap = arrayListCapacity(n.children.size());
+        if (cap > 0) bytes += align(ARRAY_HEADER + (long) REF * cap);
+        for (Node c : n.children) bytes += treeBytes(c);
+        return bytes;
+    }
+
+    // Kapazität nach size add()-Aufrufen auf new ArrayList<>(): 10, dann jeweils +50 %
+    private static int arrayListCapacity(int size) {
+        if (size == 0) return 0;    // gemeinsames leeres Array
+        int cap = 10;
+        while (cap < size) cap += cap >> 1;
+        return cap;
+    }
+
+    // SharedNode (value, kind, children, id, hash) + SharedNode[] (Blätter teilen NO_CHILDREN)
+    long dagBytes() {
+        long bytes = 0;
+        for (SharedNode n : table.keySet()) {
+            bytes += align(HEADER + 5 * REF);
+            if (n.childCount() > 0) bytes += align(ARRAY_HEADER + (long) REF * n.childCount());
+        }
+        return bytes;
+    }
+
+    static void reportSavings(String code) {
+        List<Token> tokens = new Lexer(code).tokenize();
+        Node program = new Parser(tokens).parseProgram();
+
+        HashConsBuilder hc = new HashConsBuilder();
+        SharedNode dag = hc.build(program);
+
+        long treeNodes = hc.requestedNodes();
+        long dagNodes = hc.uniqueNodes();
+        long treeBytes = treeBytes(program);
+        long dagBytes = hc.dagBytes();    // ohne die Internierungstabelle selbst
+        System.out.println("== Hash-Consing ==");
+        System.out.println("Baumknoten:   " + treeNodes + " (~" + treeBytes / 1024 + " KiB)");
+        System.out.println("DAG-Knoten:   " + dagNodes + " (~" + dagBytes / 1024 + " KiB)");
+        System.out.printf("Ersparnis:    %.1f%% Knoten, %.1f%% Speicher%n",
+                100.0 * (treeNodes - dagNodes) / treeNodes,
+                100.0 * (treeBytes - dagBytes) / treeBytes);
+        System.out.println("Wurzel-ID:    " + dag.id);
+    }
+}
+
+// =========================================
+// Testkorpus – erzeugt Lisp-Code mit vielen Wiederholungen
+// =========================================
+class LispCorpus {
+    private static final String[] OPS = {"+", "-", "*", "/", "=", "<", ">"};
+    private static final String[] NAMES = {"x", "y", "z", "acc", "n", "i"};
+
+    static String generate(int forms, long seed) {
+        Random rnd = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < forms; i++) {
+            switch (rnd.nextInt(4)) {
+                case 0 -> sb.append("(def ").append(pick(rnd, NAMES)).append(' ');
+                case 1 -> sb.append("(print ");
+                case 2 -> sb.append("(if ");
+                default -> sb.append("(do ");
+            }
+            expr(sb, rnd, 3);
+            sb.append(")\n");
+        }
+        return sb.toString();
+    }
+
+    private static void expr(StringBuilder sb, Random rnd, int depth) {
+        int r = rnd.nextInt(10);
+        if (depth == 0 || r < 3) {
+            if (r == 0) sb.append("\"hallo\"");
+            else if (r == 1) sb.append(rnd.nextBoolean() ? "true" : "false");
+            else if (r < 6) sb.append(rnd.nextInt(10));
+            else sb.append(pick(rnd, NAMES));
+            return;
+        }
+        sb.append('(').append(pick(rnd, OPS));
+        int n = 2 + rnd.nextInt(2);
+        for (int i = 0; i < n; i++) {
+            sb.append(' ');
+            expr(sb, rnd, depth - 1);
+        }
+        sb.append(')');
+    }
+
+    /** Streut zufällig fehlerhafte Zeichen und Klammern ein. */
+    static String withErrors(String code, int errors, long seed) {
+        Random rnd = new Random(seed);
+        String[] bad = {"$", "@x", "#", ")", "("};
+        StringBuilder sb = new StringBuilder(code);
+        for (int i = 0; i < errors; i++) {
+            int at = rnd.nextInt(sb.length());
+            while (at < sb.length() && sb.charAt(at) != ' ') at++;
+            sb.insert(at, " " + pick(rnd, bad));
+        }
+        return sb.toString();
+    }
+
+    private static String pick(Random rnd, String[] xs) {
+        return xs[rnd.nextInt(xs.length)];
+    }
+}
+
 // =========================================
 // Parser – recursive descent
 // =========================================
 class Parser {
     private final List<Token> tokens;
     private int pos = 0;
+    private final Diagnostics diag;   // null -> erster Fehler wirft RuntimeException
 
     public Parser(List<Token> tokens) {
+        this(tokens, null);
+    }
+
+    /** Recovery-Modus: Fehler landen in diag (Position = Token-Offset), das Parsen läuft weiter. */
+    public Parser(List<Token> tokens, Diagnostics diag) {
         this.tokens = tokens;
+        this.diag = diag;
     }
 
     private Token peek() {
@@ -238,7 +1105,10 @@ class Parser {
 
     private void expect(TokenType type) {
         if (peek().type != type) {
-            throw new RuntimeException("Parser error: expected " + type + " but found " + peek().type);
+            if (diag == null) throw new RuntimeException("Parser error: expected " + type + " but found " + peek().type);
+            // fehlende schließende Klammer gilt als eingefügt
+            diag.report(peek().offset, type == TokenType.RPAREN ? Diagnostics.MISSING_RPAREN : Diagnostics.UNEXPECTED_TOKEN);
+            return;
         }
         next();
     }
@@ -246,7 +1116,8 @@ class Parser {
     public Node parseProgram() {
         Node program = new Node("Program");
         while (!check(TokenType.EOF)) {
-            program.addChild(parseExpression());
+            Node n = parseExpression();
+            if (n != null) program.addChild(n);
         }
         return program;
     }
@@ -263,7 +1134,8 @@ class Parser {
         Node list = new Node("List");
 
         while (!check(TokenType.RPAREN) && !check(TokenType.EOF)) {
-            list.addChild(parseExpression());
+            Node n = parseExpression();
+            if (n != null) list.addChild(n);
         }
 
         expect(TokenType.RPAREN);
@@ -295,10 +1167,316 @@ class Parser {
             case HEAD:
             case TAIL:
             case NTH:
-                return new Node(t.value);
+                return new Node(t.value, t.type);
             default:
-                throw new RuntimeException("Parser error: unexpected token " + t.type);
+                if (diag == null) throw new RuntimeException("Parser error: unexpected token " + t.type);
+                diag.report(t.offset, Diagnostics.UNEXPECTED_TOKEN);
+                return null;
+        }
+    }
+}
+
+
+// =========================================
+// LL(1)-Parsergenerator – FIRST/FOLLOW, Parsetabelle, Konflikte
+// =========================================
+// BNF-Format: eine Regel pro Zeile "A ::= X Y | Z | ε".
+// Großgeschriebene Namen aus TokenType sind Terminale, "@name" sind Aktionen
+// (für FIRST/FOLLOW wie ε), alles andere sind Nichtterminale.
+// Die erste Regel ist das Startsymbol, EOF dient als Endmarke ($).
+class LL1Grammar {
+    static final String LISP =
+            "Program ::= @program Items EOF\n" +
+            "Items   ::= Expr Items | ε\n" +
+            "Expr    ::= LPAREN @open Items RPAREN @close | Atom\n" +
+            "Atom    ::= INT @leaf | STRING @leaf | BOOLEAN @leaf | IDENT @leaf" +
+            " | PLUS @leaf | MINUS @leaf | MUL @leaf | DIV @leaf | EQ @leaf | LT @leaf | GT @leaf" +
+            " | PRINT @leaf | STR @leaf | IF @leaf | DO @leaf | DEF @leaf | DEFN @leaf | LET @leaf" +
+            " | LIST @leaf | HEAD @leaf | TAIL @leaf | NTH @leaf\n";
+
+    static final int T = TokenType.values().length;
+
+    final List<String> nonterminals = new ArrayList<>();
+    final List<String> actions = new ArrayList<>();
+    final List<Integer> lhs = new ArrayList<>();
+    final List<int[]> rhs = new ArrayList<>();
+
+    // Symbolkodierung: [0, T) Terminale, [T, T+N) Nichtterminale, ab ACTION Aktionen
+    static final int ACTION = 1 << 16;
+
+    LL1Grammar(String bnf) {
+        List<String[]> rules = new ArrayList<>();
+        for (String line : bnf.split("\n")) {
+            if (line.isBlank()) continue;
+            String[] parts = line.split("::=");
+            if (parts.length != 2) throw new RuntimeException("BNF error: " + line);
+            String name = parts[0].trim();
+            if (!nonterminals.contains(name)) nonterminals.add(name);
+            rules.add(new String[]{name, parts[1]});
+        }
+        for (String[] rule : rules) {
+            for (String alt : rule[1].split("\\|")) {
+                List<Integer> syms = new ArrayList<>();
+                for (String sym : alt.trim().split("\\s+")) {
+                    if (sym.isEmpty() || sym.equals("ε")) continue;
+                    syms.add(symbol(sym));
+                }
+                lhs.add(nonterminals.indexOf(rule[0]));
+                rhs.add(syms.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+    }
+
+    private int symbol(String sym) {
+        if (sym.startsWith("@")) {
+            String a = sym.substring(1);
+            if (!actions.contains(a)) actions.add(a);
+            return ACTION + actions.indexOf(a);
+        }
+        int nt = nonterminals.indexOf(sym);
+        if (nt >= 0) return T + nt;
+        try {
+            return TokenType.valueOf(sym).ordinal();
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("BNF error: unknown symbol " + sym);
+        }
+    }
+
+    String name(int sym) {
+        if (sym >= ACTION) return "@" + actions.get(sym - ACTION);
+        if (sym >= T) return nonterminals.get(sym - T);
+        return TokenType.values()[sym].name();
+    }
+
+    String production(int p) {
+        StringBuilder sb = new StringBuilder(nonterminals.get(lhs.get(p)) + " ::=");
+        if (rhs.get(p).length == 0) sb.append(" ε");
+        for (int sym : rhs.get(p)) sb.append(' ').append(name(sym));
+        return sb.toString();
+    }
+}
+
+class LL1Generator {
+    final LL1Grammar g;
+    final boolean[] nullable;
+    final BitSet[] first;
+    final BitSet[] follow;
+    final int[][] table;                  // table[A][t] = Produktionsnummer oder -1
+    final List<String> conflicts = new ArrayList<>();
+
+    LL1Generator(LL1Grammar g) {
+        this.g = g;
+        int n = g.nonterminals.size();
+        nullable = new boolean[n];
+        first = new BitSet[n];
+        follow = new BitSet[n];
+        for (int i = 0; i < n; i++) { first[i] = new BitSet(); follow[i] = new BitSet(); }
+        computeFirst();
+        computeFollow();
+        table = new int[n][LL1Grammar.T];
+        for (int[] row : table) Arrays.fill(row, -1);
+        buildTable();
+    }
+
+    /** FIRST einer Symbolfolge ab Index from; liefert true, wenn die Folge ε ableiten kann */
+    private boolean firstOf(int[] syms, int from, BitSet out) {
+        for (int i = from; i < syms.length; i++) {
+            int s = syms[i];
+            if (s >= LL1Grammar.ACTION) continue;
+            if (s < LL1Grammar.T) { out.set(s); return false; }
+            out.or(first[s - LL1Grammar.T]);
+            if (!nullable[s - LL1Grammar.T]) return false;
+        }
+        return true;
+    }
+
+    private void computeFirst() {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int p = 0; p < g.rhs.size(); p++) {
+                int a = g.lhs.get(p);
+                int before = first[a].cardinality();
+                boolean eps = firstOf(g.rhs.get(p), 0, first[a]);
+                if (eps && !nullable[a]) { nullable[a] = true; changed = true; }
+                if (first[a].cardinality() != before) changed = true;
+            }
+        }
+    }
+
+    private void computeFollow() {
+        follow[0].set(TokenType.EOF.ordinal());
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int p = 0; p < g.rhs.size(); p++) {
+                int[] syms = g.rhs.get(p);
+                for (int i = 0; i < syms.length; i++) {
+                    int s = syms[i];
+                    if (s < LL1Grammar.T || s >= LL1Grammar.ACTION) continue;
+                    BitSet f = follow[s - LL1Grammar.T];
+                    int before = f.cardinality();
+                    if (firstOf(syms, i + 1, f)) f.or(follow[g.lhs.get(p)]);
+                    if (f.cardinality() != before) changed = true;
+                }
+            }
+        }
+    }
+
+    private void buildTable() {
+        for (int p = 0; p < g.rhs.size(); p++) {
+            int a = g.lhs.get(p);
+            BitSet predict = new BitSet();
+            if (firstOf(g.rhs.get(p), 0, predict)) predict.or(follow[a]);
+            for (int t = predict.nextSetBit(0); t >= 0; t = predict.nextSetBit(t + 1)) {
+                if (table[a][t] >= 0) {
+                    conflicts.add("Konflikt " + g.nonterminals.get(a) + " / " + TokenType.values()[t]
+                            + ": [" + g.production(table[a][t]) + "] vs [" + g.production(p) + "]");
+                } else {
+                    table[a][t] = p;
+                }
+            }
+        }
+    }
+
+    private String names(BitSet set) {
+        StringJoiner sj = new StringJoiner(", ", "(", ")");
+        for (int t = set.nextSetBit(0); t >= 0; t = set.nextSetBit(t + 1)) {
+            sj.add(t == TokenType.EOF.ordinal() ? "$" : TokenType.values()[t].name());
         }
+        return sj.toString();
+    }
+
+    void printReport() {
+        System.out.println("== FIRST / FOLLOW ==");
+        for (int a = 0; a < g.nonterminals.size(); a++) {
+            String f = names(first[a]);
+            if (nullable[a]) f = f.substring(0, f.length() - 1) + (first[a].isEmpty() ? "ϵ)" : ", ϵ)");
+            System.out.println(g.nonterminals.get(a) + ": FIRST " + f + "  FOLLOW " + names(follow[a]));
+        }
+        if (conflicts.isEmpty()) System.out.println("Grammatik ist LL(1).");
+        else conflicts.forEach(System.out::println);
     }
 }
 
+// =========================================
+// TableParser – prädiktiver Parser mit explizitem Stack (keine Rekursion)
+// =========================================
+// Baut über die Aktionen @program/@open/@close/@leaf denselben Baum wie Parser.
+class TableParser {
+    private static final LL1Generator LISP = new LL1Generator(new LL1Grammar(LL1Grammar.LISP));
+    private static final List<String> ACTIONS = List.of("program", "open", "close", "leaf");
+
+    private final LL1Generator gen;
+    private final List<Token> tokens;
+    private final int[] actionCode;   // Aktionsindex der Grammatik -> Index in ACTIONS
+
+    public TableParser(List<Token> tokens) {
+        this(LISP, tokens);
+    }
+
+    public TableParser(LL1Generator gen, List<Token> tokens) {
+        if (!gen.conflicts.isEmpty()) throw new IllegalArgumentException("Grammatik ist nicht LL(1): " + gen.conflicts.get(0));
+        this.gen = gen;
+        this.tokens = tokens;
+        this.actionCode = new int[gen.g.actions.size()];
+        for (int i = 0; i < actionCode.length; i++) {
+            actionCode[i] = ACTIONS.indexOf(gen.g.actions.get(i));
+            if (actionCode[i] < 0) throw new IllegalArgumentException("Unknown action: @" + gen.g.actions.get(i));
+        }
+    }
+
+    public Node parseProgram() {
+        LL1Grammar g = gen.g;
+        int[] stack = new int[64];
+        int sp = 0;
+        stack[sp++] = LL1Grammar.T;   // Startsymbol
+        Deque<Node> nodes = new ArrayDeque<>();
+        int pos = 0;
+        Token last = null;
+
+        final int[][] table = gen.table;
+        final int[][] prods = g.rhs.toArray(new int[0][]);
+        final int size = tokens.size();
+        Token eof = new Token(TokenType.EOF, "");
+
+        while (sp > 0) {
+            int top = stack[--sp];
+            Token la = pos < size ? tokens.get(pos) : eof;
+            if (top >= LL1Grammar.ACTION) {
+                switch (actionCode[top - LL1Grammar.ACTION]) {
+                    case 0 -> nodes.push(new Node("Program"));
+                    case 1 -> nodes.push(new Node("List"));
+                    case 2 -> { Node list = nodes.pop(); nodes.peek().addChild(list); }
+                    default -> nodes.peek().addChild(new Node(last.value, last.type));
+                }
+            } else if (top < LL1Grammar.T) {
+                if (la.type.ordinal() != top) {
+                    throw new RuntimeException("Parser error: expected " + g.name(top) + " but found " + la.type);
+                }
+                last = la;
+                pos++;
+            } else {
+                int p = table[top - LL1Grammar.T][la.type.ordinal()];
+                if (p < 0) throw new RuntimeException("Parser error: unexpected token " + la.type);
+                int[] rhs = prods[p];
+                if (sp + rhs.length > stack.length) stack = Arrays.copyOf(stack, Math.max(stack.length * 2, sp + rhs.length));
+                for (int i = rhs.length - 1; i >= 0; i--) stack[sp++] = rhs[i];
+            }
+        }
+        return nodes.pop();
+    }
+
+    static void benchmark(String code, int rounds, int depth) {
+        LISP.printReport();
+
+        List<Token> tokens = new Lexer(code).tokenize();
+        if (!dump(new Parser(tokens).parseProgram()).equals(dump(new TableParser(tokens).parseProgram()))) {
+            throw new IllegalStateException("TableParser liefert anderen Baum als Parser");
+        }
+        System.out.println("\n== Parser-Benchmark (" + tokens.size() + " Tokens) ==");
+        for (int warm = 0; warm < 2; warm++) {
+            long rd = 0, table = 0;
+            for (int r = 0; r < rounds; r++) {
+                long t0 = System.nanoTime();
+                new Parser(tokens).parseProgram();
+                long t1 = System.nanoTime();
+                new TableParser(tokens).parseProgram();
+                long t2 = System.nanoTime();
+                rd += t1 - t0;
+                table += t2 - t1;
+            }
+            if (warm == 0) continue;
+            System.out.printf("Parser (rekursiver Abstieg): %8.1f ms%n", rd / 1e6);
+            System.out.printf("TableParser (LL(1)-Tabelle): %8.1f ms%n", table / 1e6);
+        }
+
+        // tiefe Schachtelung: (((...1...)))
+        String deep = "(".repeat(depth) + "1" + ")".repeat(depth);
+        List<Token> deepTokens = new Lexer(deep).tokenize();
+        System.out.println("\n== Schachtelungstiefe " + depth + " ==");
+        try {
+            new Parser(deepTokens).parseProgram();
+            System.out.println("Parser:      ok");
+        } catch (StackOverflowError e) {
+            System.out.println("Parser:      StackOverflowError");
+        }
+        Node n = new TableParser(deepTokens).parseProgram();
+        int d = 0;
+        while (!n.children.isEmpty()) { n = n.children.get(0); d++; }
+        System.out.println("TableParser: ok (Tiefe " + (d - 1) + ")");
+    }
+
+    // iterative Baumausgabe, damit auch sehr tiefe Bäume verglichen werden können
+    private static String dump(Node root) {
+        StringBuilder sb = new StringBuilder();
+        Deque<Node> work = new ArrayDeque<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            Node n = work.pop();
+            sb.append(n.value).append('/').append(n.children.size()).append(' ');
+            for (int i = n.children.size() - 1; i >= 0; i--) work.push(n.children.get(i));
+        }
+        return sb.toString();
+    }
+}